@@ -63,6 +63,13 @@ public interface APIRequest {
      * Whether to throw on response codes other than 2xx and 3xx. By default response object is returned for all status codes.
      */
     public Boolean failOnStatusCode;
+    /**
+     * Enables caching of responses to {@code GET} requests sent from this context. Responses are cached according to their
+     * {@code Cache-Control}, {@code Expires}, {@code ETag} and {@code Last-Modified} headers: fresh responses are served
+     * without contacting the server, and stale ones are revalidated with a conditional request. Responses that set cookies
+     * are never cached. Defaults to no caching.
+     */
+    public HttpCache httpCache;
     /**
      * Credentials for <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Authentication">HTTP authentication</a>. If
      * no origin is specified, the username and password are sent to any servers upon unauthorized responses.
@@ -155,6 +162,16 @@ public interface APIRequest {
       this.failOnStatusCode = failOnStatusCode;
       return this;
     }
+    /**
+     * Enables caching of responses to {@code GET} requests sent from this context. Responses are cached according to their
+     * {@code Cache-Control}, {@code Expires}, {@code ETag} and {@code Last-Modified} headers: fresh responses are served
+     * without contacting the server, and stale ones are revalidated with a conditional request. Responses that set cookies
+     * are never cached. Defaults to no caching.
+     */
+    public NewContextOptions setHttpCache(HttpCache httpCache) {
+      this.httpCache = httpCache;
+      return this;
+    }
     /**
      * Credentials for <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Authentication">HTTP authentication</a>. If
      * no origin is specified, the username and password are sent to any servers upon unauthorized responses.
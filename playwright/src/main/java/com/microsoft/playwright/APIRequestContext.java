@@ -18,6 +18,7 @@ package com.microsoft.playwright;
 
 import com.microsoft.playwright.options.*;
 import java.nio.file.Path;
+import java.util.List;
 
 /**
  * This API is used for the Web API testing. You can use it to trigger API endpoints, configure micro-services, prepare
@@ -57,6 +58,20 @@ public interface APIRequestContext {
       return this;
     }
   }
+  class FetchAllOptions {
+    /**
+     * Maximum number of requests that are in flight at the same time. Defaults to {@code 16}.
+     */
+    public Integer maxConcurrency;
+
+    /**
+     * Maximum number of requests that are in flight at the same time. Defaults to {@code 16}.
+     */
+    public FetchAllOptions setMaxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+  }
   class StorageStateOptions {
     /**
      * Set to {@code true} to include IndexedDB in the storage state snapshot.
@@ -271,6 +286,52 @@ public interface APIRequestContext {
    * @since v1.16
    */
   APIResponse fetch(Request urlOrRequest, RequestOptions params);
+  /**
+   * Sends all given HTTP(S) requests and returns their responses in the same order. Unlike calling {@link
+   * com.microsoft.playwright.APIRequestContext#fetch APIRequestContext.fetch()} in a loop, the requests do not wait for each
+   * other: up to {@code maxConcurrency} of them are in flight at the same time, and a new one is sent as soon as any of
+   * them completes. Cookies are populated and updated the same way as for individual requests.
+   *
+   * <p> If any of the requests fails, no further requests are sent and the first error is thrown once the requests that
+   * are already in flight have completed.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * List<FetchRequest> requests = new ArrayList<>();
+   * for (int i = 0; i < 500; i++) {
+   *   requests.add(new FetchRequest("https://example.com/api/items")
+   *     .setParams(RequestOptions.create().setMethod("post").setData(Collections.singletonMap("id", i))));
+   * }
+   * List<APIResponse> responses = request.fetchAll(requests, new APIRequestContext.FetchAllOptions().setMaxConcurrency(32));
+   * }</pre>
+   *
+   * @param requests Requests to send.
+   */
+  default List<APIResponse> fetchAll(List<FetchRequest> requests) {
+    return fetchAll(requests, null);
+  }
+  /**
+   * Sends all given HTTP(S) requests and returns their responses in the same order. Unlike calling {@link
+   * com.microsoft.playwright.APIRequestContext#fetch APIRequestContext.fetch()} in a loop, the requests do not wait for each
+   * other: up to {@code maxConcurrency} of them are in flight at the same time, and a new one is sent as soon as any of
+   * them completes. Cookies are populated and updated the same way as for individual requests.
+   *
+   * <p> If any of the requests fails, no further requests are sent and the first error is thrown once the requests that
+   * are already in flight have completed.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * List<FetchRequest> requests = new ArrayList<>();
+   * for (int i = 0; i < 500; i++) {
+   *   requests.add(new FetchRequest("https://example.com/api/items")
+   *     .setParams(RequestOptions.create().setMethod("post").setData(Collections.singletonMap("id", i))));
+   * }
+   * List<APIResponse> responses = request.fetchAll(requests, new APIRequestContext.FetchAllOptions().setMaxConcurrency(32));
+   * }</pre>
+   *
+   * @param requests Requests to send.
+   */
+  List<APIResponse> fetchAll(List<FetchRequest> requests, FetchAllOptions options);
   /**
    * Sends HTTP(S) <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Methods/GET">GET</a> request and returns its
    * response. The method will populate request cookies from the context and update context cookies from the response. The
@@ -331,6 +392,12 @@ public interface APIRequestContext {
    * @since v1.16
    */
   APIResponse head(String url, RequestOptions params);
+  /**
+   * Returns statistics of the response cache enabled with {@code httpCache} option of {@link
+   * com.microsoft.playwright.APIRequest#newContext APIRequest.newContext()}. All counters are zero if the cache is not
+   * enabled.
+   */
+  HttpCacheStats httpCacheStats();
   /**
    * Sends HTTP(S) <a href="https://developer.mozilla.org/en-US/docs/Web/HTTP/Methods/PATCH">PATCH</a> request and returns
    * its response. The method will populate request cookies from the context and update context cookies from the response.
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+import java.nio.file.Path;
+
+/**
+ * Collects locator actions passed to {@link com.microsoft.playwright.Page#batch Page.batch()}.
+ *
+ * <p> Steps are executed in the order they were added. Only actions that touch nothing but their own element ({@code
+ * selectOption}, {@code setInputFiles} and {@code dispatchEvent}) are pipelined: a run of such steps is sent to the driver
+ * without waiting for replies and costs a single round trip. Actions that use the keyboard focus or the mouse ({@code
+ * fill}, {@code check}, {@code uncheck}, {@code setChecked}, {@code click} and {@code press}) are barriers: they wait for
+ * all previous steps and each of them still costs one round trip, because the driver executes concurrent requests in
+ * parallel.
+ *
+ * <p> If a step fails, steps that are already in flight are completed, but no step after the next barrier is run.
+ */
+public interface ActionBatch {
+  /**
+   * Adds a {@link com.microsoft.playwright.Locator#fill Locator.fill()} step.
+   */
+  ActionBatch fill(Locator locator, String value);
+  /**
+   * Adds a {@link com.microsoft.playwright.Locator#check Locator.check()} step.
+   */
+  ActionBatch check(Locator locator);
+  /**
+   * Adds a {@link com.microsoft.playwright.Locator#uncheck Locator.uncheck()} step.
+   */
+  ActionBatch uncheck(Locator locator);
+  /**
+   * Adds a {@link com.microsoft.playwright.Locator#setChecked Locator.setChecked()} step.
+   */
+  ActionBatch setChecked(Locator locator, boolean checked);
+  /**
+   * Adds a {@link com.microsoft.playwright.Locator#click Locator.click()} step.
+   */
+  ActionBatch click(Locator locator);
+  /**
+   * Adds a {@link com.microsoft.playwright.Locator#press Locator.press()} step.
+   */
+  ActionBatch press(Locator locator, String key);
+  /**
+   * Adds a {@link com.microsoft.playwright.Locator#selectOption Locator.selectOption()} step selecting options by value
+   * or label.
+   */
+  ActionBatch selectOption(Locator locator, String... values);
+  /**
+   * Adds a {@link com.microsoft.playwright.Locator#setInputFiles Locator.setInputFiles()} step.
+   */
+  ActionBatch setInputFiles(Locator locator, Path... files);
+  /**
+   * Adds a {@link com.microsoft.playwright.Locator#dispatchEvent Locator.dispatchEvent()} step.
+   */
+  ActionBatch dispatchEvent(Locator locator, String type);
+}
@@ -19,6 +19,7 @@ package com.microsoft.playwright;
 import com.microsoft.playwright.options.*;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
@@ -96,6 +97,11 @@ public interface BrowserContext extends AutoCloseable {
    * Removes handler that was previously added with {@link #onConsoleMessage onConsoleMessage(handler)}.
    */
   void offConsoleMessage(Consumer<ConsoleMessage> handler);
+  /**
+   * Same as {@link #onConsoleMessage onConsoleMessage(handler)}, but {@code handler} only receives messages matching {@code
+   * options}. The filter is checked against the raw event before the {@code ConsoleMessage} object is created.
+   */
+  void onConsoleMessage(Consumer<ConsoleMessage> handler, OnConsoleMessageOptions options);
 
   /**
    * Emitted when a JavaScript dialog appears, such as {@code alert}, {@code prompt}, {@code confirm} or {@code
@@ -170,6 +176,11 @@ public interface BrowserContext extends AutoCloseable {
    * Removes handler that was previously added with {@link #onRequest onRequest(handler)}.
    */
   void offRequest(Consumer<Request> handler);
+  /**
+   * Same as {@link #onRequest onRequest(handler)}, but {@code handler} only receives requests matching {@code options}. The filter
+   * is applied to the raw event before any listener is invoked.
+   */
+  void onRequest(Consumer<Request> handler, OnRequestOptions options);
 
   /**
    * Emitted when a request fails, for example by timing out. To only listen for failed requests from a particular page, use
@@ -206,6 +217,11 @@ public interface BrowserContext extends AutoCloseable {
    * Removes handler that was previously added with {@link #onResponse onResponse(handler)}.
    */
   void offResponse(Consumer<Response> handler);
+  /**
+   * Same as {@link #onResponse onResponse(handler)}, but {@code handler} only receives responses matching {@code options}. The filter
+   * is applied to the raw event before any listener is invoked.
+   */
+  void onResponse(Consumer<Response> handler, OnResponseOptions options);
 
   class ClearCookiesOptions {
     /**
@@ -279,11 +295,38 @@ public interface BrowserContext extends AutoCloseable {
     }
   }
   class ExposeBindingOptions {
+    /**
+     * Executor that runs the callback. By default the callback is invoked synchronously on the thread that dispatches
+     * Playwright events, which blocks all other events of the connection until it returns. When an executor is set (e.g.
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} on JDK 21+), several in-page calls can be serviced concurrently
+     * and the result is sent back to the page once the callback completes. Replies are delivered the next time the
+     * connection processes messages, i.e. while some Playwright call is in progress.
+     *
+     * <p> <strong>NOTE:</strong> Playwright objects are not thread-safe. A callback running on the executor may read the
+     * {@code source} but must not call methods of its page, frame or context that communicate with the browser. Cannot be
+     * combined with {@code handle}, the {@code JSHandle} argument may only be used on the thread that dispatches events.
+     */
+    public Executor executor;
     /**
      * @deprecated This option will be removed in the future.
      */
     public Boolean handle;
 
+    /**
+     * Executor that runs the callback. By default the callback is invoked synchronously on the thread that dispatches
+     * Playwright events, which blocks all other events of the connection until it returns. When an executor is set (e.g.
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} on JDK 21+), several in-page calls can be serviced concurrently
+     * and the result is sent back to the page once the callback completes. Replies are delivered the next time the
+     * connection processes messages, i.e. while some Playwright call is in progress.
+     *
+     * <p> <strong>NOTE:</strong> Playwright objects are not thread-safe. A callback running on the executor may read the
+     * {@code source} but must not call methods of its page, frame or context that communicate with the browser. Cannot be
+     * combined with {@code handle}, the {@code JSHandle} argument may only be used on the thread that dispatches events.
+     */
+    public ExposeBindingOptions setExecutor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
     /**
      * @deprecated This option will be removed in the future.
      */
@@ -292,6 +335,34 @@ public interface BrowserContext extends AutoCloseable {
       return this;
     }
   }
+  class ExposeFunctionOptions {
+    /**
+     * Executor that runs the callback. By default the callback is invoked synchronously on the thread that dispatches
+     * Playwright events, which blocks all other events of the connection until it returns. When an executor is set (e.g.
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} on JDK 21+), several in-page calls can be serviced concurrently
+     * and the result is sent back to the page once the callback completes. Replies are delivered the next time the
+     * connection processes messages, i.e. while some Playwright call is in progress.
+     *
+     * <p> <strong>NOTE:</strong> Playwright objects are not thread-safe. A callback running on the executor must not call
+     * methods that communicate with the browser.
+     */
+    public Executor executor;
+
+    /**
+     * Executor that runs the callback. By default the callback is invoked synchronously on the thread that dispatches
+     * Playwright events, which blocks all other events of the connection until it returns. When an executor is set (e.g.
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} on JDK 21+), several in-page calls can be serviced concurrently
+     * and the result is sent back to the page once the callback completes. Replies are delivered the next time the
+     * connection processes messages, i.e. while some Playwright call is in progress.
+     *
+     * <p> <strong>NOTE:</strong> Playwright objects are not thread-safe. A callback running on the executor must not call
+     * methods that communicate with the browser.
+     */
+    public ExposeFunctionOptions setExecutor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+  }
   class GrantPermissionsOptions {
     /**
      * The [origin] to grant permissions to, e.g. "https://example.com".
@@ -306,6 +377,113 @@ public interface BrowserContext extends AutoCloseable {
       return this;
     }
   }
+  class OnConsoleMessageOptions {
+    /**
+     * Console message types to receive, e.g. {@code "error"} or {@code "warning"}, see {@link
+     * com.microsoft.playwright.ConsoleMessage#type ConsoleMessage.type()}. All messages are received if not specified.
+     */
+    public List<String> types;
+
+    /**
+     * Console message types to receive, e.g. {@code "error"} or {@code "warning"}, see {@link
+     * com.microsoft.playwright.ConsoleMessage#type ConsoleMessage.type()}. All messages are received if not specified.
+     */
+    public OnConsoleMessageOptions setTypes(List<String> types) {
+      this.types = types;
+      return this;
+    }
+  }
+  class OnRequestOptions {
+    /**
+     * Resource types to receive, see {@link com.microsoft.playwright.Request#resourceType Request.resourceType()}. If not
+     * specified, all resource types are received.
+     */
+    public List<String> resourceTypes;
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public Object url;
+
+    /**
+     * Resource types to receive, see {@link com.microsoft.playwright.Request#resourceType Request.resourceType()}. If not
+     * specified, all resource types are received.
+     */
+    public OnRequestOptions setResourceTypes(List<String> resourceTypes) {
+      this.resourceTypes = resourceTypes;
+      return this;
+    }
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public OnRequestOptions setUrl(String url) {
+      this.url = url;
+      return this;
+    }
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public OnRequestOptions setUrl(Pattern url) {
+      this.url = url;
+      return this;
+    }
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public OnRequestOptions setUrl(Predicate<String> url) {
+      this.url = url;
+      return this;
+    }
+  }
+  class OnResponseOptions {
+    /**
+     * Resource types to receive, see {@link com.microsoft.playwright.Request#resourceType Request.resourceType()}. If not
+     * specified, all resource types are received.
+     */
+    public List<String> resourceTypes;
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only responses for requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public Object url;
+
+    /**
+     * Resource types to receive, see {@link com.microsoft.playwright.Request#resourceType Request.resourceType()}. If not
+     * specified, all resource types are received.
+     */
+    public OnResponseOptions setResourceTypes(List<String> resourceTypes) {
+      this.resourceTypes = resourceTypes;
+      return this;
+    }
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only responses for requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public OnResponseOptions setUrl(String url) {
+      this.url = url;
+      return this;
+    }
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only responses for requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public OnResponseOptions setUrl(Pattern url) {
+      this.url = url;
+      return this;
+    }
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only responses for requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public OnResponseOptions setUrl(Predicate<String> url) {
+      this.url = url;
+      return this;
+    }
+  }
+
   class RouteOptions {
     /**
      * How often a route should be used. By default it will be used every time.
@@ -406,6 +584,24 @@ public interface BrowserContext extends AutoCloseable {
       return this;
     }
   }
+  class SaveStorageStateOptions {
+    /**
+     * Set to {@code true} to include <a href="https://developer.mozilla.org/en-US/docs/Web/API/IndexedDB_API">IndexedDB</a> in
+     * the storage state snapshot. If your application uses IndexedDB to store authentication tokens, like Firebase
+     * Authentication, enable this.
+     */
+    public Boolean indexedDB;
+
+    /**
+     * Set to {@code true} to include <a href="https://developer.mozilla.org/en-US/docs/Web/API/IndexedDB_API">IndexedDB</a> in
+     * the storage state snapshot. If your application uses IndexedDB to store authentication tokens, like Firebase
+     * Authentication, enable this.
+     */
+    public SaveStorageStateOptions setIndexedDB(boolean indexedDB) {
+      this.indexedDB = indexedDB;
+      return this;
+    }
+  }
   class StorageStateOptions {
     /**
      * Set to {@code true} to include <a href="https://developer.mozilla.org/en-US/docs/Web/API/IndexedDB_API">IndexedDB</a> in
@@ -438,6 +634,13 @@ public interface BrowserContext extends AutoCloseable {
     }
   }
   class WaitForConditionOptions {
+    /**
+     * Names of protocol events, for example {@code "console"}, {@code "request"} or {@code "response"}, after which the
+     * condition should be re-evaluated. Names are matched case-insensitively. By default the condition is re-evaluated after
+     * any event. In addition the condition is polled every 10 milliseconds, or with an interval increasing up to 100
+     * milliseconds when {@code events} is set, so conditions that do not depend on Playwright events are still detected.
+     */
+    public List<String> events;
     /**
      * Maximum time to wait for in milliseconds. Defaults to {@code 30000} (30 seconds). Pass {@code 0} to disable timeout. The
      * default value can be changed by using the {@link com.microsoft.playwright.BrowserContext#setDefaultTimeout
@@ -446,6 +649,16 @@ public interface BrowserContext extends AutoCloseable {
      */
     public Double timeout;
 
+    /**
+     * Names of protocol events, for example {@code "console"}, {@code "request"} or {@code "response"}, after which the
+     * condition should be re-evaluated. Names are matched case-insensitively. By default the condition is re-evaluated after
+     * any event. In addition the condition is polled every 10 milliseconds, or with an interval increasing up to 100
+     * milliseconds when {@code events} is set, so conditions that do not depend on Playwright events are still detected.
+     */
+    public WaitForConditionOptions setEvents(List<String> events) {
+      this.events = events;
+      return this;
+    }
     /**
      * Maximum time to wait for in milliseconds. Defaults to {@code 30000} (30 seconds). Pass {@code 0} to disable timeout. The
      * default value can be changed by using the {@link com.microsoft.playwright.BrowserContext#setDefaultTimeout
@@ -587,6 +800,11 @@ public interface BrowserContext extends AutoCloseable {
    * @since v1.8
    */
   void addInitScript(Path script);
+  /**
+   * Starts collecting timing, transfer sizes, resource types and cache status of all requests in the context. See {@link
+   * com.microsoft.playwright.NetworkProfiler}.
+   */
+  NetworkProfiler attachNetworkProfiler();
   /**
    * <strong>NOTE:</strong> Background pages are only supported on Chromium-based browsers.
    *
@@ -670,6 +888,21 @@ public interface BrowserContext extends AutoCloseable {
    * @since v1.8
    */
   void close(CloseOptions options);
+  /**
+   * Returns cookies that were added, changed or removed since the previous call of this method. The first call reports all
+   * cookies as changed. Use it to keep another context or an external store in sync without comparing full cookie lists.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * CookieChanges changes = context.cookieChanges();
+   * replica.addCookies(changes.changed);
+   * for (Cookie cookie : changes.removed) {
+   *   replica.clearCookies(new BrowserContext.ClearCookiesOptions()
+   *     .setName(cookie.name).setDomain(cookie.domain).setPath(cookie.path));
+   * }
+   * }</pre>
+   */
+  CookieChanges cookieChanges();
   /**
    * If no URLs are specified, this method returns all cookies. If URLs are specified, only cookies that affect those URLs
    * are returned.
@@ -845,7 +1078,68 @@ public interface BrowserContext extends AutoCloseable {
    * @param callback Callback function that will be called in the Playwright's context.
    * @since v1.8
    */
-  void exposeFunction(String name, FunctionCallback callback);
+  default void exposeFunction(String name, FunctionCallback callback) {
+    exposeFunction(name, callback, null);
+  }
+  /**
+   * The method adds a function called {@code name} on the {@code window} object of every frame in every page in the context.
+   * When called, the function executes {@code callback} and returns a <a
+   * href='https://developer.mozilla.org/en-US/docs/Web/JavaScript/Reference/Global_Objects/Promise'>Promise</a> which
+   * resolves to the return value of {@code callback}.
+   *
+   * <p> If the {@code callback} returns a <a
+   * href='https://developer.mozilla.org/en-US/docs/Web/JavaScript/Reference/Global_Objects/Promise'>Promise</a>, it will be
+   * awaited.
+   *
+   * <p> See {@link com.microsoft.playwright.Page#exposeFunction Page.exposeFunction()} for page-only version.
+   *
+   * <p> <strong>Usage</strong>
+   *
+   * <p> An example of adding a {@code sha256} function to all pages in the context:
+   * <pre>{@code
+   * import com.microsoft.playwright.*;
+   *
+   * import java.nio.charset.StandardCharsets;
+   * import java.security.MessageDigest;
+   * import java.security.NoSuchAlgorithmException;
+   * import java.util.Base64;
+   *
+   * public class Example {
+   *   public static void main(String[] args) {
+   *     try (Playwright playwright = Playwright.create()) {
+   *       BrowserType webkit = playwright.webkit();
+   *       Browser browser = webkit.launch(new BrowserType.LaunchOptions().setHeadless(false));
+   *       BrowserContext context = browser.newContext();
+   *       context.exposeFunction("sha256", args -> {
+   *         String text = (String) args[0];
+   *         MessageDigest crypto;
+   *         try {
+   *           crypto = MessageDigest.getInstance("SHA-256");
+   *         } catch (NoSuchAlgorithmException e) {
+   *           return null;
+   *         }
+   *         byte[] token = crypto.digest(text.getBytes(StandardCharsets.UTF_8));
+   *         return Base64.getEncoder().encodeToString(token);
+   *       });
+   *       Page page = context.newPage();
+   *       page.setContent("<script>\n" +
+   *         "  async function onClick() {\n" +
+   *         "    document.querySelector('div').textContent = await window.sha256('PLAYWRIGHT');\n" +
+   *         "  }\n" +
+   *         "</script>\n" +
+   *         "<button onclick=\"onClick()\">Click me</button>\n" +
+   *         "<div></div>\n");
+   *       page.getByRole(AriaRole.BUTTON).click();
+   *     }
+   *   }
+   * }
+   * }</pre>
+   *
+   * @param name Name of the function on the window object.
+   * @param callback Callback function that will be called in the Playwright's context.
+   * @since v1.8
+   */
+  void exposeFunction(String name, FunctionCallback callback, ExposeFunctionOptions options);
   /**
    * Grants specified permissions to the browser context. Only grants corresponding permissions to the given origin if
    * specified.
@@ -1387,6 +1681,28 @@ public interface BrowserContext extends AutoCloseable {
    * @since v1.48
    */
   void routeWebSocket(Predicate<String> url, Consumer<WebSocketRoute> handler);
+  /**
+   * Writes storage state for this browser context to {@code path}. Same as {@link
+   * com.microsoft.playwright.BrowserContext#storageState BrowserContext.storageState()} with {@code path} option, but the
+   * state is written to the file directly without being returned as a {@code String}, which saves memory for contexts with
+   * many cookies or a large IndexedDB.
+   *
+   * @param path The file path to save the storage state to. If {@code path} is a relative path, then it is resolved relative to
+   * current working directory.
+   */
+  default void saveStorageState(Path path) {
+    saveStorageState(path, null);
+  }
+  /**
+   * Writes storage state for this browser context to {@code path}. Same as {@link
+   * com.microsoft.playwright.BrowserContext#storageState BrowserContext.storageState()} with {@code path} option, but the
+   * state is written to the file directly without being returned as a {@code String}, which saves memory for contexts with
+   * many cookies or a large IndexedDB.
+   *
+   * @param path The file path to save the storage state to. If {@code path} is a relative path, then it is resolved relative to
+   * current working directory.
+   */
+  void saveStorageState(Path path, SaveStorageStateOptions options);
   /**
    * This setting will change the default maximum navigation time for the following methods and related shortcuts:
    * <ul>
@@ -1445,6 +1761,20 @@ public interface BrowserContext extends AutoCloseable {
    * @since v1.8
    */
   void setGeolocation(Geolocation geolocation);
+  /**
+   * Delivers events to listeners of this context on {@code executor} instead of the thread that processes Playwright
+   * messages, so that slow listeners do not delay other calls. Events are delivered one at a time in the order they were
+   * received. Applies to {@code console}, {@code weberror}, {@code request}, {@code requestfailed}, {@code
+   * requestfinished} and {@code response} events, other events are always delivered synchronously. Pass {@code null} to
+   * restore synchronous delivery.
+   *
+   * <p> <strong>NOTE:</strong> Playwright objects are not thread-safe. Listeners running on the executor may read the event
+   * objects (e.g. {@link com.microsoft.playwright.Request#url Request.url()}) but must not call methods that communicate
+   * with the browser.
+   *
+   * @param executor Executor to run listeners on, or {@code null}.
+   */
+  void setListenerExecutor(Executor executor);
   /**
    *
    *
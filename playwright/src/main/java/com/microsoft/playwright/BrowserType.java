@@ -67,6 +67,11 @@ public interface BrowserType {
      * Additional HTTP headers to be sent with web socket connect request. Optional.
      */
     public Map<String, String> headers;
+    /**
+     * Connect to the server from Java directly instead of tunnelling the connection through the local driver process. Saves a
+     * hop for every protocol message. Cannot be combined with {@code exposeNetwork}. Defaults to {@code false}.
+     */
+    public Boolean nativeWebSocket;
     /**
      * Slows down Playwright operations by the specified amount of milliseconds. Useful so that you can see what is going on.
      * Defaults to 0.
@@ -107,6 +112,14 @@ public interface BrowserType {
       this.headers = headers;
       return this;
     }
+    /**
+     * Connect to the server from Java directly instead of tunnelling the connection through the local driver process. Saves a
+     * hop for every protocol message. Cannot be combined with {@code exposeNetwork}. Defaults to {@code false}.
+     */
+    public ConnectOptions setNativeWebSocket(boolean nativeWebSocket) {
+      this.nativeWebSocket = nativeWebSocket;
+      return this;
+    }
     /**
      * Slows down Playwright operations by the specified amount of milliseconds. Useful so that you can see what is going on.
      * Defaults to 0.
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+import java.util.List;
+
+/**
+ * Bounded buffer of the most recent console messages of a page, created with {@link
+ * com.microsoft.playwright.Page#captureConsole Page.captureConsole()}.
+ *
+ * <p> Only the type, text and location of each message are stored by default, no {@code ConsoleMessage} objects are
+ * created while capturing. This makes it cheap to keep the buffer around and only look at it when a test fails.
+ *
+ * <p> <strong>Usage</strong>
+ * <pre>{@code
+ * ConsoleBuffer console = page.captureConsole();
+ * try {
+ *   // test steps
+ * } catch (AssertionError e) {
+ *   System.err.println(console.dump());
+ *   throw e;
+ * }
+ * }</pre>
+ */
+public interface ConsoleBuffer {
+  /**
+   * Returns the buffered messages, oldest first. {@link com.microsoft.playwright.ConsoleMessage#args ConsoleMessage.args()}
+   * throws unless the buffer was created with {@code keepArgs}; the argument handles are looked up on demand and are only
+   * available until the page navigates.
+   */
+  List<ConsoleMessage> messages();
+  /**
+   * Number of messages that were evicted because the buffer was full.
+   */
+  int droppedCount();
+  /**
+   * Formats the buffered messages as text, one message per line.
+   */
+  String dump();
+  /**
+   * Removes all buffered messages.
+   */
+  void clear();
+  /**
+   * Stops capturing. Already buffered messages remain available.
+   */
+  void close();
+}
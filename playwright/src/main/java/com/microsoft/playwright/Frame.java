@@ -17,6 +17,7 @@
 package com.microsoft.playwright;
 
 import com.microsoft.playwright.options.*;
+import java.lang.reflect.Type;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Predicate;
@@ -2976,6 +2977,41 @@ public interface Frame {
    * @since v1.8
    */
   Object evaluate(String expression, Object arg);
+  /**
+   * Returns the value of the {@code expression} invocation decoded into {@code type}.
+   *
+   * <p> Unlike {@link com.microsoft.playwright.Frame#evaluate Frame.evaluate()}, the result is decoded directly from the
+   * serialized value into the requested type without first building generic {@code Map} and {@code List} objects. Objects
+   * can be decoded into classes with a no-arg constructor (fields are matched by name, unknown properties are ignored) or
+   * into records. Numeric arrays requested as {@code double[]}, {@code int[]} or {@code long[]} are decoded without boxing.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * double[] widths = frame.evaluate("() => [...document.querySelectorAll('td')].map(td => td.offsetWidth)", null, double[].class);
+   * }</pre>
+   *
+   * @param expression JavaScript expression to be evaluated in the browser context. If the expression evaluates to a function, the function is
+   * automatically invoked.
+   * @param arg Optional argument to pass to {@code expression}.
+   * @param type Java type to decode the result into.
+   */
+  <T> T evaluate(String expression, Object arg, Class<T> type);
+  /**
+   * Same as {@link com.microsoft.playwright.Frame#evaluate Frame.evaluate()} with a result {@code type}, but accepts a
+   * generic type such as {@code new TypeToken<List<Row>>(){}.getType()}.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * Type rowsType = new TypeToken<List<Row>>(){}.getType();
+   * List<Row> rows = frame.evaluate("() => window.rows", null, rowsType);
+   * }</pre>
+   *
+   * @param expression JavaScript expression to be evaluated in the browser context. If the expression evaluates to a function, the function is
+   * automatically invoked.
+   * @param arg Optional argument to pass to {@code expression}.
+   * @param type Java type to decode the result into.
+   */
+  <T> T evaluate(String expression, Object arg, Type type);
   /**
    * Returns the return value of {@code expression} as a {@code JSHandle}.
    *
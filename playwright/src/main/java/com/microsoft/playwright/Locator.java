@@ -1884,6 +1884,31 @@ public interface Locator {
       return this;
     }
   }
+  class SnapshotAllOptions {
+    /**
+     * Names of attributes to capture for each element.
+     */
+    public List<String> attributes;
+    /**
+     * Element properties to capture for each element.
+     */
+    public List<SnapshotField> fields;
+
+    /**
+     * Names of attributes to capture for each element.
+     */
+    public SnapshotAllOptions setAttributes(List<String> attributes) {
+      this.attributes = attributes;
+      return this;
+    }
+    /**
+     * Element properties to capture for each element.
+     */
+    public SnapshotAllOptions setFields(List<SnapshotField> fields) {
+      this.fields = fields;
+      return this;
+    }
+  }
   class TapOptions {
     /**
      * Whether to bypass the <a href="https://playwright.dev/java/docs/actionability">actionability</a> checks. Defaults to
@@ -5244,6 +5269,44 @@ public interface Locator {
    * @since v1.14
    */
   void setInputFiles(FilePayload[] files, SetInputFilesOptions options);
+  /**
+   * Captures the requested properties of all elements matching the locator in a single call to the page. This is much
+   * cheaper than iterating over {@link com.microsoft.playwright.Locator#all Locator.all()} and reading every property
+   * separately, which costs one round trip per element per property.
+   *
+   * <p> This method does not wait for elements to match the locator, it returns an empty snapshot if there are none.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * LocatorSnapshot rows = page.locator("tr").snapshotAll(SnapshotField.TEXT_CONTENT, SnapshotField.VISIBLE);
+   * for (int i = 0; i < rows.count; i++) {
+   *   if (rows.visible.get(i)) {
+   *     System.out.println(rows.textContent.get(i));
+   *   }
+   * }
+   * }</pre>
+   *
+   * @param fields Element properties to capture.
+   */
+  default LocatorSnapshot snapshotAll(SnapshotField... fields) {
+    return snapshotAll(new SnapshotAllOptions().setFields(Arrays.asList(fields)));
+  }
+  /**
+   * Captures the requested properties and attributes of all elements matching the locator in a single call to the page.
+   * This is much cheaper than iterating over {@link com.microsoft.playwright.Locator#all Locator.all()} and reading every
+   * property separately, which costs one round trip per element per property.
+   *
+   * <p> This method does not wait for elements to match the locator, it returns an empty snapshot if there are none.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * LocatorSnapshot links = page.getByRole(AriaRole.LINK).snapshotAll(new Locator.SnapshotAllOptions()
+   *   .setFields(Arrays.asList(SnapshotField.INNER_TEXT))
+   *   .setAttributes(Arrays.asList("href")));
+   * List<String> hrefs = links.attributes.get("href");
+   * }</pre>
+   */
+  LocatorSnapshot snapshotAll(SnapshotAllOptions options);
   /**
    * Perform a tap gesture on the element matching the locator. For examples of emulating other gestures by manually
    * dispatching touch events, see the <a href="https://playwright.dev/java/docs/touch-events">emulating legacy touch
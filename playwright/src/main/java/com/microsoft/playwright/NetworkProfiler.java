@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+import com.microsoft.playwright.options.NetworkSummary;
+
+import java.util.function.Consumer;
+
+/**
+ * Collects timing, transfer size, resource type and cache status of every finished or failed request in a {@code
+ * BrowserContext}. Created with {@link com.microsoft.playwright.BrowserContext#attachNetworkProfiler
+ * BrowserContext.attachNetworkProfiler()}.
+ *
+ * <p> <strong>Usage</strong>
+ * <pre>{@code
+ * NetworkProfiler profiler = context.attachNetworkProfiler();
+ * profiler.onPageSummary(summary -> System.out.println(summary.pageUrl + ": " + summary.requestCount + " requests"));
+ * }</pre>
+ */
+public interface NetworkProfiler {
+  /**
+   * Adds a handler that receives the summary of a page when the page closes.
+   */
+  void onPageSummary(Consumer<NetworkSummary> handler);
+  /**
+   * Removes handler that was previously added with {@link #onPageSummary onPageSummary(handler)}.
+   */
+  void offPageSummary(Consumer<NetworkSummary> handler);
+  /**
+   * Number of requests recorded so far.
+   */
+  int requestCount();
+  /**
+   * Returns the summary of all requests recorded in the context so far.
+   */
+  NetworkSummary summary();
+  /**
+   * Returns the summary of the requests issued by {@code page}.
+   * Once the page is closed its summary is delivered to {@link #onPageSummary onPageSummary(handler)} and its requests
+   * are only included in {@link #summary summary()}.
+   */
+  NetworkSummary summary(Page page);
+  /**
+   * Stops collecting. Requests that have already been recorded are still included in summaries.
+   */
+  void detach();
+}
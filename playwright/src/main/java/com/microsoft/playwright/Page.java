@@ -17,8 +17,10 @@
 package com.microsoft.playwright;
 
 import com.microsoft.playwright.options.*;
+import java.lang.reflect.Type;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
@@ -98,6 +100,11 @@ public interface Page extends AutoCloseable {
    * Removes handler that was previously added with {@link #onConsoleMessage onConsoleMessage(handler)}.
    */
   void offConsoleMessage(Consumer<ConsoleMessage> handler);
+  /**
+   * Same as {@link #onConsoleMessage onConsoleMessage(handler)}, but {@code handler} only receives messages matching {@code
+   * options}. The filter is checked against the raw event before the {@code ConsoleMessage} object is created.
+   */
+  void onConsoleMessage(Consumer<ConsoleMessage> handler, OnConsoleMessageOptions options);
 
   /**
    * Emitted when the page crashes. Browser pages might crash if they try to allocate too much memory. When the page crashes,
@@ -272,6 +279,11 @@ public interface Page extends AutoCloseable {
    * Removes handler that was previously added with {@link #onRequest onRequest(handler)}.
    */
   void offRequest(Consumer<Request> handler);
+  /**
+   * Same as {@link #onRequest onRequest(handler)}, but {@code handler} only receives requests matching {@code options}. The filter
+   * is applied to the raw event before any listener is invoked.
+   */
+  void onRequest(Consumer<Request> handler, OnRequestOptions options);
 
   /**
    * Emitted when a request fails, for example by timing out.
@@ -311,6 +323,11 @@ public interface Page extends AutoCloseable {
    * Removes handler that was previously added with {@link #onResponse onResponse(handler)}.
    */
   void offResponse(Consumer<Response> handler);
+  /**
+   * Same as {@link #onResponse onResponse(handler)}, but {@code handler} only receives responses matching {@code options}. The filter
+   * is applied to the raw event before any listener is invoked.
+   */
+  void onResponse(Consumer<Response> handler, OnResponseOptions options);
 
   /**
    * Emitted when {@code WebSocket} request is sent.
@@ -420,6 +437,33 @@ public interface Page extends AutoCloseable {
       return this;
     }
   }
+  class CaptureConsoleOptions {
+    /**
+     * Maximum number of messages to keep, older messages are evicted. Defaults to {@code 1000}.
+     */
+    public Integer capacity;
+    /**
+     * Whether to keep references to the message arguments so that {@link com.microsoft.playwright.ConsoleMessage#args
+     * ConsoleMessage.args()} can be called on buffered messages. Defaults to {@code false}.
+     */
+    public Boolean keepArgs;
+
+    /**
+     * Maximum number of messages to keep, older messages are evicted. Defaults to {@code 1000}.
+     */
+    public CaptureConsoleOptions setCapacity(int capacity) {
+      this.capacity = capacity;
+      return this;
+    }
+    /**
+     * Whether to keep references to the message arguments so that {@link com.microsoft.playwright.ConsoleMessage#args
+     * ConsoleMessage.args()} can be called on buffered messages. Defaults to {@code false}.
+     */
+    public CaptureConsoleOptions setKeepArgs(boolean keepArgs) {
+      this.keepArgs = keepArgs;
+      return this;
+    }
+  }
   class CheckOptions {
     /**
      * Whether to bypass the <a href="https://playwright.dev/java/docs/actionability">actionability</a> checks. Defaults to
@@ -1046,11 +1090,38 @@ public interface Page extends AutoCloseable {
     }
   }
   class ExposeBindingOptions {
+    /**
+     * Executor that runs the callback. By default the callback is invoked synchronously on the thread that dispatches
+     * Playwright events, which blocks all other events of the connection until it returns. When an executor is set (e.g.
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} on JDK 21+), several in-page calls can be serviced concurrently
+     * and the result is sent back to the page once the callback completes. Replies are delivered the next time the
+     * connection processes messages, i.e. while some Playwright call is in progress.
+     *
+     * <p> <strong>NOTE:</strong> Playwright objects are not thread-safe. A callback running on the executor may read the
+     * {@code source} but must not call methods of its page, frame or context that communicate with the browser. Cannot be
+     * combined with {@code handle}, the {@code JSHandle} argument may only be used on the thread that dispatches events.
+     */
+    public Executor executor;
     /**
      * @deprecated This option will be removed in the future.
      */
     public Boolean handle;
 
+    /**
+     * Executor that runs the callback. By default the callback is invoked synchronously on the thread that dispatches
+     * Playwright events, which blocks all other events of the connection until it returns. When an executor is set (e.g.
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} on JDK 21+), several in-page calls can be serviced concurrently
+     * and the result is sent back to the page once the callback completes. Replies are delivered the next time the
+     * connection processes messages, i.e. while some Playwright call is in progress.
+     *
+     * <p> <strong>NOTE:</strong> Playwright objects are not thread-safe. A callback running on the executor may read the
+     * {@code source} but must not call methods of its page, frame or context that communicate with the browser. Cannot be
+     * combined with {@code handle}, the {@code JSHandle} argument may only be used on the thread that dispatches events.
+     */
+    public ExposeBindingOptions setExecutor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
     /**
      * @deprecated This option will be removed in the future.
      */
@@ -1059,6 +1130,34 @@ public interface Page extends AutoCloseable {
       return this;
     }
   }
+  class ExposeFunctionOptions {
+    /**
+     * Executor that runs the callback. By default the callback is invoked synchronously on the thread that dispatches
+     * Playwright events, which blocks all other events of the connection until it returns. When an executor is set (e.g.
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} on JDK 21+), several in-page calls can be serviced concurrently
+     * and the result is sent back to the page once the callback completes. Replies are delivered the next time the
+     * connection processes messages, i.e. while some Playwright call is in progress.
+     *
+     * <p> <strong>NOTE:</strong> Playwright objects are not thread-safe. A callback running on the executor must not call
+     * methods that communicate with the browser.
+     */
+    public Executor executor;
+
+    /**
+     * Executor that runs the callback. By default the callback is invoked synchronously on the thread that dispatches
+     * Playwright events, which blocks all other events of the connection until it returns. When an executor is set (e.g.
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} on JDK 21+), several in-page calls can be serviced concurrently
+     * and the result is sent back to the page once the callback completes. Replies are delivered the next time the
+     * connection processes messages, i.e. while some Playwright call is in progress.
+     *
+     * <p> <strong>NOTE:</strong> Playwright objects are not thread-safe. A callback running on the executor must not call
+     * methods that communicate with the browser.
+     */
+    public ExposeFunctionOptions setExecutor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+  }
   class FillOptions {
     /**
      * Whether to bypass the <a href="https://playwright.dev/java/docs/actionability">actionability</a> checks. Defaults to
@@ -2070,6 +2169,113 @@ public interface Page extends AutoCloseable {
       return this;
     }
   }
+  class OnConsoleMessageOptions {
+    /**
+     * Console message types to receive, e.g. {@code "error"} or {@code "warning"}, see {@link
+     * com.microsoft.playwright.ConsoleMessage#type ConsoleMessage.type()}. All messages are received if not specified.
+     */
+    public List<String> types;
+
+    /**
+     * Console message types to receive, e.g. {@code "error"} or {@code "warning"}, see {@link
+     * com.microsoft.playwright.ConsoleMessage#type ConsoleMessage.type()}. All messages are received if not specified.
+     */
+    public OnConsoleMessageOptions setTypes(List<String> types) {
+      this.types = types;
+      return this;
+    }
+  }
+  class OnRequestOptions {
+    /**
+     * Resource types to receive, see {@link com.microsoft.playwright.Request#resourceType Request.resourceType()}. If not
+     * specified, all resource types are received.
+     */
+    public List<String> resourceTypes;
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public Object url;
+
+    /**
+     * Resource types to receive, see {@link com.microsoft.playwright.Request#resourceType Request.resourceType()}. If not
+     * specified, all resource types are received.
+     */
+    public OnRequestOptions setResourceTypes(List<String> resourceTypes) {
+      this.resourceTypes = resourceTypes;
+      return this;
+    }
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public OnRequestOptions setUrl(String url) {
+      this.url = url;
+      return this;
+    }
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public OnRequestOptions setUrl(Pattern url) {
+      this.url = url;
+      return this;
+    }
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public OnRequestOptions setUrl(Predicate<String> url) {
+      this.url = url;
+      return this;
+    }
+  }
+  class OnResponseOptions {
+    /**
+     * Resource types to receive, see {@link com.microsoft.playwright.Request#resourceType Request.resourceType()}. If not
+     * specified, all resource types are received.
+     */
+    public List<String> resourceTypes;
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only responses for requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public Object url;
+
+    /**
+     * Resource types to receive, see {@link com.microsoft.playwright.Request#resourceType Request.resourceType()}. If not
+     * specified, all resource types are received.
+     */
+    public OnResponseOptions setResourceTypes(List<String> resourceTypes) {
+      this.resourceTypes = resourceTypes;
+      return this;
+    }
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only responses for requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public OnResponseOptions setUrl(String url) {
+      this.url = url;
+      return this;
+    }
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only responses for requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public OnResponseOptions setUrl(Pattern url) {
+      this.url = url;
+      return this;
+    }
+    /**
+     * A glob pattern, regular expression or predicate to match the request URL. Only responses for requests for matching URLs are
+     * received. If not specified, all URLs match.
+     */
+    public OnResponseOptions setUrl(Predicate<String> url) {
+      this.url = url;
+      return this;
+    }
+  }
+
   class PdfOptions {
     /**
      * Display header and footer. Defaults to {@code false}.
@@ -3641,6 +3847,13 @@ public interface Page extends AutoCloseable {
     }
   }
   class WaitForConditionOptions {
+    /**
+     * Names of protocol events, for example {@code "console"}, {@code "request"} or {@code "response"}, after which the
+     * condition should be re-evaluated. Names are matched case-insensitively. By default the condition is re-evaluated after
+     * any event. In addition the condition is polled every 10 milliseconds, or with an interval increasing up to 100
+     * milliseconds when {@code events} is set, so conditions that do not depend on Playwright events are still detected.
+     */
+    public List<String> events;
     /**
      * Maximum time to wait for in milliseconds. Defaults to {@code 30000} (30 seconds). Pass {@code 0} to disable timeout. The
      * default value can be changed by using the {@link com.microsoft.playwright.BrowserContext#setDefaultTimeout
@@ -3649,6 +3862,16 @@ public interface Page extends AutoCloseable {
      */
     public Double timeout;
 
+    /**
+     * Names of protocol events, for example {@code "console"}, {@code "request"} or {@code "response"}, after which the
+     * condition should be re-evaluated. Names are matched case-insensitively. By default the condition is re-evaluated after
+     * any event. In addition the condition is polled every 10 milliseconds, or with an interval increasing up to 100
+     * milliseconds when {@code events} is set, so conditions that do not depend on Playwright events are still detected.
+     */
+    public WaitForConditionOptions setEvents(List<String> events) {
+      this.events = events;
+      return this;
+    }
     /**
      * Maximum time to wait for in milliseconds. Defaults to {@code 30000} (30 seconds). Pass {@code 0} to disable timeout. The
      * default value can be changed by using the {@link com.microsoft.playwright.BrowserContext#setDefaultTimeout
@@ -3861,12 +4084,47 @@ public interface Page extends AutoCloseable {
    * @since v1.8
    */
   ElementHandle addStyleTag(AddStyleTagOptions options);
+  /**
+   * Performs a sequence of locator actions, sending independent steps to the driver without waiting for each reply. See
+   * {@code ActionBatch} for the ordering rules. Every step runs with the default timeout of the page.
+   *
+   * <p> Only {@code selectOption}, {@code setInputFiles} and {@code dispatchEvent} steps are pipelined. {@code fill},
+   * {@code check}, {@code uncheck}, {@code setChecked}, {@code click} and {@code press} each still cost one round trip.
+   * In the example below the two {@code selectOption} steps share a round trip, so the batch takes three round trips
+   * instead of four.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * page.batch(b -> b
+   *   .fill(page.getByLabel("Name"), "John")
+   *   .selectOption(page.getByLabel("Country"), "Norway")
+   *   .selectOption(page.getByLabel("Currency"), "NOK")
+   *   .check(page.getByLabel("I agree")));
+   * }</pre>
+   *
+   * <p> If a step fails, the steps already in flight are completed and the batch stops at the next {@code fill}, {@code
+   * check}, {@code uncheck}, {@code setChecked}, {@code click} or {@code press} step. A {@code PlaywrightException}
+   * describing every failed step is then thrown, individual errors are attached as suppressed exceptions.
+   *
+   * @param steps Callback that adds the steps to the batch.
+   */
+  void batch(Consumer<ActionBatch> steps);
   /**
    * Brings page to front (activates tab).
    *
    * @since v1.8
    */
   void bringToFront();
+  /**
+   * Starts capturing console messages of the page into a bounded buffer, see {@link com.microsoft.playwright.ConsoleBuffer}.
+   */
+  default ConsoleBuffer captureConsole() {
+    return captureConsole(null);
+  }
+  /**
+   * Starts capturing console messages of the page into a bounded buffer, see {@link com.microsoft.playwright.ConsoleBuffer}.
+   */
+  ConsoleBuffer captureConsole(CaptureConsoleOptions options);
   /**
    * This method checks an element matching {@code selector} by performing the following steps:
    * <ol>
@@ -4474,6 +4732,41 @@ public interface Page extends AutoCloseable {
    * @since v1.8
    */
   Object evaluate(String expression, Object arg);
+  /**
+   * Returns the value of the {@code expression} invocation decoded into {@code type}.
+   *
+   * <p> Unlike {@link com.microsoft.playwright.Page#evaluate Page.evaluate()}, the result is decoded directly from the
+   * serialized value into the requested type without first building generic {@code Map} and {@code List} objects. Objects
+   * can be decoded into classes with a no-arg constructor (fields are matched by name, unknown properties are ignored) or
+   * into records. Numeric arrays requested as {@code double[]}, {@code int[]} or {@code long[]} are decoded without boxing.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * double[] widths = page.evaluate("() => [...document.querySelectorAll('td')].map(td => td.offsetWidth)", null, double[].class);
+   * }</pre>
+   *
+   * @param expression JavaScript expression to be evaluated in the browser context. If the expression evaluates to a function, the function is
+   * automatically invoked.
+   * @param arg Optional argument to pass to {@code expression}.
+   * @param type Java type to decode the result into.
+   */
+  <T> T evaluate(String expression, Object arg, Class<T> type);
+  /**
+   * Same as {@link com.microsoft.playwright.Page#evaluate Page.evaluate()} with a result {@code type}, but accepts a
+   * generic type such as {@code new TypeToken<List<Row>>(){}.getType()}.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * Type rowsType = new TypeToken<List<Row>>(){}.getType();
+   * List<Row> rows = page.evaluate("() => window.rows", null, rowsType);
+   * }</pre>
+   *
+   * @param expression JavaScript expression to be evaluated in the browser context. If the expression evaluates to a function, the function is
+   * automatically invoked.
+   * @param arg Optional argument to pass to {@code expression}.
+   * @param type Java type to decode the result into.
+   */
+  <T> T evaluate(String expression, Object arg, Type type);
   /**
    * Returns the value of the {@code expression} invocation as a {@code JSHandle}.
    *
@@ -4710,7 +5003,71 @@ public interface Page extends AutoCloseable {
    * @param callback Callback function which will be called in Playwright's context.
    * @since v1.8
    */
-  void exposeFunction(String name, FunctionCallback callback);
+  default void exposeFunction(String name, FunctionCallback callback) {
+    exposeFunction(name, callback, null);
+  }
+  /**
+   * The method adds a function called {@code name} on the {@code window} object of every frame in the page. When called, the
+   * function executes {@code callback} and returns a <a
+   * href='https://developer.mozilla.org/en-US/docs/Web/JavaScript/Reference/Global_Objects/Promise'>Promise</a> which
+   * resolves to the return value of {@code callback}.
+   *
+   * <p> If the {@code callback} returns a <a
+   * href='https://developer.mozilla.org/en-US/docs/Web/JavaScript/Reference/Global_Objects/Promise'>Promise</a>, it will be
+   * awaited.
+   *
+   * <p> See {@link com.microsoft.playwright.BrowserContext#exposeFunction BrowserContext.exposeFunction()} for context-wide
+   * exposed function.
+   *
+   * <p> <strong>NOTE:</strong> Functions installed via {@link com.microsoft.playwright.Page#exposeFunction Page.exposeFunction()} survive navigations.
+   *
+   * <p> <strong>Usage</strong>
+   *
+   * <p> An example of adding a {@code sha256} function to the page:
+   * <pre>{@code
+   * import com.microsoft.playwright.*;
+   *
+   * import java.nio.charset.StandardCharsets;
+   * import java.security.MessageDigest;
+   * import java.security.NoSuchAlgorithmException;
+   * import java.util.Base64;
+   *
+   * public class Example {
+   *   public static void main(String[] args) {
+   *     try (Playwright playwright = Playwright.create()) {
+   *       BrowserType webkit = playwright.webkit();
+   *       Browser browser = webkit.launch(new BrowserType.LaunchOptions().setHeadless(false));
+   *       Page page = browser.newPage();
+   *       page.exposeFunction("sha256", args -> {
+   *         try {
+   *           String text = (String) args[0];
+   *           MessageDigest crypto = MessageDigest.getInstance("SHA-256");
+   *           byte[] token = crypto.digest(text.getBytes(StandardCharsets.UTF_8));
+   *           return Base64.getEncoder().encodeToString(token);
+   *         } catch (NoSuchAlgorithmException e) {
+   *           return null;
+   *         }
+   *       });
+   *       page.setContent(
+   *         "<script>\n" +
+   *         "  async function onClick() {\n" +
+   *         "    document.querySelector('div').textContent = await window.sha256('PLAYWRIGHT');\n" +
+   *         "  }\n" +
+   *         "</script>\n" +
+   *         "<button onclick=\"onClick()\">Click me</button>\n" +
+   *         "<div></div>"
+   *       );
+   *       page.click("button");
+   *     }
+   *   }
+   * }
+   * }</pre>
+   *
+   * @param name Name of the function on the window object
+   * @param callback Callback function which will be called in Playwright's context.
+   * @since v1.8
+   */
+  void exposeFunction(String name, FunctionCallback callback, ExposeFunctionOptions options);
   /**
    * This method waits for an element matching {@code selector}, waits for <a
    * href="https://playwright.dev/java/docs/actionability">actionability</a> checks, focuses the element, fills it and
@@ -7349,6 +7706,20 @@ public interface Page extends AutoCloseable {
    * @since v1.8
    */
   void setInputFiles(String selector, FilePayload[] files, SetInputFilesOptions options);
+  /**
+   * Delivers events to listeners of this page on {@code executor} instead of the thread that processes Playwright
+   * messages, so that slow listeners do not delay other calls. Events are delivered one at a time in the order they were
+   * received. Applies to {@code console}, {@code pageerror}, {@code request}, {@code requestfailed}, {@code
+   * requestfinished}, {@code response}, {@code frameattached}, {@code framedetached} and {@code framenavigated} events,
+   * other events are always delivered synchronously. Pass {@code null} to restore synchronous delivery.
+   *
+   * <p> <strong>NOTE:</strong> Playwright objects are not thread-safe. Listeners running on the executor may read the event
+   * objects (e.g. {@link com.microsoft.playwright.Request#url Request.url()}) but must not call methods that communicate
+   * with the browser.
+   *
+   * @param executor Executor to run listeners on, or {@code null}.
+   */
+  void setListenerExecutor(Executor executor);
   /**
    * In the case of multiple pages in a single browser, each page can have its own viewport size. However, {@link
    * com.microsoft.playwright.Browser#newContext Browser.newContext()} allows to set viewport size (and more) for all pages
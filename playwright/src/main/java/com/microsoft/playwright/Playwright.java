@@ -17,6 +17,8 @@
 package com.microsoft.playwright;
 
 import com.microsoft.playwright.impl.PlaywrightImpl;
+import com.microsoft.playwright.impl.PlaywrightPool;
+import com.microsoft.playwright.transport.Transport;
 import java.util.*;
 
 /**
@@ -46,6 +48,13 @@ public interface Playwright extends AutoCloseable {
      * environment variables of the Playwright process.
      */
     public Map<String, String> env;
+    /**
+     * Connects to an already running driver over this transport instead of launching a new driver process, see {@link
+     * com.microsoft.playwright.transport.UnixSocketTransport} and {@link
+     * com.microsoft.playwright.transport.LoopbackTransport}. The driver is not stopped when the {@code Playwright}
+     * instance is closed.
+     */
+    public Transport transport;
 
     /**
      * Additional environment variables that will be passed to the driver process. By default driver process inherits
@@ -55,6 +64,69 @@ public interface Playwright extends AutoCloseable {
       this.env = env;
       return this;
     }
+    /**
+     * Connects to an already running driver over this transport instead of launching a new driver process, see {@link
+     * com.microsoft.playwright.transport.UnixSocketTransport} and {@link
+     * com.microsoft.playwright.transport.LoopbackTransport}. The driver is not stopped when the {@code Playwright}
+     * instance is closed.
+     */
+    public CreateOptions setTransport(Transport transport) {
+      this.transport = transport;
+      return this;
+    }
+  }
+  class CreatePoolOptions {
+    /**
+     * Additional environment variables that will be passed to each driver process. By default driver processes inherit
+     * environment variables of the Playwright process.
+     */
+    public Map<String, String> env;
+    /**
+     * Number of driver processes in the pool. Defaults to {@code 2}.
+     */
+    public Integer size;
+    /**
+     * A driver that has not been checked for this many milliseconds is pinged before the next browser is placed on it.
+     * Defaults to {@code 30000}.
+     */
+    public Double healthCheckInterval;
+    /**
+     * Maximum round trip time in milliseconds for a health ping. A driver that does not reply in time is considered hung,
+     * it is killed and replaced with a fresh process. Defaults to {@code 5000}.
+     */
+    public Double maxPingLatency;
+
+    /**
+     * Additional environment variables that will be passed to each driver process. By default driver processes inherit
+     * environment variables of the Playwright process.
+     */
+    public CreatePoolOptions setEnv(Map<String, String> env) {
+      this.env = env;
+      return this;
+    }
+    /**
+     * Number of driver processes in the pool. Defaults to {@code 2}.
+     */
+    public CreatePoolOptions setSize(int size) {
+      this.size = size;
+      return this;
+    }
+    /**
+     * A driver that has not been checked for this many milliseconds is pinged before the next browser is placed on it.
+     * Defaults to {@code 30000}.
+     */
+    public CreatePoolOptions setHealthCheckInterval(double healthCheckInterval) {
+      this.healthCheckInterval = healthCheckInterval;
+      return this;
+    }
+    /**
+     * Maximum round trip time in milliseconds for a health ping. A driver that does not reply in time is considered hung,
+     * it is killed and replaced with a fresh process. Defaults to {@code 5000}.
+     */
+    public CreatePoolOptions setMaxPingLatency(double maxPingLatency) {
+      this.maxPingLatency = maxPingLatency;
+      return this;
+    }
   }
   /**
    * This object can be used to launch or connect to Chromium, returning instances of {@code Browser}.
@@ -113,5 +185,23 @@ public interface Playwright extends AutoCloseable {
   static Playwright create() {
     return create(null);
   }
+
+  /**
+   * Launches a pool of Playwright driver processes behind a single {@code Playwright} instance. Each new browser is placed
+   * on the driver with the fewest open browsers, drivers are health checked before use and transparently respawned if
+   * their process died or stopped responding. Browsers that were running on a dead driver are not recovered.
+   * <pre>{@code
+   * try (Playwright pool = Playwright.createPool(new Playwright.CreatePoolOptions().setSize(4))) {
+   *   Browser browser = pool.chromium().launch();
+   *   // each subsequent launch() goes to the least loaded driver
+   * }
+   * }</pre>
+   *
+   * <p> As with any other Playwright instance, the pool and all objects created through it should be used from a single
+   * thread.
+   */
+  static Playwright createPool(CreatePoolOptions options) {
+    return PlaywrightPool.create(options);
+  }
 }
 
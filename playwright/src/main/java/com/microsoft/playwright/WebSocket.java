@@ -16,6 +16,7 @@
 
 package com.microsoft.playwright;
 
+import java.nio.file.Path;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -63,6 +64,33 @@ public interface WebSocket {
    */
   void offSocketError(Consumer<String> handler);
 
+  class CaptureFramesOptions {
+    /**
+     * Maximum number of frames kept in memory. Defaults to {@code 1000}.
+     */
+    public Integer capacity;
+    /**
+     * Path of the log file that every frame is appended to. If not specified, only the last {@code capacity} frames are
+     * available.
+     */
+    public Path path;
+
+    /**
+     * Maximum number of frames kept in memory. Defaults to {@code 1000}.
+     */
+    public CaptureFramesOptions setCapacity(int capacity) {
+      this.capacity = capacity;
+      return this;
+    }
+    /**
+     * Path of the log file that every frame is appended to. If not specified, only the last {@code capacity} frames are
+     * available.
+     */
+    public CaptureFramesOptions setPath(Path path) {
+      this.path = path;
+      return this;
+    }
+  }
   class WaitForFrameReceivedOptions {
     /**
      * Receives the {@code WebSocketFrame} object and resolves to truthy value when the waiting should resolve.
@@ -121,6 +149,18 @@ public interface WebSocket {
       return this;
     }
   }
+  /**
+   * Starts recording frames sent and received by the WebSocket. Frames that arrived before this call are not recorded. See
+   * {@code WebSocketCapture} for the log file format.
+   */
+  default WebSocketCapture captureFrames() {
+    return captureFrames(null);
+  }
+  /**
+   * Starts recording frames sent and received by the WebSocket. Frames that arrived before this call are not recorded. See
+   * {@code WebSocketCapture} for the log file format.
+   */
+  WebSocketCapture captureFrames(CaptureFramesOptions options);
   /**
    * Indicates that the web socket has been closed.
    *
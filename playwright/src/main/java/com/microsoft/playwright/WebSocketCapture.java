@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+import com.microsoft.playwright.options.CapturedWebSocketFrame;
+
+import java.util.List;
+
+/**
+ * Records the frames of a {@code WebSocket} without creating a {@code WebSocketFrame} for each of them. Created with
+ * {@link com.microsoft.playwright.WebSocket#captureFrames WebSocket.captureFrames()}.
+ *
+ * <p> The last {@code capacity} frames are kept in memory. When a {@code path} is given, every frame is also appended to a
+ * memory-mapped log file so that long feeds can be analyzed without keeping them on the heap. The file starts with the
+ * ASCII bytes {@code PWWS} followed by a big-endian int version ({@code 1}); each record then holds a direction byte
+ * ({@code 1} sent, {@code 2} received), an opcode byte, a big-endian double timestamp, a big-endian int payload length
+ * and the payload. A zero direction byte or the end of the file marks the end of the log.
+ *
+ * <p> <strong>Usage</strong>
+ * <pre>{@code
+ * page.onWebSocket(ws -> {
+ *   WebSocketCapture capture = ws.captureFrames(new WebSocket.CaptureFramesOptions()
+ *     .setPath(Paths.get("feed.wslog")));
+ * });
+ * }</pre>
+ */
+public interface WebSocketCapture {
+  /**
+   * Number of frames captured so far, including the ones evicted from memory.
+   */
+  int frameCount();
+  /**
+   * Returns the frames still held in memory, oldest first.
+   */
+  List<CapturedWebSocketFrame> recentFrames();
+  /**
+   * Reads up to {@code count} frames starting at the {@code from} position of the log file. Positions go from {@code 0} to
+   * {@link #frameCount frameCount()} {@code - 1}. Throws if the capture was created without a {@code path}.
+   *
+   * @param from Index of the first frame to read.
+   * @param count Maximum number of frames to read.
+   */
+  List<CapturedWebSocketFrame> readFrames(int from, int count);
+  /**
+   * Stops capturing and closes the log file. Frames held in memory are still available.
+   */
+  void close();
+}
@@ -16,8 +16,10 @@
 
 package com.microsoft.playwright;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Whenever a <a href="https://developer.mozilla.org/en-US/docs/Web/API/WebSocket">{@code WebSocket}</a> route is set up
@@ -129,6 +131,24 @@ public interface WebSocketRoute {
       return this;
     }
   }
+  class OnMessageOptions {
+    /**
+     * Text messages matching this predicate are forwarded to the other side of the connection as is, without creating a
+     * {@code WebSocketFrame} and without calling the handler. Only applies to the server-side route and to the page-side
+     * route after {@link com.microsoft.playwright.WebSocketRoute#connectToServer WebSocketRoute.connectToServer()}.
+     */
+    public Predicate<String> passThrough;
+
+    /**
+     * Text messages matching this predicate are forwarded to the other side of the connection as is, without creating a
+     * {@code WebSocketFrame} and without calling the handler. Only applies to the server-side route and to the page-side
+     * route after {@link com.microsoft.playwright.WebSocketRoute#connectToServer WebSocketRoute.connectToServer()}.
+     */
+    public OnMessageOptions setPassThrough(Predicate<String> passThrough) {
+      this.passThrough = passThrough;
+      return this;
+    }
+  }
   /**
    * Closes one side of the WebSocket connection.
    *
@@ -194,7 +214,26 @@ public interface WebSocketRoute {
    * @param handler Function that will handle messages.
    * @since v1.48
    */
-  void onMessage(Consumer<WebSocketFrame> handler);
+  default void onMessage(Consumer<WebSocketFrame> handler) {
+    onMessage(handler, null);
+  }
+  /**
+   * This method allows to handle messages that are sent by the WebSocket, either from the page or from the server.
+   *
+   * <p> When called on the original WebSocket route, this method handles messages sent from the page. You can handle this
+   * messages by responding to them with {@link com.microsoft.playwright.WebSocketRoute#send WebSocketRoute.send()},
+   * forwarding them to the server-side connection returned by {@link com.microsoft.playwright.WebSocketRoute#connectToServer
+   * WebSocketRoute.connectToServer()} or do something else.
+   *
+   * <p> Once this method is called, messages are not automatically forwarded to the server or to the page - you should do that
+   * manually by calling {@link com.microsoft.playwright.WebSocketRoute#send WebSocketRoute.send()}. See examples at the top
+   * for more details.
+   *
+   * <p> Calling this method again will override the handler with a new one.
+   *
+   * @param handler Function that will handle messages.
+   */
+  void onMessage(Consumer<WebSocketFrame> handler, OnMessageOptions options);
   /**
    * Sends a message to the WebSocket. When called on the original WebSocket, sends the message to the page. When called on
    * the result of {@link com.microsoft.playwright.WebSocketRoute#connectToServer WebSocketRoute.connectToServer()}, sends
@@ -213,6 +252,13 @@ public interface WebSocketRoute {
    * @since v1.48
    */
   void send(byte[] message);
+  /**
+   * Sends several text messages to the WebSocket in order, without waiting for the driver between them. See {@link
+   * com.microsoft.playwright.WebSocketRoute#send WebSocketRoute.send()}.
+   *
+   * @param messages Messages to send.
+   */
+  void send(List<String> messages);
   /**
    * URL of the WebSocket created in the page.
    *
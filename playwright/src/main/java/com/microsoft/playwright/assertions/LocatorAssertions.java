@@ -572,6 +572,17 @@ public interface LocatorAssertions {
    * @since v1.20
    */
   LocatorAssertions not();
+  /**
+   * Returns assertions that are retried from the client with the given polling intervals instead of the fixed schedule
+   * used by the driver. Each interval is the time in milliseconds the driver is given to check the condition before the
+   * next attempt is sent, the last interval is repeated until the assertion timeout is reached.
+   * <pre>{@code
+   * assertThat(locator).withPollingIntervals(50, 100, 200).hasText("Ready");
+   * }</pre>
+   *
+   * @param intervals Polling intervals in milliseconds.
+   */
+  LocatorAssertions withPollingIntervals(double... intervals);
   /**
    * Ensures that {@code Locator} points to an element that is <a
    * href="https://developer.mozilla.org/en-US/docs/Web/API/Node/isConnected">connected</a> to a Document or a ShadowRoot.
@@ -21,9 +21,12 @@ import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.impl.APIResponseAssertionsImpl;
 import com.microsoft.playwright.impl.AssertionsTimeout;
+import com.microsoft.playwright.impl.ExpectBatch;
 import com.microsoft.playwright.impl.LocatorAssertionsImpl;
 import com.microsoft.playwright.impl.PageAssertionsImpl;
 
+import java.util.Arrays;
+
 /**
  * Playwright gives you Web-First Assertions with convenience methods for creating assertions that will wait and retry
  * until the expected condition is met.
@@ -110,5 +113,26 @@ public interface PlaywrightAssertions {
     AssertionsTimeout.setDefaultTimeout(timeout);
   }
 
+  /**
+   * Runs a group of assertions as one batch. Expectations made inside {@code assertions} are not checked immediately,
+   * instead they are all sent to the driver together after the last block has run and are retried concurrently. If all of
+   * them already hold, the whole group costs a single round trip. All failures are collected and reported together.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * PlaywrightAssertions.assertAll(
+   *   () -> assertThat(page.locator("#name")).hasValue("John"),
+   *   () -> assertThat(page.locator("#terms")).isChecked(),
+   *   () -> assertThat(page).hasTitle("Sign up"));
+   * }</pre>
+   *
+   * <p> The blocks should only contain assertions, any other action is performed before the expectations are checked.
+   *
+   * @param assertions Blocks containing assertions.
+   */
+  static void assertAll(Runnable... assertions) {
+    ExpectBatch.run(Arrays.asList(assertions));
+  }
+
 }
 
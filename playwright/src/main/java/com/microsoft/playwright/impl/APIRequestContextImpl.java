@@ -21,13 +21,18 @@ import com.microsoft.playwright.APIRequestContext;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.Request;
+import com.microsoft.playwright.options.FetchRequest;
 import com.microsoft.playwright.options.FilePayload;
+import com.microsoft.playwright.options.HttpCacheStats;
 import com.microsoft.playwright.options.RequestOptions;
 
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,8 +41,11 @@ import static com.microsoft.playwright.impl.Serialization.*;
 import static com.microsoft.playwright.impl.Utils.toFilePayload;
 
 class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
+  private static final int DEFAULT_FETCH_ALL_CONCURRENCY = 16;
+
   private final TracingImpl tracing;
   private String disposeReason;
+  ResponseCache responseCache;
 
   protected TimeoutSettings timeoutSettings = new TimeoutSettings();
 
@@ -84,13 +92,150 @@ class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
     return fetch(request.url(), options);
   }
 
-  private APIResponse fetchImpl(String url, RequestOptionsImpl options) {
+  @Override
+  public List<APIResponse> fetchAll(List<FetchRequest> requests, FetchAllOptions options) {
+    int maxConcurrency = DEFAULT_FETCH_ALL_CONCURRENCY;
+    if (options != null && options.maxConcurrency != null) {
+      if (options.maxConcurrency < 1) {
+        throw new PlaywrightException("'maxConcurrency' must be greater than '0'");
+      }
+      maxConcurrency = options.maxConcurrency;
+    }
     if (disposeReason != null) {
       throw new PlaywrightException(disposeReason);
     }
+    // Serialize everything up front so that invalid options fail before anything is sent.
+    List<JsonObject> paramsList = new ArrayList<>(requests.size());
+    List<List<StreamedPayload>> payloadsList = new ArrayList<>(requests.size());
+    List<ResponseCache.Lookup> lookups = new ArrayList<>(requests.size());
+    APIResponse[] responses = new APIResponse[requests.size()];
+    try {
+      for (FetchRequest request : requests) {
+        RequestOptionsImpl requestOptions = Utils.clone((RequestOptionsImpl) request.params);
+        if (requestOptions == null) {
+          requestOptions = new RequestOptionsImpl();
+        }
+        ResponseCache.Lookup lookup = lookupCache(request.url, requestOptions);
+        lookups.add(lookup);
+        if (lookup != null) {
+          responses[lookups.size() - 1] = lookup.freshResponse(this);
+          if (responses[lookups.size() - 1] != null) {
+            paramsList.add(null);
+            payloadsList.add(null);
+            continue;
+          }
+          requestOptions.headers = lookup.conditionalHeaders(requestOptions.headers);
+        }
+        List<StreamedPayload> payloads = new ArrayList<>();
+        payloadsList.add(payloads);
+        JsonObject params = fetchParams(request.url, requestOptions, payloads);
+        params.addProperty("timeout", requestOptions.timeout);
+        paramsList.add(params);
+      }
+    } catch (RuntimeException e) {
+      // Files of large bodies are already open.
+      closePayloads(payloadsList, 0);
+      throw e;
+    }
+    Map<Integer, WaitableResult<JsonElement>> inFlight = new LinkedHashMap<>();
+    int next = 0;
+    PlaywrightException error = null;
+    while (true) {
+      while (error == null && next < paramsList.size() && inFlight.size() < maxConcurrency) {
+        if (paramsList.get(next) != null) {
+          inFlight.put(next, sendMessageAsync("fetch", paramsList.get(next), payloadsList.get(next)));
+        }
+        ++next;
+      }
+      if (inFlight.isEmpty()) {
+        break;
+      }
+      connection.processOneMessage();
+      for (Iterator<Map.Entry<Integer, WaitableResult<JsonElement>>> it = inFlight.entrySet().iterator(); it.hasNext(); ) {
+        Map.Entry<Integer, WaitableResult<JsonElement>> entry = it.next();
+        if (!entry.getValue().isDone()) {
+          continue;
+        }
+        it.remove();
+        try {
+          JsonObject json = entry.getValue().get().getAsJsonObject();
+          APIResponseImpl response = new APIResponseImpl(this, json.getAsJsonObject("response"));
+          ResponseCache.Lookup lookup = lookups.get(entry.getKey());
+          responses[entry.getKey()] = lookup == null ? response : lookup.complete(response);
+        } catch (PlaywrightException e) {
+          if (error == null) {
+            error = e;
+          }
+        }
+      }
+    }
+    if (error != null) {
+      closePayloads(payloadsList, next);
+      // The caller never sees the responses that did arrive, release their bodies.
+      for (APIResponse response : responses) {
+        if (response != null) {
+          try {
+            response.dispose();
+          } catch (PlaywrightException e) {
+            error.addSuppressed(e);
+          }
+        }
+      }
+      throw error;
+    }
+    return Arrays.asList(responses);
+  }
+
+  private static void closePayloads(List<List<StreamedPayload>> payloadsList, int from) {
+    for (List<StreamedPayload> payloads : payloadsList.subList(from, payloadsList.size())) {
+      if (payloads != null) {
+        StreamedPayload.closeAll(payloads);
+      }
+    }
+  }
+
+  private APIResponse fetchImpl(String url, RequestOptionsImpl options) {
     if (options == null) {
       options = new RequestOptionsImpl();
     }
+    ResponseCache.Lookup lookup = lookupCache(url, options);
+    if (lookup != null) {
+      APIResponseImpl cached = lookup.freshResponse(this);
+      if (cached != null) {
+        return cached;
+      }
+      // Validators must not leak into the caller's options object.
+      options = Utils.clone(options);
+      options.headers = lookup.conditionalHeaders(options.headers);
+    }
+    List<StreamedPayload> payloads = new ArrayList<>();
+    JsonObject params;
+    try {
+      params = fetchParams(url, options, payloads);
+    } catch (RuntimeException e) {
+      StreamedPayload.closeAll(payloads);
+      throw e;
+    }
+    JsonObject json = sendMessage("fetch", params, options.timeout, payloads).getAsJsonObject();
+    APIResponseImpl response = new APIResponseImpl(this, json.getAsJsonObject("response"));
+    return lookup == null ? response : lookup.complete(response);
+  }
+
+  private ResponseCache.Lookup lookupCache(String url, RequestOptionsImpl options) {
+    if (disposeReason != null) {
+      throw new PlaywrightException(disposeReason);
+    }
+    return responseCache == null ? null : responseCache.lookup(url, options);
+  }
+
+  /**
+   * Large request bodies and files are added to {@code payloads} and streamed to the driver instead of being
+   * base64-encoded into the message.
+   */
+  private JsonObject fetchParams(String url, RequestOptionsImpl options, List<StreamedPayload> payloads) {
+    if (disposeReason != null) {
+      throw new PlaywrightException(disposeReason);
+    }
     options.timeout = timeoutSettings.timeout(options.timeout);
     JsonObject params = new JsonObject();
     params.addProperty("url", url);
@@ -121,15 +266,14 @@ class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
       if (bytes == null) {
         params.addProperty("jsonData", jsonDataSerializer.toJson(options.data));
       } else {
-        String base64 = Base64.getEncoder().encodeToString(bytes);
-        params.addProperty("postData", base64);
+        params.addProperty("postData", toBase64(bytes, payloads));
       }
     }
     if (options.form != null) {
       params.add("formData", toNameValueArray(options.form.fields));
     }
     if (options.multipart != null) {
-      params.add("multipartData", serializeMultipartData(options.multipart.fields));
+      params.add("multipartData", serializeMultipartData(options.multipart.fields, payloads));
     }
     if (options.failOnStatusCode != null) {
       params.addProperty("failOnStatusCode", options.failOnStatusCode);
@@ -149,8 +293,7 @@ class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
       }
       params.addProperty("maxRetries", options.maxRetries);
     }
-    JsonObject json = sendMessage("fetch", params, timeoutSettings.timeout(options.timeout)).getAsJsonObject();
-    return new APIResponseImpl(this, json.getAsJsonObject("response"));
+    return params;
   }
 
   private static boolean isJsonContentType(Map<String, String> headers) {
@@ -165,29 +308,52 @@ class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
     return false;
   }
 
-  private static JsonArray serializeMultipartData(List<? extends Map.Entry<String, Object>> data) {
+  private static JsonArray serializeMultipartData(List<? extends Map.Entry<String, Object>> data, List<StreamedPayload> payloads) {
     JsonArray result = new JsonArray();
     for (Map.Entry<String, ?> e : data) {
-      FilePayload filePayload = null;
+      JsonObject item = new JsonObject();
+      item.addProperty("name", e.getKey());
       if (e.getValue() instanceof FilePayload) {
-        filePayload = (FilePayload) e.getValue();
+        FilePayload filePayload = (FilePayload) e.getValue();
+        JsonObject file = new JsonObject();
+        file.addProperty("name", filePayload.name);
+        file.addProperty("mimeType", filePayload.mimeType);
+        file.addProperty("buffer", toBase64(filePayload.buffer, payloads));
+        item.add("file", file);
       } else if (e.getValue() instanceof Path) {
-        filePayload = toFilePayload((Path) e.getValue());
+        item.add("file", serializeFile((Path) e.getValue(), payloads));
       } else if (e.getValue() instanceof File) {
-        filePayload = toFilePayload(((File) e.getValue()).toPath());
-      }
-      JsonObject item = new JsonObject();
-      item.addProperty("name", e.getKey());
-      if (filePayload == null) {
-        item.addProperty("value", "" + e.getValue());
+        item.add("file", serializeFile(((File) e.getValue()).toPath(), payloads));
       } else {
-        item.add("file", toProtocol(filePayload));
+        item.addProperty("value", "" + e.getValue());
       }
       result.add(item);
     }
     return result;
   }
 
+  private static JsonObject serializeFile(Path path, List<StreamedPayload> payloads) {
+    StreamedPayload payload = StreamedPayload.fromFile(path);
+    if (payload.size() < StreamedPayload.THRESHOLD) {
+      payload.close();
+      return toProtocol(toFilePayload(path));
+    }
+    payloads.add(payload);
+    JsonObject file = new JsonObject();
+    file.addProperty("name", path.getFileName().toString());
+    file.addProperty("buffer", payload.placeholder);
+    return file;
+  }
+
+  private static String toBase64(byte[] bytes, List<StreamedPayload> payloads) {
+    if (bytes.length < StreamedPayload.THRESHOLD) {
+      return Base64.getEncoder().encodeToString(bytes);
+    }
+    StreamedPayload payload = StreamedPayload.fromBytes(bytes);
+    payloads.add(payload);
+    return payload.placeholder;
+  }
+
   @Override
   public APIResponse get(String url, RequestOptions options) {
     return fetch(url, ensureOptions(options, "GET"));
@@ -198,6 +364,11 @@ class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
     return fetch(url, ensureOptions(options, "HEAD"));
   }
 
+  @Override
+  public HttpCacheStats httpCacheStats() {
+    return responseCache == null ? new HttpCacheStats() : responseCache.stats();
+  }
+
   @Override
   public APIResponse patch(String url, RequestOptions options) {
     return fetch(url, ensureOptions(options, "PATCH"));
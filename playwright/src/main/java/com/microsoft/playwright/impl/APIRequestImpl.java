@@ -16,15 +16,11 @@
 
 package com.microsoft.playwright.impl;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.microsoft.playwright.APIRequest;
-import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.options.ClientCertificate;
+import com.microsoft.playwright.options.HttpCache;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.util.List;
 
 import static com.microsoft.playwright.impl.ChannelOwner.NO_TIMEOUT;
@@ -45,20 +41,16 @@ class APIRequestImpl implements APIRequest {
     } else {
       options = Utils.clone(options);
     }
-    if (options.storageStatePath != null) {
-      try {
-        byte[] bytes = Files.readAllBytes(options.storageStatePath);
-        options.storageState = new String(bytes, StandardCharsets.UTF_8);
-        options.storageStatePath = null;
-      } catch (IOException e) {
-        throw new PlaywrightException("Failed to read storage state from file", e);
-      }
-    }
     JsonObject storageState = null;
-    if (options.storageState != null) {
-      storageState = new Gson().fromJson(options.storageState, JsonObject.class);
-      options.storageState = null;
+    if (options.storageStatePath != null) {
+      storageState = StorageStateCache.fromFile(options.storageStatePath);
+      options.storageStatePath = null;
+    } else if (options.storageState != null) {
+      storageState = StorageStateCache.fromText(options.storageState);
     }
+    options.storageState = null;
+    HttpCache httpCache = options.httpCache;
+    options.httpCache = null;
     List<ClientCertificate> clientCertificateList = options.clientCertificates;
     options.clientCertificates = null;
     Double timeout = options.timeout;
@@ -72,6 +64,22 @@ class APIRequestImpl implements APIRequest {
     JsonObject result = playwright.sendMessage("newRequest", params, NO_TIMEOUT).getAsJsonObject();
     APIRequestContextImpl context = playwright.connection.getExistingObject(result.getAsJsonObject("request").get("guid").getAsString());
     context.timeoutSettings.setDefaultTimeout(timeout);
+    if (httpCache != null) {
+      // Responses on disk may be served to other contexts, only to those that send the same credentials.
+      JsonObject identity = new JsonObject();
+      for (String name : new String[] {"extraHTTPHeaders", "httpCredentials", "storageState", "clientCertificates"}) {
+        if (params.has(name)) {
+          identity.add(name, params.get(name));
+        }
+      }
+      boolean hasCredentials = options.httpCredentials != null || clientCertificateList != null;
+      if (options.extraHTTPHeaders != null) {
+        for (String name : options.extraHTTPHeaders.keySet()) {
+          hasCredentials |= "authorization".equalsIgnoreCase(name);
+        }
+      }
+      context.responseCache = new ResponseCache(httpCache, options.baseURL, identity, hasCredentials);
+    }
     return context;
   }
 }
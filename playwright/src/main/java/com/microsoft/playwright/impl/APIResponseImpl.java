@@ -106,7 +106,8 @@ class APIResponseImpl implements APIResponse {
   }
 
   String fetchUid() {
-    return initializer.get("fetchUid").getAsString();
+    // Responses served from the response cache have no counterpart in the driver.
+    return initializer.has("fetchUid") ? initializer.get("fetchUid").getAsString() : null;
   }
 
   List<String> fetchLog() {
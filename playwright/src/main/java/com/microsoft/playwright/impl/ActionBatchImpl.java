@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.ActionBatch;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.microsoft.playwright.impl.Serialization.gson;
+import static com.microsoft.playwright.impl.Serialization.serializeArgument;
+import static com.microsoft.playwright.impl.Serialization.toSelectValueOrLabel;
+import static com.microsoft.playwright.impl.Utils.addFilePathUploadParams;
+
+class ActionBatchImpl implements ActionBatch {
+  private final PageImpl page;
+  private final List<Step> steps = new ArrayList<>();
+
+  private static class Step {
+    final String title;
+    final String description;
+    final LocatorImpl locator;
+    final String method;
+    final Consumer<JsonObject> params;
+    // Steps that depend on keyboard focus or mouse position must not overlap with any other step.
+    final boolean isExclusive;
+    WaitableResult<JsonElement> result;
+
+    Step(String title, String description, LocatorImpl locator, String method, Consumer<JsonObject> params, boolean isExclusive) {
+      this.title = title;
+      this.description = description;
+      this.locator = locator;
+      this.method = method;
+      this.params = params;
+      this.isExclusive = isExclusive;
+    }
+
+    void send() {
+      JsonObject json = new JsonObject();
+      json.addProperty("selector", locator.selector);
+      json.addProperty("strict", true);
+      json.addProperty("timeout", locator.frame.timeout(null));
+      params.accept(json);
+      result = locator.frame.withTitle(title, () -> locator.frame.sendMessageAsync(method, json));
+    }
+  }
+
+  ActionBatchImpl(PageImpl page) {
+    this.page = page;
+  }
+
+  private ActionBatch add(String title, String name, Locator locator, String method, Consumer<JsonObject> params, boolean isExclusive) {
+    LocatorImpl locatorImpl = (LocatorImpl) locator;
+    if (locatorImpl.frame.page() != page) {
+      throw new PlaywrightException("Locator belongs to a different page: " + locator);
+    }
+    steps.add(new Step(title, name + "(" + locator + ")", locatorImpl, method, params, isExclusive));
+    return this;
+  }
+
+  @Override
+  public ActionBatch fill(Locator locator, String value) {
+    return add("Fill", "fill", locator, "fill", params -> params.addProperty("value", value), true);
+  }
+
+  @Override
+  public ActionBatch check(Locator locator) {
+    return add("Check", "check", locator, "check", params -> {}, true);
+  }
+
+  @Override
+  public ActionBatch uncheck(Locator locator) {
+    return add("Uncheck", "uncheck", locator, "uncheck", params -> {}, true);
+  }
+
+  @Override
+  public ActionBatch setChecked(Locator locator, boolean checked) {
+    return add(checked ? "Check" : "Uncheck", "setChecked", locator, checked ? "check" : "uncheck", params -> {}, true);
+  }
+
+  @Override
+  public ActionBatch click(Locator locator) {
+    return add("Click", "click", locator, "click", params -> {}, true);
+  }
+
+  @Override
+  public ActionBatch press(Locator locator, String key) {
+    return add("Press", "press", locator, "press", params -> params.addProperty("key", key), true);
+  }
+
+  @Override
+  public ActionBatch selectOption(Locator locator, String... values) {
+    return add("Select option", "selectOption", locator, "selectOption", params -> params.add("options", toSelectValueOrLabel(values)), false);
+  }
+
+  @Override
+  public ActionBatch setInputFiles(Locator locator, Path... files) {
+    return add("Set input files", "setInputFiles", locator, "setInputFiles", params -> addFilePathUploadParams(files, params, page.context()), false);
+  }
+
+  @Override
+  public ActionBatch dispatchEvent(Locator locator, String type) {
+    return add("Dispatch event", "dispatchEvent", locator, "dispatchEvent", params -> {
+      params.addProperty("type", type);
+      params.add("eventInit", serializeArgument(null));
+    }, false);
+  }
+
+  void run() {
+    List<PlaywrightException> errors = new ArrayList<>();
+    List<String> failedSteps = new ArrayList<>();
+    List<Step> inFlight = new ArrayList<>();
+    int skippedSteps = 0;
+    for (int i = 0; i < steps.size(); i++) {
+      Step step = steps.get(i);
+      boolean mustWait = step.isExclusive || (!inFlight.isEmpty() && inFlight.get(inFlight.size() - 1).isExclusive);
+      if (mustWait) {
+        await(inFlight, errors, failedSteps);
+        // Don't continue past a barrier after a failure, e.g. a click on submit after a failed fill.
+        if (!errors.isEmpty()) {
+          skippedSteps = steps.size() - i;
+          break;
+        }
+      }
+      try {
+        step.send();
+        inFlight.add(step);
+      } catch (PlaywrightException e) {
+        errors.add(e);
+        failedSteps.add("#" + (i + 1) + " " + step.description + ": " + e.getMessage());
+      }
+    }
+    await(inFlight, errors, failedSteps);
+    if (!errors.isEmpty()) {
+      String skipped = skippedSteps == 0 ? "" : ", " + skippedSteps + " steps were not run";
+      PlaywrightException error = new PlaywrightException("Batch failed, " + errors.size() + " of " + steps.size() +
+        " steps failed" + skipped + ":\n  " + String.join("\n  ", failedSteps));
+      for (PlaywrightException e : errors) {
+        error.addSuppressed(e);
+      }
+      throw error;
+    }
+  }
+
+  private void await(List<Step> inFlight, List<PlaywrightException> errors, List<String> failedSteps) {
+    for (Step step : inFlight) {
+      try {
+        page.runUntil(() -> {}, step.result);
+      } catch (PlaywrightException e) {
+        errors.add(e);
+        failedSteps.add("#" + (steps.indexOf(step) + 1) + " " + step.description + ": " + e.getMessage());
+      }
+    }
+    inFlight.clear();
+  }
+}
@@ -16,10 +16,13 @@
 
 package com.microsoft.playwright.impl;
 
+import com.google.gson.JsonElement;
+import com.microsoft.playwright.PlaywrightException;
 import org.opentest4j.AssertionFailedError;
 import org.opentest4j.ValueWrapper;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -30,9 +33,17 @@ import static java.util.Arrays.asList;
 
 abstract class AssertionsBase {
   final boolean isNot;
+  // When set, the assertion is retried from the client with these per-attempt timeouts instead of
+  // relying on the fixed polling schedule of the driver.
+  final List<Double> pollingIntervals;
 
   AssertionsBase(boolean isNot) {
+    this(isNot, null);
+  }
+
+  AssertionsBase(boolean isNot, List<Double> pollingIntervals) {
     this.isNot = isNot;
+    this.pollingIntervals = pollingIntervals;
   }
 
   void expectImpl(String expression, ExpectedTextValue textValue, Object expected, String message, FrameExpectOptions options, String title) {
@@ -55,25 +66,51 @@ abstract class AssertionsBase {
     if (isNot) {
       message = message.replace("expected to", "expected not to");
     }
+    if (pollingIntervals != null || ExpectBatch.isActive()) {
+      ExpectBatch.expect(this, expression, expectOptions, expected, message, title);
+      return;
+    }
     FrameExpectResult result = doExpect(expression, expectOptions, title);
     if (result.matches == isNot) {
-      Object actual = result.received == null ? null : Serialization.deserialize(result.received);
-      String log = (result.log == null) ? "" : String.join("\n", result.log);
-      if (!log.isEmpty()) {
-        log = "\nCall log:\n" + log;
-      }
-      if (expected == null) {
-        throw new AssertionFailedError(message + log);
-      }
-      ValueWrapper expectedValue = formatValue(expected);
-      ValueWrapper actualValue = formatValue(actual);
-      message += ": " + expectedValue.getStringRepresentation() + "\nReceived: " + actualValue.getStringRepresentation() + "\n";
-      throw new AssertionFailedError(message + log, expectedValue, actualValue);
+      throw createFailure(result, expected, message);
+    }
+  }
+
+  AssertionFailedError createFailure(FrameExpectResult result, Object expected, String message) {
+    Object actual = result.received == null ? null : Serialization.deserialize(result.received);
+    String log = (result.log == null) ? "" : String.join("\n", result.log);
+    if (!log.isEmpty()) {
+      log = "\nCall log:\n" + log;
     }
+    if (expected == null) {
+      return new AssertionFailedError(message + log);
+    }
+    ValueWrapper expectedValue = formatValue(expected);
+    ValueWrapper actualValue = formatValue(actual);
+    message += ": " + expectedValue.getStringRepresentation() + "\nReceived: " + actualValue.getStringRepresentation() + "\n";
+    return new AssertionFailedError(message + log, expectedValue, actualValue);
   }
 
   abstract FrameExpectResult doExpect(String expression, FrameExpectOptions expectOptions, String title);
 
+  abstract WaitableResult<JsonElement> doExpectAsync(String expression, FrameExpectOptions expectOptions, String title);
+
+  abstract FrameImpl expectFrame();
+
+  static List<Double> toPollingIntervals(double[] intervals) {
+    if (intervals == null || intervals.length == 0) {
+      throw new PlaywrightException("At least one polling interval must be specified");
+    }
+    List<Double> result = new ArrayList<>();
+    for (double interval : intervals) {
+      if (interval <= 0) {
+        throw new PlaywrightException("Polling interval must be positive, got: " + interval);
+      }
+      result.add(interval);
+    }
+    return result;
+  }
+
   protected static ValueWrapper formatValue(Object value) {
     if (value == null || !value.getClass().isArray()) {
       return ValueWrapper.create(value);
@@ -22,10 +22,12 @@ import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.Frame;
 import com.microsoft.playwright.JSHandle;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.options.BindingCallback;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static com.microsoft.playwright.impl.Serialization.*;
 
@@ -61,23 +63,38 @@ class BindingCall extends ChannelOwner {
     return initializer.get("name").getAsString();
   }
 
+  /**
+   * Binding whose callback runs on the given executor instead of the thread that dispatches events.
+   */
+  static class AsyncBinding implements BindingCallback {
+    final BindingCallback callback;
+    final Executor executor;
+
+    AsyncBinding(BindingCallback callback, Executor executor, boolean needsHandle) {
+      // JSHandle methods talk to the driver, they can't be called from the executor.
+      if (needsHandle) {
+        throw new PlaywrightException("Bindings with handle: true cannot run on an executor");
+      }
+      this.callback = callback;
+      this.executor = executor;
+    }
+
+    @Override
+    public Object call(Source source, Object... args) {
+      return callback.call(source, args);
+    }
+  }
+
   void call(BindingCallback binding) {
+    if (binding instanceof AsyncBinding) {
+      callAsync((AsyncBinding) binding);
+      return;
+    }
     try {
-      Frame frame = connection.getExistingObject(initializer.getAsJsonObject("frame").get("guid").getAsString());
-      BindingCallback.Source source = new SourceImpl(frame);
-      List<Object> args = new ArrayList<>();
-      if (initializer.has("handle")) {
-        JSHandle handle = connection.getExistingObject(initializer.getAsJsonObject("handle").get("guid").getAsString());
-        args.add(handle);
-      } else {
-        for (JsonElement arg : initializer.getAsJsonArray("args")) {
-          args.add(deserialize(gson().fromJson(arg, SerializedValue.class)));
-        }
-      }
-      Object result = binding.call(source, args.toArray());
+      Object result = binding.call(source(), args());
 
       JsonObject params = new JsonObject();
-      params.add("result", gson().toJsonTree(serializeArgument(result)));
+      params.add("result", serializeArgument(result));
       sendMessage("resolve", params, NO_TIMEOUT);
     } catch (RuntimeException exception) {
       JsonObject params = new JsonObject();
@@ -85,4 +102,61 @@ class BindingCall extends ChannelOwner {
       sendMessage("reject", params, NO_TIMEOUT);
     }
   }
+
+  private void callAsync(AsyncBinding binding) {
+    BindingCallback.Source source;
+    Object[] args;
+    try {
+      source = source();
+      args = args();
+      binding.executor.execute(() -> {
+        try {
+          Object result = binding.callback.call(source, args);
+          connection.post(() -> resolveAsync(result));
+        } catch (Throwable exception) {
+          connection.post(() -> rejectAsync(exception));
+        }
+      });
+    } catch (RuntimeException exception) {
+      // Includes RejectedExecutionException.
+      rejectAsync(exception);
+    }
+  }
+
+  // The replies are sent without waiting for the driver's response as they are issued
+  // from inside message processing.
+  private void resolveAsync(Object result) {
+    JsonObject params = new JsonObject();
+    try {
+      params.add("result", serializeArgument(result));
+    } catch (RuntimeException exception) {
+      rejectAsync(exception);
+      return;
+    }
+    sendMessageAsync("resolve", params);
+  }
+
+  private void rejectAsync(Throwable exception) {
+    JsonObject params = new JsonObject();
+    params.add("error", gson().toJsonTree(serializeError(exception)));
+    sendMessageAsync("reject", params);
+  }
+
+  private BindingCallback.Source source() {
+    Frame frame = connection.getExistingObject(initializer.getAsJsonObject("frame").get("guid").getAsString());
+    return new SourceImpl(frame);
+  }
+
+  private Object[] args() {
+    List<Object> args = new ArrayList<>();
+    if (initializer.has("handle")) {
+      JSHandle handle = connection.getExistingObject(initializer.getAsJsonObject("handle").get("guid").getAsString());
+      args.add(handle);
+    } else {
+      for (JsonElement arg : initializer.getAsJsonArray("args")) {
+        args.add(deserialize(gson().fromJson(arg, SerializedValue.class)));
+      }
+    }
+    return args.toArray();
+  }
 }
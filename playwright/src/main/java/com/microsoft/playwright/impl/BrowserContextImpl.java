@@ -23,12 +23,15 @@ import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.*;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -48,6 +51,7 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
   private final ClockImpl clock;
   final List<PageImpl> pages = new ArrayList<>();
   final List<PageImpl> backgroundPages = new ArrayList<>();
+  private Map<String, Cookie> cookieCheckpoint = new HashMap<>();
 
   final Router routes = new Router();
   final WebSocketRouter webSocketRoutes = new WebSocketRouter();
@@ -67,7 +71,7 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
     result.put(EventType.REQUESTFAILED, "requestFailed");
     return result;
   }
-  private final ListenerCollection<EventType> listeners = new ListenerCollection<>(eventSubscriptions(), this);
+  final ListenerCollection<EventType> listeners = new ListenerCollection<>(eventSubscriptions(), this);
   final TimeoutSettings timeoutSettings = new TimeoutSettings();
   final Map<String, HarRecorder> harRecorders = new HashMap<>();
 
@@ -111,6 +115,23 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
     return Paths.get(recordVideo.get("dir").getAsString());
   }
 
+  /**
+   * Returns a filter over raw "request"/"response" event params, {@code key} names the property that
+   * references the event object. Returns null if nothing is filtered.
+   */
+  Predicate<JsonObject> networkEventFilter(String key, Object url, List<String> resourceTypes) {
+    if (url == null && resourceTypes == null) {
+      return null;
+    }
+    UrlMatcher matcher = UrlMatcher.forOneOf(baseUrl(), url, connection.localUtils, false);
+    Set<String> types = resourceTypes == null ? null : new HashSet<>(resourceTypes);
+    return params -> {
+      ChannelOwner object = connection.getExistingObject(params.getAsJsonObject(key).get("guid").getAsString());
+      RequestImpl request = object instanceof ResponseImpl ? ((ResponseImpl) object).request() : (RequestImpl) object;
+      return (types == null || types.contains(request.resourceType())) && matcher.test(request.url());
+    };
+  }
+
   URL baseUrl() {
     JsonElement url = initializer.getAsJsonObject("options").get("baseURL");
     if (url != null) {
@@ -162,6 +183,11 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
     listeners.remove(EventType.CONSOLE, handler);
   }
 
+  @Override
+  public void onConsoleMessage(Consumer<ConsoleMessage> handler, OnConsoleMessageOptions options) {
+    listeners.add(EventType.CONSOLE, handler, options == null ? null : ConsoleMessageImpl.typeFilter(options.types));
+  }
+
   @Override
   public void onDialog(Consumer<Dialog> handler) {
     listeners.add(EventType.DIALOG, handler);
@@ -202,6 +228,14 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
     listeners.remove(EventType.REQUEST, handler);
   }
 
+  @Override
+  public void onRequest(Consumer<Request> handler, OnRequestOptions options) {
+    if (options == null) {
+      options = new OnRequestOptions();
+    }
+    listeners.add(EventType.REQUEST, handler, networkEventFilter("request", options.url, options.resourceTypes));
+  }
+
   @Override
   public void onRequestFailed(Consumer<Request> handler) {
     listeners.add(EventType.REQUESTFAILED, handler);
@@ -232,6 +266,14 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
     listeners.remove(EventType.RESPONSE, handler);
   }
 
+  @Override
+  public void onResponse(Consumer<Response> handler, OnResponseOptions options) {
+    if (options == null) {
+      options = new OnResponseOptions();
+    }
+    listeners.add(EventType.RESPONSE, handler, networkEventFilter("response", options.url, options.resourceTypes));
+  }
+
   @Override
   public ClockImpl clock() {
     return clock;
@@ -315,6 +357,37 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
   }
 
 
+  @Override
+  public CookieChanges cookieChanges() {
+    CookieChanges changes = new CookieChanges();
+    changes.changed = new ArrayList<>();
+    List<Cookie> cookies = cookies((List<String>) null);
+    Map<String, Cookie> checkpoint = new HashMap<>();
+    for (Cookie cookie : cookies) {
+      String key = cookieKey(cookie);
+      checkpoint.put(key, cookie);
+      Cookie previous = cookieCheckpoint.remove(key);
+      if (previous == null || !isSameCookie(previous, cookie)) {
+        changes.changed.add(cookie);
+      }
+    }
+    changes.removed = new ArrayList<>(cookieCheckpoint.values());
+    cookieCheckpoint = checkpoint;
+    return changes;
+  }
+
+  private static String cookieKey(Cookie cookie) {
+    return cookie.name + "\u0000" + cookie.domain + "\u0000" + cookie.path + "\u0000" + cookie.partitionKey;
+  }
+
+  private static boolean isSameCookie(Cookie a, Cookie b) {
+    return Objects.equals(a.value, b.value)
+      && Objects.equals(a.expires, b.expires)
+      && Objects.equals(a.httpOnly, b.httpOnly)
+      && Objects.equals(a.secure, b.secure)
+      && a.sameSite == b.sameSite;
+  }
+
   @Override
   public void addCookies(List<Cookie> cookies) {
     JsonObject params = new JsonObject();
@@ -339,6 +412,11 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
     }
   }
 
+  @Override
+  public NetworkProfiler attachNetworkProfiler() {
+    return new NetworkProfilerImpl(this);
+  }
+
   @Override
   public List<Page> backgroundPages() {
     return new ArrayList<>(backgroundPages);
@@ -402,19 +480,27 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
         throw new PlaywrightException("Function \"" + name + "\" has been already registered in one of the pages");
       }
     }
+    boolean needsHandle = options != null && options.handle != null && options.handle;
+    if (options != null && options.executor != null) {
+      playwrightBinding = new BindingCall.AsyncBinding(playwrightBinding, options.executor, needsHandle);
+    }
     bindings.put(name, playwrightBinding);
 
     JsonObject params = new JsonObject();
     params.addProperty("name", name);
-    if (options != null && options.handle != null && options.handle) {
+    if (needsHandle) {
       params.addProperty("needsHandle", true);
     }
     sendMessage("exposeBinding", params, NO_TIMEOUT);
   }
 
   @Override
-  public void exposeFunction(String name, FunctionCallback playwrightFunction) {
-    exposeBindingImpl(name, (BindingCallback.Source source, Object... args) -> playwrightFunction.call(args), null);
+  public void exposeFunction(String name, FunctionCallback playwrightFunction, ExposeFunctionOptions options) {
+    ExposeBindingOptions bindingOptions = new ExposeBindingOptions();
+    if (options != null) {
+      bindingOptions.executor = options.executor;
+    }
+    exposeBindingImpl(name, (BindingCallback.Source source, Object... args) -> playwrightFunction.call(args), bindingOptions);
   }
 
   @Override
@@ -561,6 +647,12 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
     sendMessage("setGeolocation", params, NO_TIMEOUT);
   }
 
+  @Override
+  public void setListenerExecutor(Executor executor) {
+    listeners.setExecutor(executor, EnumSet.of(EventType.CONSOLE, EventType.WEBERROR, EventType.REQUEST, EventType.REQUESTFAILED,
+      EventType.REQUESTFINISHED, EventType.RESPONSE));
+  }
+
   @Override
   public void setOffline(boolean offline) {
     JsonObject params = new JsonObject();
@@ -584,6 +676,21 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
     return storageState;
   }
 
+  @Override
+  public void saveStorageState(Path path, SaveStorageStateOptions options) {
+    if (options == null) {
+      options = new SaveStorageStateOptions();
+    }
+    JsonObject params = gson().toJsonTree(options).getAsJsonObject();
+    JsonElement json = sendMessage("storageState", params, NO_TIMEOUT);
+    Utils.mkParentDirs(path);
+    try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+      gson().toJson(json, writer);
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to write storage state to file: " + path, e);
+    }
+  }
+
   @Override
   public TracingImpl tracing() {
     return tracing;
@@ -615,7 +722,7 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
     List<Waitable<Void>> waitables = new ArrayList<>();
     waitables.add(new WaitableContextClose<>());
     waitables.add(timeoutSettings.createWaitable(options == null ? null : options.timeout));
-    waitables.add(new WaitablePredicate<>(predicate));
+    waitables.add(new WaitablePredicate<>(connection, predicate, options == null ? null : options.events));
     runUntil(() -> {}, new WaitableRace<>(waitables));
   }
 
@@ -731,19 +838,30 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
         bindingCall.call(binding);
       }
     } else if ("console".equals(event)) {
+      PageImpl page = null;
+      if (params.has("page")) {
+        page = connection.getExistingObject(params.getAsJsonObject("page").get("guid").getAsString());
+      }
+      if (page != null) {
+        page.listeners.notifyRaw(PageImpl.EventType.CONSOLE, params);
+      }
+      // Skip creating the message if every listener filters it out.
+      if (!listeners.hasListeners(EventType.CONSOLE, params) &&
+          (page == null || !page.listeners.hasListeners(PageImpl.EventType.CONSOLE, params))) {
+        return;
+      }
       ConsoleMessageImpl message = new ConsoleMessageImpl(connection, params);
-      listeners.notify(BrowserContextImpl.EventType.CONSOLE, message);
-      PageImpl page = message.page();
+      listeners.notify(BrowserContextImpl.EventType.CONSOLE, message, params);
       if (page != null) {
-        page.listeners.notify(PageImpl.EventType.CONSOLE, message);
+        page.listeners.notify(PageImpl.EventType.CONSOLE, message, params);
       }
     } else if ("request".equals(event)) {
       String guid = params.getAsJsonObject("request").get("guid").getAsString();
       RequestImpl request = connection.getExistingObject(guid);
-      listeners.notify(EventType.REQUEST, request);
+      listeners.notify(EventType.REQUEST, request, params);
       if (params.has("page")) {
         PageImpl page = connection.getExistingObject(params.getAsJsonObject("page").get("guid").getAsString());
-        page.listeners.notify(PageImpl.EventType.REQUEST, request);
+        page.listeners.notify(PageImpl.EventType.REQUEST, request, params);
       }
     } else if ("requestFailed".equals(event)) {
       String guid = params.getAsJsonObject("request").get("guid").getAsString();
@@ -775,10 +893,10 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
     } else if ("response".equals(event)) {
       String guid = params.getAsJsonObject("response").get("guid").getAsString();
       Response response = connection.getExistingObject(guid);
-      listeners.notify(EventType.RESPONSE, response);
+      listeners.notify(EventType.RESPONSE, response, params);
       if (params.has("page")) {
         PageImpl page = connection.getExistingObject(params.getAsJsonObject("page").get("guid").getAsString());
-        page.listeners.notify(PageImpl.EventType.RESPONSE, response);
+        page.listeners.notify(PageImpl.EventType.RESPONSE, response, params);
       }
     } else if ("pageError".equals(event)) {
       SerializedError error = gson().fromJson(params.getAsJsonObject("error"), SerializedError.class);
@@ -16,13 +16,11 @@
 
 package com.microsoft.playwright.impl;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.microsoft.playwright.*;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -124,20 +122,14 @@ class BrowserImpl extends ChannelOwner implements Browser {
     options.recordHarOmitContent = null;
     options.recordHarUrlFilter = null;
 
-    if (options.storageStatePath != null) {
-      try {
-        byte[] bytes = Files.readAllBytes(options.storageStatePath);
-        options.storageState = new String(bytes, StandardCharsets.UTF_8);
-        options.storageStatePath = null;
-      } catch (IOException e) {
-        throw new PlaywrightException("Failed to read storage state from file", e);
-      }
-    }
     JsonObject storageState = null;
-    if (options.storageState != null) {
-      storageState = new Gson().fromJson(options.storageState, JsonObject.class);
-      options.storageState = null;
+    if (options.storageStatePath != null) {
+      storageState = StorageStateCache.fromFile(options.storageStatePath);
+      options.storageStatePath = null;
+    } else if (options.storageState != null) {
+      storageState = StorageStateCache.fromText(options.storageState);
     }
+    options.storageState = null;
     JsonObject params = gson().toJsonTree(options).getAsJsonObject();
     if (storageState != null) {
       params.add("storageState", storageState);
@@ -169,7 +161,7 @@ class BrowserImpl extends ChannelOwner implements Browser {
     if (options.acceptDownloads != null) {
       params.addProperty("acceptDownloads", options.acceptDownloads ? "accept" : "deny");
     }
-    params.add("selectorEngines", gson().toJsonTree(browserType.playwright.selectors.selectorEngines));
+    params.add("selectorEngines", browserType.playwright.selectors.selectorEnginesJson());
     params.addProperty("testIdAttributeName", browserType.playwright.selectors.testIdAttributeName);
     JsonElement result = sendMessage("newContext", params, NO_TIMEOUT);
     BrowserContextImpl context = connection.getExistingObject(result.getAsJsonObject().getAsJsonObject("context").get("guid").getAsString());
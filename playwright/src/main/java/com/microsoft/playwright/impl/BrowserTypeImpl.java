@@ -26,6 +26,8 @@ import com.microsoft.playwright.PlaywrightException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static com.microsoft.playwright.impl.Serialization.gson;
@@ -81,26 +83,42 @@ class BrowserTypeImpl extends ChannelOwner implements BrowserType {
       timeout = 0.0;
     }
 
+    // Client side option, the driver does not know about it.
+    params.remove("nativeWebSocket");
+    if (options.nativeWebSocket != null && options.nativeWebSocket) {
+      return connectOverNativeWebSocket(wsEndpoint, options, headers, timeout);
+    }
+
     JsonObject json = connection.localUtils().sendMessage("connect", params, timeout).getAsJsonObject();
     JsonPipe pipe = connection.getExistingObject(json.getAsJsonObject("pipe").get("guid").getAsString());
     Connection connection = new Connection(pipe, this.connection.env, this.connection.localUtils);
-    PlaywrightImpl playwright = connection.initializePlaywright();
-    if (!playwright.initializer.has("preLaunchedBrowser")) {
+    BrowserImpl browser = initializeRemoteBrowser(connection);
+    Consumer<JsonPipe> connectionCloseListener = t -> browser.notifyRemoteClosed();
+    pipe.onClose(connectionCloseListener);
+    browser.onDisconnected(b -> {
+      pipe.offClose(connectionCloseListener);
       try {
         connection.close();
       } catch (IOException e) {
         e.printStackTrace(System.err);
       }
-      throw new PlaywrightException("Malformed endpoint. Did you use launchServer method?");
+    });
+    return browser;
+  }
+
+  private Browser connectOverNativeWebSocket(String wsEndpoint, ConnectOptions options, JsonObject headers, double timeout) {
+    if (options.exposeNetwork != null) {
+      throw new PlaywrightException("exposeNetwork requires the connection to go through the driver, it cannot be used with nativeWebSocket");
     }
-    playwright.selectors = this.playwright.selectors;
-    BrowserImpl browser = connection.getExistingObject(playwright.initializer.getAsJsonObject("preLaunchedBrowser").get("guid").getAsString());
-    browser.isConnectedOverWebSocket = true;
-    browser.connectToBrowserType(this, null);
-    Consumer<JsonPipe> connectionCloseListener = t -> browser.notifyRemoteClosed();
-    pipe.onClose(connectionCloseListener);
+    Map<String, String> headerMap = new LinkedHashMap<>();
+    for (Map.Entry<String, JsonElement> entry : headers.entrySet()) {
+      headerMap.put(entry.getKey(), entry.getValue().getAsString());
+    }
+    WebSocketTransport transport = WebSocketTransport.connect(wsEndpoint, headerMap, timeout, options.slowMo == null ? 0 : options.slowMo);
+    Connection connection = new Connection(transport, this.connection.env, this.connection.localUtils);
+    BrowserImpl browser = initializeRemoteBrowser(connection);
+    transport.onClose(browser::notifyRemoteClosed);
     browser.onDisconnected(b -> {
-      pipe.offClose(connectionCloseListener);
       try {
         connection.close();
       } catch (IOException e) {
@@ -110,6 +128,23 @@ class BrowserTypeImpl extends ChannelOwner implements BrowserType {
     return browser;
   }
 
+  private BrowserImpl initializeRemoteBrowser(Connection connection) {
+    PlaywrightImpl playwright = connection.initializePlaywright();
+    if (!playwright.initializer.has("preLaunchedBrowser")) {
+      try {
+        connection.close();
+      } catch (IOException e) {
+        e.printStackTrace(System.err);
+      }
+      throw new PlaywrightException("Malformed endpoint. Did you use launchServer method?");
+    }
+    playwright.selectors = this.playwright.selectors;
+    BrowserImpl browser = connection.getExistingObject(playwright.initializer.getAsJsonObject("preLaunchedBrowser").get("guid").getAsString());
+    browser.isConnectedOverWebSocket = true;
+    browser.connectToBrowserType(this, null);
+    return browser;
+  }
+
   @Override
   public Browser connectOverCDP(String endpointURL, ConnectOverCDPOptions options) {
     if (!"chromium".equals(name())) {
@@ -181,7 +216,7 @@ class BrowserTypeImpl extends ChannelOwner implements BrowserType {
     if (options.acceptDownloads != null) {
       params.addProperty("acceptDownloads", options.acceptDownloads ? "accept" : "deny");
     }
-    params.add("selectorEngines", gson().toJsonTree(playwright.selectors.selectorEngines));
+    params.add("selectorEngines", playwright.selectors.selectorEnginesJson());
     params.addProperty("testIdAttributeName", playwright.selectors.testIdAttributeName);
     JsonObject json = sendMessage("launchPersistentContext", params, TimeoutSettings.launchTimeout(options.timeout)).getAsJsonObject();
     BrowserImpl browser = connection.getExistingObject(json.getAsJsonObject("browser").get("guid").getAsString());
@@ -21,7 +21,9 @@ import com.google.gson.JsonObject;
 import com.microsoft.playwright.PlaywrightException;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -106,8 +108,12 @@ class ChannelOwner extends LoggingSupport {
   }
 
   WaitableResult<JsonElement> sendMessageAsync(String method, JsonObject params) {
+    return sendMessageAsync(method, params, Collections.emptyList());
+  }
+
+  WaitableResult<JsonElement> sendMessageAsync(String method, JsonObject params, List<StreamedPayload> payloads) {
     checkNotCollected();
-    return connection.sendMessageAsync(guid, method, params);
+    return connection.sendMessageAsync(guid, method, params, payloads);
   }
 
   JsonElement sendMessage(String method) {
@@ -115,13 +121,17 @@ class ChannelOwner extends LoggingSupport {
   }
 
   JsonElement sendMessage(String method, JsonObject params, Double timeout) {
+    return sendMessage(method, params, timeout, Collections.emptyList());
+  }
+
+  JsonElement sendMessage(String method, JsonObject params, Double timeout, List<StreamedPayload> payloads) {
     checkNotCollected();
     if (timeout != null) {
       params.addProperty("timeout", timeout);
     } else if (params.has("timeout")) {
       throw new PlaywrightException("Internal error: timeout must be passed explicitly.");
     }
-    return connection.sendMessage(guid, method, params);
+    return connection.sendMessage(guid, method, params, payloads);
   }
 
   private void checkNotCollected() {
@@ -25,9 +25,13 @@ import com.microsoft.playwright.TimeoutError;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
 
 import static com.microsoft.playwright.impl.Serialization.gson;
 import static java.lang.System.currentTimeMillis;
@@ -63,6 +67,10 @@ public class Connection {
   private int lastId = 0;
   private final StackTraceCollector stackTraceCollector;
   private final Map<Integer, WaitableResult<JsonElement>> callbacks = new HashMap<>();
+  // Notified with the method name after each event has been dispatched to its object.
+  private final List<Consumer<String>> eventObservers = new ArrayList<>();
+  // Tasks posted from other threads, run by the thread that processes incoming messages.
+  private final Queue<Runnable> postedTasks = new ConcurrentLinkedQueue<>();
   private String title;
   private boolean titleReported = false;
   private static final boolean isLogging;
@@ -128,14 +136,22 @@ public class Connection {
   }
 
   public JsonElement sendMessage(String guid, String method, JsonObject params) {
-    return root.runUntil(() -> {}, sendMessageAsync(guid, method, params));
+    return sendMessage(guid, method, params, Collections.emptyList());
+  }
+
+  JsonElement sendMessage(String guid, String method, JsonObject params, List<StreamedPayload> payloads) {
+    return root.runUntil(() -> {}, sendMessageAsync(guid, method, params, payloads));
   }
 
   public WaitableResult<JsonElement> sendMessageAsync(String guid, String method, JsonObject params) {
-    return internalSendMessage(guid, method, params, true);
+    return sendMessageAsync(guid, method, params, Collections.emptyList());
+  }
+
+  WaitableResult<JsonElement> sendMessageAsync(String guid, String method, JsonObject params, List<StreamedPayload> payloads) {
+    return internalSendMessage(guid, method, params, true, payloads);
   }
 
-  private WaitableResult<JsonElement> internalSendMessage(String guid, String method, JsonObject params, boolean sendStack) {
+  private WaitableResult<JsonElement> internalSendMessage(String guid, String method, JsonObject params, boolean sendStack, List<StreamedPayload> payloads) {
     int id = ++lastId;
     WaitableResult<JsonElement> result = new WaitableResult<>();
     callbacks.put(id, result);
@@ -168,14 +184,21 @@ public class Connection {
       }
     }
     message.add("metadata", metadata);
-    transport.send(message);
+    if (payloads.isEmpty()) {
+      transport.send(message);
+    } else if (transport instanceof StreamingTransport) {
+      ((StreamingTransport) transport).send(message, payloads);
+    } else {
+      StreamedPayload.inline(message, payloads);
+      transport.send(message);
+    }
     if (sendStack && tracingCount > 0 && stack != null && !method.startsWith("LocalUtils")) {
       JsonObject callData = new JsonObject();
       callData.addProperty("id", id);
       callData.add("stack", stack);
       JsonObject stackParams = new JsonObject();
       stackParams.add("callData", callData);
-      internalSendMessage(localUtils.guid,"addStackToTracingNoReply", stackParams, false);
+      internalSendMessage(localUtils.guid,"addStackToTracingNoReply", stackParams, false, Collections.emptyList());
     }
     return result;
   }
@@ -204,7 +227,25 @@ public class Connection {
     objects.remove(guid);
   }
 
+  void addEventObserver(Consumer<String> observer) {
+    eventObservers.add(observer);
+  }
+
+  void removeEventObserver(Consumer<String> observer) {
+    eventObservers.remove(observer);
+  }
+
+  /**
+   * Schedules {@code task} to run on the thread that processes messages. Can be called from any thread.
+   */
+  void post(Runnable task) {
+    postedTasks.add(task);
+  }
+
   void processOneMessage() {
+    for (Runnable task = postedTasks.poll(); task != null; task = postedTasks.poll()) {
+      task.run();
+    }
     JsonObject message = transport.poll(Duration.ofMillis(10));
     if (message == null) {
       return;
@@ -293,6 +334,9 @@ public class Connection {
       return;
     }
     object.handleEvent(message.method, message.params);
+    for (int i = 0; i < eventObservers.size(); i++) {
+      eventObservers.get(i).accept(message.method);
+    }
   }
 
   private ChannelOwner createRemoteObject(String parentGuid, JsonObject params) {
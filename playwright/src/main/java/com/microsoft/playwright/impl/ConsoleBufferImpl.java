@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.ConsoleBuffer;
+import com.microsoft.playwright.ConsoleMessage;
+import com.microsoft.playwright.JSHandle;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.microsoft.playwright.Page.CaptureConsoleOptions;
+
+class ConsoleBufferImpl implements ConsoleBuffer {
+  private static final int DEFAULT_CAPACITY = 1000;
+  private final PageImpl page;
+  private final boolean keepArgs;
+  private final Entry[] entries;
+  // Index of the oldest entry.
+  private int head;
+  private int size;
+  private int droppedCount;
+  private boolean isClosed;
+  private final Consumer<JsonObject> listener = this::capture;
+
+  /**
+   * A console message reduced to the fields that are cheap to keep.
+   */
+  private class Entry implements ConsoleMessage {
+    final String type;
+    final String text;
+    final JsonObject location;
+    final JsonArray args;
+
+    Entry(JsonObject params) {
+      type = params.get("type").getAsString();
+      text = params.get("text").getAsString();
+      location = params.getAsJsonObject("location");
+      args = keepArgs ? params.getAsJsonArray("args") : null;
+    }
+
+    @Override
+    public List<JSHandle> args() {
+      if (args == null) {
+        throw new PlaywrightException("Console message arguments were not captured, set CaptureConsoleOptions.keepArgs to capture them");
+      }
+      List<JSHandle> result = new ArrayList<>();
+      for (JsonElement item : args) {
+        result.add(page.connection.getExistingObject(item.getAsJsonObject().get("guid").getAsString()));
+      }
+      return result;
+    }
+
+    @Override
+    public String location() {
+      return location.get("url").getAsString() + ":" +
+        location.get("lineNumber").getAsNumber() + ":" +
+        location.get("columnNumber").getAsNumber();
+    }
+
+    @Override
+    public PageImpl page() {
+      return page;
+    }
+
+    @Override
+    public String text() {
+      return text;
+    }
+
+    @Override
+    public String type() {
+      return type;
+    }
+  }
+
+  ConsoleBufferImpl(PageImpl page, CaptureConsoleOptions options) {
+    if (options == null) {
+      options = new CaptureConsoleOptions();
+    }
+    int capacity = options.capacity == null ? DEFAULT_CAPACITY : options.capacity;
+    if (capacity < 1) {
+      throw new PlaywrightException("Capacity must be positive, got: " + capacity);
+    }
+    this.page = page;
+    this.keepArgs = options.keepArgs != null && options.keepArgs;
+    this.entries = new Entry[capacity];
+    page.listeners.addRaw(PageImpl.EventType.CONSOLE, listener);
+  }
+
+  private void capture(JsonObject params) {
+    Entry entry = new Entry(params);
+    if (size < entries.length) {
+      entries[(head + size++) % entries.length] = entry;
+    } else {
+      entries[head] = entry;
+      head = (head + 1) % entries.length;
+      ++droppedCount;
+    }
+  }
+
+  @Override
+  public List<ConsoleMessage> messages() {
+    List<ConsoleMessage> result = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      result.add(entries[(head + i) % entries.length]);
+    }
+    return result;
+  }
+
+  @Override
+  public int droppedCount() {
+    return droppedCount;
+  }
+
+  @Override
+  public String dump() {
+    StringBuilder result = new StringBuilder();
+    if (droppedCount > 0) {
+      result.append("... ").append(droppedCount).append(" earlier messages dropped\n");
+    }
+    for (int i = 0; i < size; i++) {
+      Entry entry = entries[(head + i) % entries.length];
+      result.append('[').append(entry.type).append("] ").append(entry.text)
+        .append(" (").append(entry.location()).append(")\n");
+    }
+    return result.toString();
+  }
+
+  @Override
+  public void clear() {
+    for (int i = 0; i < entries.length; i++) {
+      entries[i] = null;
+    }
+    head = 0;
+    size = 0;
+    droppedCount = 0;
+  }
+
+  @Override
+  public void close() {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    page.listeners.removeRaw(PageImpl.EventType.CONSOLE, listener);
+  }
+}
@@ -22,7 +22,10 @@ import com.microsoft.playwright.ConsoleMessage;
 import com.microsoft.playwright.JSHandle;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 public class ConsoleMessageImpl implements ConsoleMessage {
   private final Connection connection;
@@ -40,6 +43,17 @@ public class ConsoleMessageImpl implements ConsoleMessage {
     this.initializer = initializer;
   }
 
+  /**
+   * Returns a filter over raw "console" event params that accepts the given message types, or null if all are accepted.
+   */
+  static Predicate<JsonObject> typeFilter(List<String> types) {
+    if (types == null) {
+      return null;
+    }
+    Set<String> typeSet = new HashSet<>(types);
+    return params -> typeSet.contains(params.get("type").getAsString());
+  }
+
   public String type() {
     return initializer.get("type").getAsString();
   }
@@ -85,7 +85,7 @@ public class ElementHandleImpl extends JSHandleImpl implements ElementHandle {
     JsonObject params = new JsonObject();
     params.addProperty("selector", selector);
     params.addProperty("expression", pageFunction);
-    params.add("arg", gson().toJsonTree(serializeArgument(arg)));
+    params.add("arg", serializeArgument(arg));
     JsonElement json = sendMessage("evalOnSelector", params, NO_TIMEOUT);
     SerializedValue value = gson().fromJson(json.getAsJsonObject().get("value"), SerializedValue.class);
     return deserialize(value);
@@ -96,7 +96,7 @@ public class ElementHandleImpl extends JSHandleImpl implements ElementHandle {
     JsonObject params = new JsonObject();
     params.addProperty("selector", selector);
     params.addProperty("expression", pageFunction);
-    params.add("arg", gson().toJsonTree(serializeArgument(arg)));
+    params.add("arg", serializeArgument(arg));
     JsonElement json = sendMessage("evalOnSelectorAll", params, NO_TIMEOUT);
     SerializedValue value = gson().fromJson(json.getAsJsonObject().get("value"), SerializedValue.class);
     return deserialize(value);
@@ -151,7 +151,7 @@ public class ElementHandleImpl extends JSHandleImpl implements ElementHandle {
   public void dispatchEvent(String type, Object eventInit) {
     JsonObject params = new JsonObject();
     params.addProperty("type", type);
-    params.add("eventInit", gson().toJsonTree(serializeArgument(eventInit)));
+    params.add("eventInit", serializeArgument(eventInit));
     sendMessage("dispatchEvent", params, NO_TIMEOUT);
   }
 
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonElement;
+import com.microsoft.playwright.PlaywrightException;
+import org.opentest4j.MultipleFailuresError;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.microsoft.playwright.impl.Serialization.gson;
+
+/**
+ * Collects expectations issued by {@link AssertionsBase} and sends them to the driver back to back,
+ * so that a group of assertions that already hold costs a single round trip.
+ */
+public class ExpectBatch {
+  private static final ThreadLocal<ExpectBatch> current = new ThreadLocal<>();
+  private final List<Expectation> expectations = new ArrayList<>();
+
+  private static class Expectation {
+    final AssertionsBase assertions;
+    final String expression;
+    final FrameExpectOptions options;
+    final Object expected;
+    final String message;
+    final String title;
+    private final long deadlineNanos;
+    private int attempt;
+    WaitableResult<JsonElement> result;
+
+    Expectation(AssertionsBase assertions, String expression, FrameExpectOptions options, Object expected, String message, String title) {
+      this.assertions = assertions;
+      this.expression = expression;
+      this.options = options;
+      this.expected = expected;
+      this.message = message;
+      this.title = title;
+      deadlineNanos = options.timeout == 0 ? Long.MAX_VALUE : System.nanoTime() + (long) (options.timeout * 1_000_000);
+    }
+
+    void send() {
+      List<Double> intervals = assertions.pollingIntervals;
+      if (intervals != null) {
+        double interval = intervals.get(Math.min(attempt, intervals.size() - 1));
+        ++attempt;
+        double remaining = (deadlineNanos - System.nanoTime()) / 1_000_000.0;
+        // Driver treats zero as no timeout, so always give the attempt at least 1ms.
+        options.timeout = Math.max(1, Math.min(remaining, interval));
+      }
+      result = assertions.doExpectAsync(expression, options, title);
+    }
+
+    /**
+     * Returns false if the expectation has been re-sent and is still in flight.
+     */
+    boolean handleResult(List<Throwable> failures) {
+      FrameExpectResult frameResult;
+      try {
+        frameResult = gson().fromJson(result.get(), FrameExpectResult.class);
+      } catch (PlaywrightException e) {
+        failures.add(e);
+        return true;
+      }
+      if (frameResult.matches != assertions.isNot) {
+        return true;
+      }
+      if (assertions.pollingIntervals != null && System.nanoTime() < deadlineNanos) {
+        send();
+        return false;
+      }
+      failures.add(assertions.createFailure(frameResult, expected, message));
+      return true;
+    }
+  }
+
+  static boolean isActive() {
+    return current.get() != null;
+  }
+
+  static void expect(AssertionsBase assertions, String expression, FrameExpectOptions options, Object expected, String message, String title) {
+    Expectation expectation = new Expectation(assertions, expression, options, expected, message, title);
+    ExpectBatch batch = current.get();
+    if (batch != null) {
+      batch.expectations.add(expectation);
+      return;
+    }
+    List<Throwable> failures = execute(expectation);
+    if (!failures.isEmpty()) {
+      Throwable failure = failures.get(0);
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      }
+      throw (Error) failure;
+    }
+  }
+
+  public static void run(List<Runnable> blocks) {
+    if (isActive()) {
+      // Nested assertAll, expectations go to the outer batch.
+      for (Runnable block : blocks) {
+        block.run();
+      }
+      return;
+    }
+    ExpectBatch batch = new ExpectBatch();
+    List<Throwable> failures = new ArrayList<>();
+    current.set(batch);
+    try {
+      for (Runnable block : blocks) {
+        try {
+          block.run();
+        } catch (RuntimeException | AssertionError e) {
+          failures.add(e);
+        }
+      }
+    } finally {
+      current.remove();
+    }
+    failures.addAll(execute(batch.expectations.toArray(new Expectation[0])));
+    if (!failures.isEmpty()) {
+      throw new MultipleFailuresError(null, failures);
+    }
+  }
+
+  private static List<Throwable> execute(Expectation... expectations) {
+    List<Throwable> failures = new ArrayList<>();
+    Map<Connection, List<Expectation>> byConnection = new LinkedHashMap<>();
+    for (Expectation expectation : expectations) {
+      expectation.send();
+      Connection connection = expectation.assertions.expectFrame().connection;
+      byConnection.computeIfAbsent(connection, c -> new ArrayList<>()).add(expectation);
+    }
+    for (List<Expectation> inFlight : byConnection.values()) {
+      inFlight.get(0).assertions.expectFrame().runUntil(() -> {}, new Waitable<Void>() {
+        @Override
+        public boolean isDone() {
+          for (Iterator<Expectation> it = inFlight.iterator(); it.hasNext(); ) {
+            Expectation expectation = it.next();
+            if (expectation.result.isDone() && expectation.handleResult(failures)) {
+              it.remove();
+            }
+          }
+          return inFlight.isEmpty();
+        }
+
+        @Override
+        public Void get() {
+          return null;
+        }
+
+        @Override
+        public void dispose() {
+        }
+      });
+    }
+    return failures;
+  }
+}
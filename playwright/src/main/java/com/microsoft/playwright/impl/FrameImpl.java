@@ -23,6 +23,7 @@ import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.*;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -139,7 +140,7 @@ public class FrameImpl extends ChannelOwner implements Frame {
     JsonObject params = gson().toJsonTree(options).getAsJsonObject();
     params.addProperty("selector", selector);
     params.addProperty("expression", pageFunction);
-    params.add("arg", gson().toJsonTree(serializeArgument(arg)));
+    params.add("arg", serializeArgument(arg));
     JsonElement json = sendMessage("evalOnSelector", params, NO_TIMEOUT);
     SerializedValue value = gson().fromJson(json.getAsJsonObject().get("value"), SerializedValue.class);
     return deserialize(value);
@@ -154,7 +155,7 @@ public class FrameImpl extends ChannelOwner implements Frame {
     JsonObject params = new JsonObject();
     params.addProperty("selector", selector);
     params.addProperty("expression", pageFunction);
-    params.add("arg", gson().toJsonTree(serializeArgument(arg)));
+    params.add("arg", serializeArgument(arg));
     JsonElement json = sendMessage("evalOnSelectorAll", params, NO_TIMEOUT);
     SerializedValue value = gson().fromJson(json.getAsJsonObject().get("value"), SerializedValue.class);
     return deserialize(value);
@@ -264,7 +265,7 @@ public class FrameImpl extends ChannelOwner implements Frame {
     JsonObject params = gson().toJsonTree(options).getAsJsonObject();
     params.addProperty("selector", selector);
     params.addProperty("type", type);
-    params.add("eventInit", gson().toJsonTree(serializeArgument(eventInit)));
+    params.add("eventInit", serializeArgument(eventInit));
     sendMessage("dispatchEvent", params, timeout(options.timeout));
   }
 
@@ -273,18 +274,33 @@ public class FrameImpl extends ChannelOwner implements Frame {
     JsonObject params = new JsonObject();
     params.addProperty("expression", expression);
     params.addProperty("world", "main");
-    params.add("arg", gson().toJsonTree(serializeArgument(arg)));
+    params.add("arg", serializeArgument(arg));
     JsonElement json = sendMessage("evaluateExpression", params, NO_TIMEOUT);
     SerializedValue value = gson().fromJson(json.getAsJsonObject().get("value"), SerializedValue.class);
     return deserialize(value);
   }
 
+  @Override
+  public <T> T evaluate(String expression, Object arg, Class<T> type) {
+    return evaluate(expression, arg, (Type) type);
+  }
+
+  @Override
+  public <T> T evaluate(String expression, Object arg, Type type) {
+    JsonObject params = new JsonObject();
+    params.addProperty("expression", expression);
+    params.addProperty("world", "main");
+    params.add("arg", serializeArgument(arg));
+    JsonElement json = sendMessage("evaluateExpression", params, NO_TIMEOUT);
+    return SerializedValueDecoder.decode(json.getAsJsonObject().getAsJsonObject("value"), type);
+  }
+
   @Override
   public JSHandle evaluateHandle(String pageFunction, Object arg) {
     JsonObject params = new JsonObject();
     params.addProperty("expression", pageFunction);
     params.addProperty("world", "main");
-    params.add("arg", gson().toJsonTree(serializeArgument(arg)));
+    params.add("arg", serializeArgument(arg));
     JsonElement json = sendMessage("evaluateExpressionHandle", params, NO_TIMEOUT);
     return connection.getExistingObject(json.getAsJsonObject().getAsJsonObject("handle").get("guid").getAsString());
   }
@@ -802,7 +818,7 @@ public class FrameImpl extends ChannelOwner implements Frame {
     }
     JsonObject params = gson().toJsonTree(options).getAsJsonObject();
     params.addProperty("expression", pageFunction);
-    params.add("arg", gson().toJsonTree(serializeArgument(arg)));
+    params.add("arg", serializeArgument(arg));
     JsonElement json = sendMessage("waitForFunction", params, timeout(options.timeout));
     JsonObject element = json.getAsJsonObject().getAsJsonObject("handle");
     return connection.getExistingObject(element.get("guid").getAsString());
@@ -1098,4 +1114,12 @@ public class FrameImpl extends ChannelOwner implements Frame {
     FrameExpectResult result = gson().fromJson(json, FrameExpectResult.class);
     return result;
   }
+
+  WaitableResult<JsonElement> expectAsync(String expression, FrameExpectOptions options, String title) {
+    return withTitle(title, () -> {
+      JsonObject params = gson().toJsonTree(options).getAsJsonObject();
+      params.addProperty("expression", expression);
+      return sendMessageAsync("expect", params);
+    });
+  }
 }
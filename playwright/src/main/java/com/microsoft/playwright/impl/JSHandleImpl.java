@@ -52,7 +52,7 @@ public class JSHandleImpl extends ChannelOwner implements JSHandle {
     JsonObject params = new JsonObject();
     params.addProperty("expression", pageFunction);
     params.addProperty("world", "main");
-    params.add("arg", gson().toJsonTree(serializeArgument(arg)));
+    params.add("arg", serializeArgument(arg));
     JsonElement json = sendMessage("evaluateExpression", params, NO_TIMEOUT);
     SerializedValue value = gson().fromJson(json.getAsJsonObject().get("value"), SerializedValue.class);
     return deserialize(value);
@@ -63,7 +63,7 @@ public class JSHandleImpl extends ChannelOwner implements JSHandle {
     JsonObject params = new JsonObject();
     params.addProperty("expression", pageFunction);
     params.addProperty("world", "main");
-    params.add("arg", gson().toJsonTree(serializeArgument(arg)));
+    params.add("arg", serializeArgument(arg));
     JsonElement json = sendMessage("evaluateExpressionHandle", params, NO_TIMEOUT);
     return connection.getExistingObject(json.getAsJsonObject().getAsJsonObject("handle").get("guid").getAsString());
   }
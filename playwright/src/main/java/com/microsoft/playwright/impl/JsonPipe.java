@@ -16,20 +16,23 @@
 
 package com.microsoft.playwright.impl;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.microsoft.playwright.PlaywrightException;
 
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
 import java.util.Queue;
 import java.util.function.Consumer;
 
 import static com.microsoft.playwright.impl.Serialization.gson;
 
 class JsonPipe extends ChannelOwner implements Transport {
-  private final Queue<JsonObject> incoming = new LinkedList<>();
+  private final Queue<JsonObject> incoming = new ArrayDeque<>();
+  // Acknowledgements of the "send" calls that have not arrived yet, oldest first.
+  private final Queue<WaitableResult<JsonElement>> pendingSends = new ArrayDeque<>();
   private ListenerCollection<EventType> listeners = new ListenerCollection<>();
   private enum EventType { CLOSE }
   private boolean isClosed;
@@ -44,7 +47,27 @@ class JsonPipe extends ChannelOwner implements Transport {
     checkIfClosed();
     JsonObject params = new JsonObject();
     params.add("message", message);
-    sendMessage("send", params, NO_TIMEOUT);
+    // The driver forwards messages in the order it receives them, so there is no need to wait for
+    // the acknowledgement. A failed send closes the pipe.
+    pendingSends.add(sendMessageAsync("send", params));
+    checkPendingSends();
+  }
+
+  private void checkPendingSends() {
+    while (!pendingSends.isEmpty() && pendingSends.peek().isDone()) {
+      try {
+        pendingSends.remove().get();
+      } catch (PlaywrightException e) {
+        pendingSends.clear();
+        try {
+          sendMessageAsync("close");
+        } catch (PlaywrightException ignored) {
+          // The outer connection may be gone as well.
+        }
+        didClose(e.getMessage());
+        return;
+      }
+    }
   }
 
   @Override
@@ -58,6 +81,7 @@ class JsonPipe extends ChannelOwner implements Transport {
           message = incoming.remove();
           return true;
         }
+        checkPendingSends();
         checkIfClosed();
         if (Duration.between(start, Instant.now()).compareTo(timeout) > 0) {
           return true;
@@ -97,15 +121,19 @@ class JsonPipe extends ChannelOwner implements Transport {
     if ("message".equals(event)) {
       incoming.add(params.get("message").getAsJsonObject());
     } else if ("closed".equals(event)) {
-      isClosed = true;
-      if (params.has("reason")) {
-        String reason = params.get("reason").getAsString();
-        if (reason.trim().length() > 0) {
-          closeReason = reason;
-        }
-      }
-      listeners.notify(EventType.CLOSE, this);
+      didClose(params.has("reason") ? params.get("reason").getAsString() : null);
+    }
+  }
+
+  private void didClose(String reason) {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    if (reason != null && reason.trim().length() > 0) {
+      closeReason = reason;
     }
+    listeners.notify(EventType.CLOSE, this);
   }
 
   private void checkIfClosed() {
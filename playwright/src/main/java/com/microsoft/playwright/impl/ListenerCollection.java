@@ -20,12 +20,86 @@ import com.google.gson.JsonObject;
 import com.microsoft.playwright.PlaywrightException;
 
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static java.util.Arrays.asList;
 
 class ListenerCollection <EventType> {
-  private final HashMap<EventType, List<Consumer<?>>> listeners = new HashMap<>();
+  private static final Listener[] NO_LISTENERS = new Listener[0];
+  // Listener arrays are copied on write, so notify() can iterate them without allocating.
+  private final HashMap<EventType, Listener[]> listeners = new HashMap<>();
+  // Internal consumers of raw protocol params, they don't cause event objects to be created.
+  private final HashMap<EventType, Consumer<?>[]> rawListeners = new HashMap<>();
   private final Map<EventType, String> eventSubscriptions;
   private final ChannelOwner channelOwner;
+  // Event types that may be delivered asynchronously once an executor is set.
+  private Set<EventType> asyncEventTypes = Collections.emptySet();
+  private SerialExecutor executor;
+
+  private static class Listener {
+    final Consumer<Object> consumer;
+    final Predicate<JsonObject> filter;
+    final boolean isSync;
+
+    @SuppressWarnings("unchecked")
+    Listener(Consumer<?> consumer, Predicate<JsonObject> filter, boolean isSync) {
+      this.consumer = (Consumer<Object>) consumer;
+      this.filter = filter;
+      this.isSync = isSync;
+    }
+
+    boolean accepts(JsonObject params) {
+      return filter == null || params == null || filter.test(params);
+    }
+  }
+
+  /**
+   * Runs tasks one at a time on the underlying executor, in submission order.
+   */
+  private static class SerialExecutor implements Executor {
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private boolean isRunning;
+
+    SerialExecutor(Executor executor) {
+      this.executor = executor;
+    }
+
+    @Override
+    public synchronized void execute(Runnable task) {
+      tasks.add(task);
+      if (!isRunning) {
+        scheduleNext();
+      }
+    }
+
+    private synchronized void scheduleNext() {
+      Runnable task = tasks.poll();
+      isRunning = task != null;
+      if (task == null) {
+        return;
+      }
+      try {
+        executor.execute(() -> {
+          try {
+            task.run();
+          } finally {
+            scheduleNext();
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        // Typically the executor has been shut down. Running the listeners inline could run them on the connection
+        // thread, so the pending calls are dropped and the next event tries the executor again.
+        System.err.println("WARNING: Listener executor rejected a task, dropped " + (tasks.size() + 1) +
+          " listener call(s): " + e);
+        tasks.clear();
+        isRunning = false;
+      }
+    }
+  }
 
   ListenerCollection() {
     this(null, null);
@@ -35,46 +109,176 @@ class ListenerCollection <EventType> {
     this.channelOwner = channelOwner;
   }
 
+  /**
+   * Delivers events of {@code eventTypes} to non-internal listeners on {@code executor}, preserving
+   * the event order. Passing null restores synchronous delivery.
+   */
+  void setExecutor(Executor executor, Set<EventType> eventTypes) {
+    this.executor = executor == null ? null : new SerialExecutor(executor);
+    this.asyncEventTypes = executor == null ? Collections.emptySet() : eventTypes;
+  }
+
   <T> void notify(EventType eventType, T param) {
-    List<Consumer<?>> list = listeners.get(eventType);
+    notify(eventType, param, null);
+  }
+
+  /**
+   * Notifies listeners whose filter accepts the raw protocol {@code params} of the event.
+   */
+  <T> void notify(EventType eventType, T param, JsonObject params) {
+    Listener[] list = listeners.get(eventType);
+    if (list == null) {
+      return;
+    }
+    boolean isAsync = executor != null && asyncEventTypes.contains(eventType);
+    for (Listener listener : list) {
+      if (!listener.accepts(params)) {
+        continue;
+      }
+      if (isAsync && !listener.isSync) {
+        executor.execute(() -> listener.consumer.accept(param));
+      } else {
+        listener.consumer.accept(param);
+      }
+    }
+  }
+
+  /**
+   * Passes raw protocol {@code params} to the listeners added with {@link #addRaw}.
+   */
+  @SuppressWarnings("unchecked")
+  void notifyRaw(EventType eventType, JsonObject params) {
+    Consumer<?>[] list = rawListeners.get(eventType);
     if (list == null) {
       return;
     }
+    for (Consumer<?> listener : list) {
+      ((Consumer<JsonObject>) listener).accept(params);
+    }
+  }
+
+  /**
+   * Adds an internal listener of raw event params. It keeps the event subscribed, but doesn't count
+   * in {@link #hasListeners}.
+   */
+  void addRaw(EventType type, Consumer<JsonObject> listener) {
+    Consumer<?>[] list = rawListeners.get(type);
+    if (list == null) {
+      list = new Consumer<?>[0];
+      if (!listeners.containsKey(type)) {
+        updateSubscription(type, true);
+      }
+    }
+    Consumer<?>[] newList = Arrays.copyOf(list, list.length + 1);
+    newList[list.length] = listener;
+    rawListeners.put(type, newList);
+  }
 
-    for (Consumer<?> listener: new ArrayList<>(list)) {
-      ((Consumer<T>) listener).accept(param);
+  void removeRaw(EventType type, Consumer<JsonObject> listener) {
+    Consumer<?>[] list = rawListeners.get(type);
+    if (list == null) {
+      return;
+    }
+    List<Consumer<?>> newList = new ArrayList<>(asList(list));
+    if (!newList.remove(listener)) {
+      return;
+    }
+    if (!newList.isEmpty()) {
+      rawListeners.put(type, newList.toArray(new Consumer<?>[0]));
+      return;
+    }
+    rawListeners.remove(type);
+    if (!listeners.containsKey(type)) {
+      updateSubscription(type, false);
     }
   }
 
   void add(EventType type, Consumer<?> listener) {
-    if (listener == null) {
+    add(type, listener, null);
+  }
+
+  /**
+   * Adds a listener that only receives events whose protocol params match {@code filter}.
+   * The filter runs before the event object is created.
+   */
+  void add(EventType type, Consumer<?> listener, Predicate<JsonObject> filter) {
+    addListener(type, new Listener(listener, filter, false));
+  }
+
+  /**
+   * Adds an internal listener that is always called synchronously, even if an executor is set.
+   */
+  void addSync(EventType type, Consumer<?> listener) {
+    addListener(type, new Listener(listener, null, true));
+  }
+
+  private void addListener(EventType type, Listener listener) {
+    if (listener.consumer == null) {
       throw new PlaywrightException("Can't add a null listener");
     }
-    List<Consumer<?>> list = listeners.get(type);
+    Listener[] list = listeners.get(type);
     if (list == null) {
-      list = new ArrayList<>();
-      listeners.put(type, list);
-      updateSubscription(type, true);
+      list = NO_LISTENERS;
+      if (!rawListeners.containsKey(type)) {
+        updateSubscription(type, true);
+      }
     }
-    list.add(listener);
+    Listener[] newList = Arrays.copyOf(list, list.length + 1);
+    newList[list.length] = listener;
+    listeners.put(type, newList);
   }
 
   void remove(EventType type, Consumer<?>  listener) {
-    List<Consumer<?>> list = listeners.get(type);
+    Listener[] list = listeners.get(type);
     if (list == null) {
       return;
     }
-    list.removeAll(Collections.singleton(listener));
-    if (list.isEmpty()) {
-      updateSubscription(type, false);
+    int count = 0;
+    for (Listener l : list) {
+      if (!l.consumer.equals(listener)) {
+        ++count;
+      }
+    }
+    if (count == list.length) {
+      return;
+    }
+    if (count == 0) {
+      if (!rawListeners.containsKey(type)) {
+        updateSubscription(type, false);
+      }
       listeners.remove(type);
+      return;
+    }
+    Listener[] newList = new Listener[count];
+    int i = 0;
+    for (Listener l : list) {
+      if (!l.consumer.equals(listener)) {
+        newList[i++] = l;
+      }
     }
+    listeners.put(type, newList);
   }
 
   boolean hasListeners(EventType type) {
     return listeners.containsKey(type);
   }
 
+  /**
+   * Returns true if some listener of {@code type} would accept an event with the given protocol params.
+   */
+  boolean hasListeners(EventType type, JsonObject params) {
+    Listener[] list = listeners.get(type);
+    if (list == null) {
+      return false;
+    }
+    for (Listener listener : list) {
+      if (listener.accepts(params)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private void updateSubscription(EventType eventType, boolean enabled) {
     if (eventSubscriptions == null) {
       return;
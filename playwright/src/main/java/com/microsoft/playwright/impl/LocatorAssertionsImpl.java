@@ -16,6 +16,7 @@
 
 package com.microsoft.playwright.impl;
 
+import com.google.gson.JsonElement;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.assertions.LocatorAssertions;
 import com.microsoft.playwright.options.AriaRole;
@@ -33,11 +34,11 @@ public class LocatorAssertionsImpl extends AssertionsBase implements LocatorAsse
   LocatorImpl actualLocator;
 
   public LocatorAssertionsImpl(Locator locator) {
-    this(locator, false);
+    this(locator, false, null);
   }
 
-  private LocatorAssertionsImpl(Locator locator, boolean isNot) {
-    super(isNot);
+  private LocatorAssertionsImpl(Locator locator, boolean isNot, List<Double> pollingIntervals) {
+    super(isNot, pollingIntervals);
     this.actualLocator = (LocatorImpl) locator;
   }
 
@@ -46,6 +47,16 @@ public class LocatorAssertionsImpl extends AssertionsBase implements LocatorAsse
     return actualLocator.expect(expression, expectOptions, title);
   }
 
+  @Override
+  WaitableResult<JsonElement> doExpectAsync(String expression, FrameExpectOptions expectOptions, String title) {
+    return actualLocator.expectAsync(expression, expectOptions, title);
+  }
+
+  @Override
+  FrameImpl expectFrame() {
+    return actualLocator.frame;
+  }
+
 
   @Override
   public void containsClass(String classname, ContainsClassOptions options) {
@@ -473,7 +484,12 @@ public class LocatorAssertionsImpl extends AssertionsBase implements LocatorAsse
 
   @Override
   public LocatorAssertions not() {
-    return new LocatorAssertionsImpl(actualLocator, !isNot);
+    return new LocatorAssertionsImpl(actualLocator, !isNot, pollingIntervals);
+  }
+
+  @Override
+  public LocatorAssertions withPollingIntervals(double... intervals) {
+    return new LocatorAssertionsImpl(actualLocator, isNot, toPollingIntervals(intervals));
   }
 
   @Override
@@ -23,7 +23,9 @@ import com.microsoft.playwright.options.*;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.regex.Pattern;
 
@@ -585,6 +587,83 @@ class LocatorImpl implements Locator {
     frame.setInputFiles(selector, files, convertType(options, Frame.SetInputFilesOptions.class).setStrict(true));
   }
 
+  @Override
+  public LocatorSnapshot snapshotAll(SnapshotAllOptions options) {
+    if (options == null) {
+      options = new SnapshotAllOptions();
+    }
+    List<String> fields = new ArrayList<>();
+    if (options.fields != null) {
+      for (SnapshotField field : options.fields) {
+        fields.add(field.name());
+      }
+    }
+    Map<String, Object> arg = new HashMap<>();
+    arg.put("fields", fields);
+    arg.put("attributes", options.attributes == null ? new ArrayList<>() : options.attributes);
+    @SuppressWarnings("unchecked")
+    Map<String, Object> columns = (Map<String, Object>) frame.evalOnSelectorAll(selector, SNAPSHOT_ALL_SCRIPT, arg);
+    return toLocatorSnapshot(columns);
+  }
+
+  private static final String SNAPSHOT_ALL_SCRIPT = "(elements, { fields, attributes }) => {\n" +
+    "  const isVisible = e => {\n" +
+    "    const style = getComputedStyle(e);\n" +
+    "    if (style.display === 'contents')\n" +
+    "      return Array.from(e.children).some(isVisible);\n" +
+    "    if (style.visibility !== 'visible' || (e.checkVisibility && !e.checkVisibility()))\n" +
+    "      return false;\n" +
+    "    const rect = e.getBoundingClientRect();\n" +
+    "    return rect.width > 0 && rect.height > 0;\n" +
+    "  };\n" +
+    "  const getters = {\n" +
+    "    TEXT_CONTENT: e => e.textContent || '',\n" +
+    "    INNER_TEXT: e => e.innerText,\n" +
+    "    INPUT_VALUE: e => ['INPUT', 'TEXTAREA', 'SELECT'].includes(e.nodeName) ? e.value : null,\n" +
+    "    VISIBLE: isVisible,\n" +
+    "    CHECKED: e => e.nodeName === 'INPUT' && ['checkbox', 'radio'].includes(e.type) ? e.checked : null,\n" +
+    "    BOUNDING_BOX: e => {\n" +
+    "      const rect = e.getBoundingClientRect();\n" +
+    "      return rect.width || rect.height ? { x: rect.x, y: rect.y, width: rect.width, height: rect.height } : null;\n" +
+    "    },\n" +
+    "  };\n" +
+    "  const result = { count: elements.length, attributes: {} };\n" +
+    "  for (const field of fields)\n" +
+    "    result[field] = elements.map(getters[field]);\n" +
+    "  for (const name of attributes)\n" +
+    "    result.attributes[name] = elements.map(e => e.getAttribute(name));\n" +
+    "  return result;\n" +
+    "}";
+
+  @SuppressWarnings("unchecked")
+  private static LocatorSnapshot toLocatorSnapshot(Map<String, Object> columns) {
+    LocatorSnapshot snapshot = new LocatorSnapshot();
+    snapshot.count = ((Number) columns.get("count")).intValue();
+    snapshot.textContent = (List<String>) columns.get(SnapshotField.TEXT_CONTENT.name());
+    snapshot.innerText = (List<String>) columns.get(SnapshotField.INNER_TEXT.name());
+    snapshot.inputValue = (List<String>) columns.get(SnapshotField.INPUT_VALUE.name());
+    snapshot.visible = (List<Boolean>) columns.get(SnapshotField.VISIBLE.name());
+    snapshot.checked = (List<Boolean>) columns.get(SnapshotField.CHECKED.name());
+    List<Map<String, Object>> boxes = (List<Map<String, Object>>) columns.get(SnapshotField.BOUNDING_BOX.name());
+    if (boxes != null) {
+      snapshot.boundingBox = new ArrayList<>(boxes.size());
+      for (Map<String, Object> box : boxes) {
+        snapshot.boundingBox.add(box == null ? null : toBoundingBox(box));
+      }
+    }
+    snapshot.attributes = (Map<String, List<String>>) columns.get("attributes");
+    return snapshot;
+  }
+
+  private static BoundingBox toBoundingBox(Map<String, Object> box) {
+    BoundingBox result = new BoundingBox();
+    result.x = ((Number) box.get("x")).doubleValue();
+    result.y = ((Number) box.get("y")).doubleValue();
+    result.width = ((Number) box.get("width")).doubleValue();
+    result.height = ((Number) box.get("height")).doubleValue();
+    return result;
+  }
+
   @Override
   public void tap(TapOptions options) {
     if (options == null) {
@@ -649,6 +728,11 @@ class LocatorImpl implements Locator {
     return frame.expect(expression, options, title);
   }
 
+  WaitableResult<JsonElement> expectAsync(String expression, FrameExpectOptions options, String title) {
+    options.selector = selector;
+    return frame.expectAsync(expression, options, title);
+  }
+
   JsonObject toProtocol() {
     JsonObject result = new JsonObject();
     result.add("frame", frame.toProtocolRef());
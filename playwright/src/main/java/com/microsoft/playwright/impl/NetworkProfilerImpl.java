@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.NetworkProfiler;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.options.LatencyStats;
+import com.microsoft.playwright.options.NetworkSummary;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Stores one row per request in parallel primitive arrays. Strings (hosts, resource types) are interned
+ * into a shared table, transfer sizes are requested without blocking when a request finishes and are
+ * only awaited when a summary is built.
+ */
+class NetworkProfilerImpl implements NetworkProfiler {
+  private static final int FAILED = 1;
+  private static final int CACHED = 2;
+  // Page id used for summaries over all rows, rows without a page have id -1.
+  private static final int ALL_PAGES = -2;
+  // Page id that matches no rows, used for pages that have been closed and forgotten.
+  private static final int NO_PAGE = -3;
+
+  private final BrowserContextImpl context;
+  private final ListenerCollection<EventType> listeners = new ListenerCollection<>();
+  private final Consumer<RequestImpl> requestFinishedListener = request -> record(request, false);
+  private final Consumer<RequestImpl> requestFailedListener = request -> record(request, true);
+  private final Consumer<PageImpl> pageListener = this::trackPage;
+  private final Consumer<PageImpl> pageCloseListener = this::pageClosed;
+  private boolean isDetached;
+
+  private int size;
+  private double[] startTimes = new double[64];
+  // Milliseconds from request start to response end, negative if unknown.
+  private double[] durations = new double[64];
+  private int[] hosts = new int[64];
+  private int[] resourceTypes = new int[64];
+  private int[] pages = new int[64];
+  private byte[] flags = new byte[64];
+  // Transferred bytes, negative while the sizes are still pending.
+  private long[] bytes = new long[64];
+  private Object[] pendingSizes = new Object[64];
+
+  private final List<String> strings = new ArrayList<>();
+  private final Map<String, Integer> stringIds = new HashMap<>();
+  // Open pages only, rows keep the ids of closed pages.
+  private final Map<PageImpl, Integer> pageIds = new HashMap<>();
+  private int nextPageId;
+
+  private enum EventType {
+    PAGESUMMARY,
+  }
+
+  NetworkProfilerImpl(BrowserContextImpl context) {
+    this.context = context;
+    context.listeners.addSync(BrowserContextImpl.EventType.REQUESTFINISHED, requestFinishedListener);
+    context.listeners.addSync(BrowserContextImpl.EventType.REQUESTFAILED, requestFailedListener);
+    context.listeners.addSync(BrowserContextImpl.EventType.PAGE, pageListener);
+    for (PageImpl page : context.pages) {
+      trackPage(page);
+    }
+  }
+
+  @Override
+  public void onPageSummary(Consumer<NetworkSummary> handler) {
+    listeners.add(EventType.PAGESUMMARY, handler);
+  }
+
+  @Override
+  public void offPageSummary(Consumer<NetworkSummary> handler) {
+    listeners.remove(EventType.PAGESUMMARY, handler);
+  }
+
+  @Override
+  public int requestCount() {
+    return size;
+  }
+
+  @Override
+  public NetworkSummary summary() {
+    return summarize(ALL_PAGES, null);
+  }
+
+  @Override
+  public NetworkSummary summary(Page page) {
+    Integer id = pageIds.get((PageImpl) page);
+    return summarize(id == null ? NO_PAGE : id, page.url());
+  }
+
+  @Override
+  public void detach() {
+    if (isDetached) {
+      return;
+    }
+    isDetached = true;
+    context.listeners.remove(BrowserContextImpl.EventType.REQUESTFINISHED, requestFinishedListener);
+    context.listeners.remove(BrowserContextImpl.EventType.REQUESTFAILED, requestFailedListener);
+    context.listeners.remove(BrowserContextImpl.EventType.PAGE, pageListener);
+    for (PageImpl page : pageIds.keySet()) {
+      page.listeners.remove(PageImpl.EventType.CLOSE, pageCloseListener);
+    }
+  }
+
+  private void trackPage(PageImpl page) {
+    pageId(page);
+    page.listeners.addSync(PageImpl.EventType.CLOSE, pageCloseListener);
+  }
+
+  private void pageClosed(PageImpl page) {
+    if (listeners.hasListeners(EventType.PAGESUMMARY)) {
+      listeners.notify(EventType.PAGESUMMARY, summary(page));
+    }
+    page.listeners.remove(PageImpl.EventType.CLOSE, pageCloseListener);
+    pageIds.remove(page);
+  }
+
+  private int pageId(PageImpl page) {
+    Integer id = pageIds.get(page);
+    if (id == null) {
+      id = nextPageId++;
+      pageIds.put(page, id);
+    }
+    return id;
+  }
+
+  private int intern(String value) {
+    Integer id = stringIds.get(value);
+    if (id == null) {
+      id = strings.size();
+      strings.add(value);
+      stringIds.put(value, id);
+    }
+    return id;
+  }
+
+  private void record(RequestImpl request, boolean failed) {
+    if (size == startTimes.length) {
+      int capacity = size * 2;
+      startTimes = Arrays.copyOf(startTimes, capacity);
+      durations = Arrays.copyOf(durations, capacity);
+      hosts = Arrays.copyOf(hosts, capacity);
+      resourceTypes = Arrays.copyOf(resourceTypes, capacity);
+      pages = Arrays.copyOf(pages, capacity);
+      flags = Arrays.copyOf(flags, capacity);
+      bytes = Arrays.copyOf(bytes, capacity);
+      pendingSizes = Arrays.copyOf(pendingSizes, capacity);
+    }
+    int row = size++;
+    if (request.timing != null) {
+      startTimes[row] = request.timing.startTime;
+      durations[row] = request.timing.responseEnd;
+    } else {
+      startTimes[row] = -1;
+      durations[row] = -1;
+    }
+    hosts[row] = intern(host(request.url()));
+    resourceTypes[row] = intern(request.resourceType());
+    pages[row] = pageOf(request);
+    int rowFlags = failed ? FAILED : 0;
+    ResponseImpl response = request.existingResponse;
+    if (response != null) {
+      if (response.status() == 304 || response.fromServiceWorker()) {
+        rowFlags |= CACHED;
+      }
+      if (!failed) {
+        bytes[row] = -1;
+        pendingSizes[row] = response.sendMessageAsync("sizes");
+      }
+    }
+    flags[row] = (byte) rowFlags;
+  }
+
+  private int pageOf(RequestImpl request) {
+    if (!request.initializer.has("frame")) {
+      return -1;
+    }
+    try {
+      FrameImpl frame = connection().getExistingObject(request.initializer.getAsJsonObject("frame").get("guid").getAsString());
+      // Requests finishing after their page has closed are only counted in the summary of all pages.
+      return frame.page == null || frame.page.isClosed() ? -1 : pageId(frame.page);
+    } catch (PlaywrightException e) {
+      return -1;
+    }
+  }
+
+  private Connection connection() {
+    return context.connection;
+  }
+
+  private static String host(String url) {
+    try {
+      String host = new URI(url).getHost();
+      return host == null ? "" : host;
+    } catch (URISyntaxException e) {
+      return "";
+    }
+  }
+
+  private long bytes(int row) {
+    if (bytes[row] < 0) {
+      @SuppressWarnings("unchecked")
+      WaitableResult<JsonElement> result = (WaitableResult<JsonElement>) pendingSizes[row];
+      pendingSizes[row] = null;
+      long total = 0;
+      try {
+        JsonObject sizes = context.runUntil(() -> {}, result).getAsJsonObject().getAsJsonObject("sizes");
+        total = sizes.get("requestHeadersSize").getAsLong() + sizes.get("requestBodySize").getAsLong() +
+          sizes.get("responseHeadersSize").getAsLong() + sizes.get("responseBodySize").getAsLong();
+      } catch (PlaywrightException e) {
+        // The page or the context may have been closed, the sizes are unknown.
+      }
+      bytes[row] = total;
+    }
+    return bytes[row];
+  }
+
+  /**
+   * Builds a summary of rows of the given page, or of all rows if {@code pageId} is {@link #ALL_PAGES}.
+   */
+  private NetworkSummary summarize(int pageId, String pageUrl) {
+    NetworkSummary summary = new NetworkSummary();
+    summary.pageUrl = pageUrl;
+    summary.bytesByResourceType = new LinkedHashMap<>();
+    summary.latencyByHost = new LinkedHashMap<>();
+    Map<Integer, double[]> hostDurations = new LinkedHashMap<>();
+    Map<Integer, Integer> hostCounts = new HashMap<>();
+    int timedCount = 0;
+    int[] timedRows = new int[size];
+    for (int row = 0; row < size; row++) {
+      if (pageId != ALL_PAGES && pages[row] != pageId) {
+        continue;
+      }
+      ++summary.requestCount;
+      if ((flags[row] & FAILED) != 0) {
+        ++summary.failedCount;
+        continue;
+      }
+      if ((flags[row] & CACHED) != 0) {
+        ++summary.cachedCount;
+      }
+      summary.bytesByResourceType.merge(strings.get(resourceTypes[row]), bytes(row), Long::sum);
+      if (startTimes[row] >= 0 && durations[row] >= 0) {
+        timedRows[timedCount++] = row;
+        int count = hostCounts.merge(hosts[row], 1, Integer::sum);
+        double[] values = hostDurations.get(hosts[row]);
+        if (values == null || values.length < count) {
+          values = values == null ? new double[8] : Arrays.copyOf(values, values.length * 2);
+          hostDurations.put(hosts[row], values);
+        }
+        values[count - 1] = durations[row];
+      }
+    }
+    for (Map.Entry<Integer, double[]> entry : hostDurations.entrySet()) {
+      int count = hostCounts.get(entry.getKey());
+      double[] values = Arrays.copyOf(entry.getValue(), count);
+      Arrays.sort(values);
+      LatencyStats stats = new LatencyStats();
+      stats.count = count;
+      stats.p50 = percentile(values, 50);
+      stats.p95 = percentile(values, 95);
+      stats.max = values[count - 1];
+      summary.latencyByHost.put(strings.get(entry.getKey()), stats);
+    }
+    computeCriticalPath(summary, Arrays.copyOf(timedRows, timedCount));
+    return summary;
+  }
+
+  private static double percentile(double[] sorted, int percentile) {
+    int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+    return sorted[Math.max(0, rank - 1)];
+  }
+
+  /**
+   * Finds the longest chain of requests where each request started after the previous one had ended.
+   */
+  private void computeCriticalPath(NetworkSummary summary, int[] rows) {
+    if (rows.length == 0) {
+      return;
+    }
+    Integer[] byEnd = new Integer[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      byEnd[i] = rows[i];
+    }
+    Arrays.sort(byEnd, Comparator.comparingDouble(row -> startTimes[row] + durations[row]));
+    double[] ends = new double[rows.length];
+    // Length and start time of the longest chain ending at each request, and the running best prefix.
+    int[] chainLength = new int[rows.length];
+    double[] chainStart = new double[rows.length];
+    int[] bestPrefix = new int[rows.length];
+    int best = 0;
+    for (int i = 0; i < byEnd.length; i++) {
+      int row = byEnd[i];
+      ends[i] = startTimes[row] + durations[row];
+      // Number of requests that ended at or before this one started.
+      int previous = upperBound(ends, i, startTimes[row]);
+      if (previous > 0) {
+        int p = bestPrefix[previous - 1];
+        chainLength[i] = chainLength[p] + 1;
+        chainStart[i] = chainStart[p];
+      } else {
+        chainLength[i] = 1;
+        chainStart[i] = startTimes[row];
+      }
+      bestPrefix[i] = (i > 0 && chainLength[bestPrefix[i - 1]] >= chainLength[i]) ? bestPrefix[i - 1] : i;
+      if (chainLength[i] > chainLength[best]) {
+        best = i;
+      }
+    }
+    summary.criticalPathLength = chainLength[best];
+    summary.criticalPathDuration = ends[best] - chainStart[best];
+  }
+
+  private static int upperBound(double[] sorted, int length, double value) {
+    int low = 0;
+    int high = length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (sorted[mid] <= value) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.microsoft.playwright.impl;
 
+import com.google.gson.JsonElement;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.assertions.PageAssertions;
 
@@ -38,8 +39,17 @@ public class PageAssertionsImpl extends AssertionsBase implements PageAssertions
 
   @Override
   FrameExpectResult doExpect(String expression, FrameExpectOptions expectOptions, String title) {
-    FrameImpl frame = (FrameImpl) actualPage.mainFrame();
-    return frame.expect(expression, expectOptions, title);
+    return expectFrame().expect(expression, expectOptions, title);
+  }
+
+  @Override
+  WaitableResult<JsonElement> doExpectAsync(String expression, FrameExpectOptions expectOptions, String title) {
+    return expectFrame().expectAsync(expression, expectOptions, title);
+  }
+
+  @Override
+  FrameImpl expectFrame() {
+    return (FrameImpl) actualPage.mainFrame();
   }
 
   @Override
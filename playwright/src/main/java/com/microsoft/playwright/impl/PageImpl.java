@@ -23,8 +23,10 @@ import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.*;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -267,6 +269,11 @@ public class PageImpl extends ChannelOwner implements Page {
     listeners.remove(EventType.CONSOLE, handler);
   }
 
+  @Override
+  public void onConsoleMessage(Consumer<ConsoleMessage> handler, OnConsoleMessageOptions options) {
+    listeners.add(EventType.CONSOLE, handler, options == null ? null : ConsoleMessageImpl.typeFilter(options.types));
+  }
+
   @Override
   public void onCrash(Consumer<Page> handler) {
     listeners.add(EventType.CRASH, handler);
@@ -387,6 +394,14 @@ public class PageImpl extends ChannelOwner implements Page {
     listeners.remove(EventType.REQUEST, handler);
   }
 
+  @Override
+  public void onRequest(Consumer<Request> handler, OnRequestOptions options) {
+    if (options == null) {
+      options = new OnRequestOptions();
+    }
+    listeners.add(EventType.REQUEST, handler, browserContext.networkEventFilter("request", options.url, options.resourceTypes));
+  }
+
   @Override
   public void onRequestFailed(Consumer<Request> handler) {
     listeners.add(EventType.REQUESTFAILED, handler);
@@ -417,6 +432,14 @@ public class PageImpl extends ChannelOwner implements Page {
     listeners.remove(EventType.RESPONSE, handler);
   }
 
+  @Override
+  public void onResponse(Consumer<Response> handler, OnResponseOptions options) {
+    if (options == null) {
+      options = new OnResponseOptions();
+    }
+    listeners.add(EventType.RESPONSE, handler, browserContext.networkEventFilter("response", options.url, options.resourceTypes));
+  }
+
   @Override
   public void onWebSocket(Consumer<WebSocket> handler) {
     listeners.add(EventType.WEBSOCKET, handler);
@@ -665,6 +688,18 @@ public class PageImpl extends ChannelOwner implements Page {
     return mainFrame.addStyleTagImpl(convertType(options, Frame.AddStyleTagOptions.class));
   }
 
+  @Override
+  public void batch(Consumer<ActionBatch> steps) {
+    ActionBatchImpl batch = new ActionBatchImpl(this);
+    steps.accept(batch);
+    batch.run();
+  }
+
+  @Override
+  public ConsoleBuffer captureConsole(CaptureConsoleOptions options) {
+    return new ConsoleBufferImpl(this, options);
+  }
+
   @Override
   public void bringToFront() {
     sendMessage("bringToFront");
@@ -718,6 +753,16 @@ public class PageImpl extends ChannelOwner implements Page {
     return mainFrame.evaluate(expression, arg);
   }
 
+  @Override
+  public <T> T evaluate(String expression, Object arg, Class<T> type) {
+    return mainFrame.evaluate(expression, arg, type);
+  }
+
+  @Override
+  public <T> T evaluate(String expression, Object arg, Type type) {
+    return mainFrame.evaluate(expression, arg, type);
+  }
+
   @Override
   public JSHandle evaluateHandle(String pageFunction, Object arg) {
     return mainFrame.evaluateHandle(pageFunction, arg);
@@ -735,19 +780,27 @@ public class PageImpl extends ChannelOwner implements Page {
     if (browserContext.bindings.containsKey(name)) {
       throw new PlaywrightException("Function \"" + name + "\" has been already registered in the browser context");
     }
+    boolean needsHandle = options != null && options.handle != null && options.handle;
+    if (options != null && options.executor != null) {
+      playwrightBinding = new BindingCall.AsyncBinding(playwrightBinding, options.executor, needsHandle);
+    }
     bindings.put(name, playwrightBinding);
 
     JsonObject params = new JsonObject();
     params.addProperty("name", name);
-    if (options != null && options.handle != null && options.handle) {
+    if (needsHandle) {
       params.addProperty("needsHandle", true);
     }
     sendMessage("exposeBinding", params, NO_TIMEOUT);
   }
 
   @Override
-  public void exposeFunction(String name, FunctionCallback playwrightFunction) {
-    exposeBindingImpl(name, (BindingCallback.Source source, Object... args) -> playwrightFunction.call(args), null);
+  public void exposeFunction(String name, FunctionCallback playwrightFunction, ExposeFunctionOptions options) {
+    ExposeBindingOptions bindingOptions = new ExposeBindingOptions();
+    if (options != null) {
+      bindingOptions.executor = options.executor;
+    }
+    exposeBindingImpl(name, (BindingCallback.Source source, Object... args) -> playwrightFunction.call(args), bindingOptions);
   }
 
   @Override
@@ -1251,6 +1304,12 @@ public class PageImpl extends ChannelOwner implements Page {
     mainFrame.setInputFilesImpl(selector, files, convertType(options, Frame.SetInputFilesOptions.class));
   }
 
+  @Override
+  public void setListenerExecutor(Executor executor) {
+    listeners.setExecutor(executor, EnumSet.of(EventType.CONSOLE, EventType.PAGEERROR, EventType.REQUEST, EventType.REQUESTFAILED,
+      EventType.REQUESTFINISHED, EventType.RESPONSE, EventType.FRAMEATTACHED, EventType.FRAMEDETACHED, EventType.FRAMENAVIGATED));
+  }
+
   @Override
   public void setViewportSize(int width, int height) {
     viewport = new ViewportSize(width, height);
@@ -1523,7 +1582,7 @@ public class PageImpl extends ChannelOwner implements Page {
     List<Waitable<Void>> waitables = new ArrayList<>();
     waitables.add(createWaitForCloseHelper());
     waitables.add(createWaitableTimeout(options == null ? null : options.timeout));
-    waitables.add(new WaitablePredicate<>(predicate));
+    waitables.add(new WaitablePredicate<>(connection, predicate, options == null ? null : options.events));
     runUntil(() -> {}, new WaitableRace<>(waitables));
   }
 
@@ -21,15 +21,19 @@ import com.microsoft.playwright.PlaywrightException;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import static com.microsoft.playwright.impl.Serialization.gson;
 
-public class PipeTransport implements Transport {
+public class PipeTransport implements StreamingTransport {
   private final BlockingQueue<JsonObject> incoming = new ArrayBlockingQueue<>(1000);
-  private final BlockingQueue<String> outgoing= new ArrayBlockingQueue<>(1000);
+  private final BlockingQueue<OutgoingMessage> outgoing = new ArrayBlockingQueue<>(1000);
 
   private final ReaderThread readerThread;
   private final WriterThread writerThread;
@@ -44,16 +48,35 @@ public class PipeTransport implements Transport {
     writerThread.start();
   }
 
+  /**
+   * Returns a {@link com.microsoft.playwright.transport.Transport} that exchanges serialized messages with a driver over
+   * the given streams, using the same framing as the driver's stdio pipe.
+   */
+  public static com.microsoft.playwright.transport.Transport create(InputStream input, OutputStream output) {
+    return new SerializedPipeTransport(new PipeTransport(input, output));
+  }
+
   @Override
   public void send(JsonObject message) {
+    send(message, Collections.emptyList());
+  }
+
+  @Override
+  public void send(JsonObject message, List<StreamedPayload> payloads) {
+    // We could serialize the message on the IO thread but there is no guarantee
+    // that the message object won't be modified on this thread after it's added
+    // to the queue.
+    send(gson().toJson(message), payloads);
+  }
+
+  void send(String json, List<StreamedPayload> payloads) {
     if (isClosed) {
+      StreamedPayload.closeAll(payloads);
       throw new PlaywrightException("Playwright connection closed");
     }
+    checkWriterFailure();
     try {
-      // We could serialize the message on the IO thread but there is no guarantee
-      // that the message object won't be modified on this thread after it's added
-      // to the queue.
-      outgoing.put(gson().toJson(message));
+      outgoing.put(new OutgoingMessage(json, payloads));
     } catch (InterruptedException e) {
       throw new PlaywrightException("Failed to send message", e);
     }
@@ -64,6 +87,7 @@ public class PipeTransport implements Transport {
     if (isClosed) {
       throw new PlaywrightException("Playwright connection closed");
     }
+    checkWriterFailure();
     try {
       JsonObject message = incoming.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
       if (message == null && readerThread.exception != null) {
@@ -80,6 +104,27 @@ public class PipeTransport implements Transport {
     }
   }
 
+  /**
+   * Returns false after {@link #close} or once reading from or writing to the driver failed, e.g. because the driver
+   * exited and the pipe reached end of stream.
+   */
+  boolean isConnected() {
+    return !isClosed && readerThread.exception == null && writerThread.exception == null;
+  }
+
+  // A message that could not be written in full leaves the driver reading a corrupt frame, so the pipe is unusable.
+  private void checkWriterFailure() {
+    if (writerThread.exception == null) {
+      return;
+    }
+    try {
+      close();
+    } catch (IOException e) {
+      e.printStackTrace(System.err);
+    }
+    throw new PlaywrightException("Failed to send message to driver, pipe closed.", writerThread.exception);
+  }
+
   @Override
   public void close() throws IOException {
     if (isClosed) {
@@ -92,6 +137,35 @@ public class PipeTransport implements Transport {
     readerThread.isClosing = true;
     writerThread.out.close();
     writerThread.interrupt();
+    List<OutgoingMessage> unsent = new ArrayList<>();
+    outgoing.drainTo(unsent);
+    for (OutgoingMessage message : unsent) {
+      StreamedPayload.closeAll(message.payloads);
+    }
+  }
+}
+
+class SerializedPipeTransport implements com.microsoft.playwright.transport.Transport {
+  private final PipeTransport pipe;
+
+  SerializedPipeTransport(PipeTransport pipe) {
+    this.pipe = pipe;
+  }
+
+  @Override
+  public void send(String message) {
+    pipe.send(message, Collections.emptyList());
+  }
+
+  @Override
+  public String poll(Duration timeout) {
+    JsonObject message = pipe.poll(timeout);
+    return message == null ? null : gson().toJson(message);
+  }
+
+  @Override
+  public void close() throws IOException {
+    pipe.close();
   }
 }
 
@@ -143,9 +217,55 @@ class ReaderThread extends Thread {
   }
 }
 
+class OutgoingMessage {
+  // The driver decodes each frame into a single JavaScript string before parsing it, V8 strings are limited to
+  // 2^29 - 24 characters on 64-bit platforms.
+  static final long MAX_DRIVER_MESSAGE_LENGTH = (1 << 29) - 24;
+
+  final String json;
+  final List<StreamedPayload> payloads;
+  final long length;
+
+  OutgoingMessage(String json, List<StreamedPayload> payloads) {
+    this.json = json;
+    if (payloads.isEmpty()) {
+      this.payloads = payloads;
+      this.length = 0;
+      return;
+    }
+    // Payloads are spliced into the frame in the order their placeholders appear in the text.
+    List<StreamedPayload> sorted = new ArrayList<>();
+    for (StreamedPayload payload : payloads) {
+      if (json.contains(payload.placeholder)) {
+        sorted.add(payload);
+      } else {
+        payload.close();
+      }
+    }
+    sorted.sort(Comparator.comparingInt(payload -> json.indexOf(payload.placeholder)));
+    long length = json.getBytes(StandardCharsets.UTF_8).length;
+    // Length of the message as a string once the driver has decoded it, base64 is one character per byte.
+    long driverLength = json.length();
+    for (StreamedPayload payload : sorted) {
+      length += payload.encodedLength() - payload.placeholder.length();
+      driverLength += payload.encodedLength() - payload.placeholder.length();
+    }
+    if (driverLength > MAX_DRIVER_MESSAGE_LENGTH || length > Integer.MAX_VALUE) {
+      StreamedPayload.closeAll(sorted);
+      throw new PlaywrightException("Message is too large to be sent to the driver: " + driverLength +
+        " characters, the limit is " + MAX_DRIVER_MESSAGE_LENGTH + ". Request bodies and files are base64-encoded, " +
+        "so together they must be smaller than about " + (MAX_DRIVER_MESSAGE_LENGTH / 4 * 3 >> 20) + " MB.");
+    }
+    this.payloads = sorted;
+    this.length = length;
+  }
+}
+
 class WriterThread extends Thread {
   final OutputStream out;
-  private final BlockingQueue<String> queue;
+  private final BlockingQueue<OutgoingMessage> queue;
+  // Reported to the caller by the next PipeTransport.send() or poll().
+  volatile Exception exception;
 
   private static void writeIntLE(OutputStream out, int v) throws IOException {
     out.write(v >>> 0 & 255);
@@ -154,7 +274,7 @@ class WriterThread extends Thread {
     out.write(v >>> 24 & 255);
   }
 
-  WriterThread(OutputStream out, BlockingQueue<String> queue) {
+  WriterThread(OutputStream out, BlockingQueue<OutgoingMessage> queue) {
     this.out = out;
     this.queue = queue;
   }
@@ -162,13 +282,18 @@ class WriterThread extends Thread {
   @Override
   public void run() {
     while (!isInterrupted()) {
+      OutgoingMessage message = null;
       try {
         if (queue.isEmpty())
           out.flush();
-        sendMessage(queue.take());
-      } catch (IOException e) {
+        message = queue.take();
+        sendMessage(message);
+      } catch (IOException | RuntimeException e) {
+        if (message != null) {
+          StreamedPayload.closeAll(message.payloads);
+        }
         if (!isInterrupted())
-          e.printStackTrace();
+          exception = e;
         break;
       } catch (InterruptedException e) {
         break;
@@ -176,9 +301,21 @@ class WriterThread extends Thread {
     }
   }
 
-  private void sendMessage(String message) throws IOException {
-    byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
-    writeIntLE(out, bytes.length);
-    out.write(bytes);
+  private void sendMessage(OutgoingMessage message) throws IOException {
+    if (message.payloads.isEmpty()) {
+      byte[] bytes = message.json.getBytes(StandardCharsets.UTF_8);
+      writeIntLE(out, bytes.length);
+      out.write(bytes);
+      return;
+    }
+    writeIntLE(out, (int) message.length);
+    int from = 0;
+    for (StreamedPayload payload : message.payloads) {
+      int at = message.json.indexOf(payload.placeholder, from);
+      out.write(message.json.substring(from, at).getBytes(StandardCharsets.UTF_8));
+      payload.writeTo(out);
+      from = at + payload.placeholder.length();
+    }
+    out.write(message.json.substring(from).getBytes(StandardCharsets.UTF_8));
   }
 }
@@ -17,6 +17,7 @@
 package com.microsoft.playwright.impl;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.microsoft.playwright.APIRequest;
 import com.microsoft.playwright.Playwright;
@@ -29,8 +30,11 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.Arrays.asList;
+
 public class PlaywrightImpl extends ChannelOwner implements Playwright {
   private Process driverProcess;
+  private PipeTransport driverPipe;
 
   public static PlaywrightImpl create(CreateOptions options) {
     return createImpl(options, false);
@@ -41,6 +45,9 @@ public class PlaywrightImpl extends ChannelOwner implements Playwright {
     if (options != null && options.env != null) {
       env = options.env;
     }
+    if (options != null && options.transport != null) {
+      return new Connection(new SerializedTransportAdapter(options.transport), env).initializePlaywright();
+    }
     Driver driver = forceNewDriverInstanceForTests ?
       Driver.createAndInstall(env, true) :
       Driver.ensureDriverInstalled(env, true);
@@ -49,9 +56,11 @@ public class PlaywrightImpl extends ChannelOwner implements Playwright {
       pb.command().add("run-driver");
       pb.redirectError(ProcessBuilder.Redirect.INHERIT);
       Process p = pb.start();
-      Connection connection = new Connection(new PipeTransport(p.getInputStream(), p.getOutputStream()), env);
+      PipeTransport pipe = new PipeTransport(p.getInputStream(), p.getOutputStream());
+      Connection connection = new Connection(pipe, env);
       PlaywrightImpl result = connection.initializePlaywright();
       result.driverProcess = p;
+      result.driverPipe = pipe;
       return result;
     } catch (IOException e) {
       throw new PlaywrightException("Failed to launch driver", e);
@@ -111,10 +120,51 @@ public class PlaywrightImpl extends ChannelOwner implements Playwright {
     return selectors;
   }
 
+  /**
+   * Sends a cheap request to the driver and waits for the reply at most {@code timeout} milliseconds.
+   * Throws {@link com.microsoft.playwright.TimeoutError} if the driver did not respond in time.
+   */
+  void ping(double timeout) {
+    JsonObject params = new JsonObject();
+    params.addProperty("glob", "**");
+    params.addProperty("webSocketUrl", false);
+    WaitableResult<JsonElement> result = localUtils().sendMessageAsync("globToRegex", params);
+    runUntil(() -> {}, new WaitableRace<>(asList(result, new WaitableTimeout<>(timeout))));
+  }
+
+  /**
+   * Returns false once the connection was closed or the pipe to the driver broke, even if the process has not exited
+   * yet.
+   */
+  boolean isDriverAlive() {
+    if (driverPipe != null && !driverPipe.isConnected()) {
+      return false;
+    }
+    return driverProcess == null || driverProcess.isAlive();
+  }
+
+  /**
+   * Closes the connection without waiting for the driver to exit gracefully.
+   */
+  void kill() {
+    try {
+      connection.close();
+    } catch (IOException | PlaywrightException e) {
+      // The pipe may already be broken.
+    }
+    if (driverProcess != null) {
+      driverProcess.destroyForcibly();
+    }
+  }
+
   @Override
   public void close() {
     try {
       connection.close();
+      if (driverProcess == null) {
+        // Connected over a custom transport, the driver is not ours to wait for.
+        return;
+      }
       // playwright-cli will exit when its stdin is closed, we wait for that.
       boolean didClose = driverProcess.waitFor(30, TimeUnit.SECONDS);
       if (!didClose) {
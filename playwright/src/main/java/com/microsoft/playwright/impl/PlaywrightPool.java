@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.microsoft.playwright.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Pool of driver processes exposed as a single {@link Playwright} instance. Driver health is verified lazily
+ * on the calling thread whenever a driver is picked for new work, which keeps the pool compatible with
+ * the single-threaded connection model.
+ */
+public class PlaywrightPool implements Playwright {
+  private static final int DEFAULT_SIZE = 2;
+  private static final double DEFAULT_HEALTH_CHECK_INTERVAL_MS = 30_000;
+  private static final double DEFAULT_MAX_PING_LATENCY_MS = 5_000;
+
+  private final CreatePoolOptions options;
+  private final List<PooledDriver> drivers = new ArrayList<>();
+  private final PooledBrowserType chromium = new PooledBrowserType(PlaywrightImpl::chromium);
+  private final PooledBrowserType firefox = new PooledBrowserType(PlaywrightImpl::firefox);
+  private final PooledBrowserType webkit = new PooledBrowserType(PlaywrightImpl::webkit);
+  private final PooledSelectors selectors = new PooledSelectors();
+  private final PooledAPIRequest request = new PooledAPIRequest();
+  private boolean isClosed;
+
+  private static class PooledDriver {
+    final PlaywrightImpl playwright;
+    int load;
+    long lastCheckedNanos = System.nanoTime();
+
+    PooledDriver(PlaywrightImpl playwright) {
+      this.playwright = playwright;
+    }
+  }
+
+  public static PlaywrightPool create(CreatePoolOptions options) {
+    if (options == null) {
+      options = new CreatePoolOptions();
+    }
+    int size = options.size == null ? DEFAULT_SIZE : options.size;
+    if (size < 1) {
+      throw new PlaywrightException("Pool size must be positive, got: " + size);
+    }
+    PlaywrightPool pool = new PlaywrightPool(options);
+    try {
+      for (int i = 0; i < size; i++) {
+        pool.drivers.add(pool.spawnDriver());
+      }
+    } catch (RuntimeException e) {
+      pool.close();
+      throw e;
+    }
+    return pool;
+  }
+
+  private PlaywrightPool(CreatePoolOptions options) {
+    this.options = options;
+  }
+
+  private PooledDriver spawnDriver() {
+    PlaywrightImpl playwright = PlaywrightImpl.create(new CreateOptions().setEnv(options.env));
+    selectors.replay(playwright.selectors());
+    return new PooledDriver(playwright);
+  }
+
+  private double healthCheckInterval() {
+    return options.healthCheckInterval == null ? DEFAULT_HEALTH_CHECK_INTERVAL_MS : options.healthCheckInterval;
+  }
+
+  private double maxPingLatency() {
+    return options.maxPingLatency == null ? DEFAULT_MAX_PING_LATENCY_MS : options.maxPingLatency;
+  }
+
+  private boolean isHealthy(PooledDriver driver) {
+    if (!driver.playwright.isDriverAlive()) {
+      return false;
+    }
+    long now = System.nanoTime();
+    if ((now - driver.lastCheckedNanos) / 1_000_000 < healthCheckInterval()) {
+      return true;
+    }
+    try {
+      driver.playwright.ping(maxPingLatency());
+    } catch (PlaywrightException e) {
+      return false;
+    }
+    driver.lastCheckedNanos = System.nanoTime();
+    return true;
+  }
+
+  /**
+   * Replaces dead or hung drivers and returns the one with the fewest open browsers.
+   */
+  private PooledDriver acquire() {
+    if (isClosed) {
+      throw new PlaywrightException("Playwright pool has been closed");
+    }
+    PooledDriver best = null;
+    for (int i = 0; i < drivers.size(); i++) {
+      PooledDriver driver = drivers.get(i);
+      if (!isHealthy(driver)) {
+        driver.playwright.kill();
+        driver = spawnDriver();
+        drivers.set(i, driver);
+      }
+      if (best == null || driver.load < best.load) {
+        best = driver;
+      }
+    }
+    return best;
+  }
+
+  PlaywrightImpl driver(int index) {
+    return drivers.get(index).playwright;
+  }
+
+  List<Integer> driverLoads() {
+    List<Integer> loads = new ArrayList<>();
+    for (PooledDriver driver : drivers) {
+      loads.add(driver.load);
+    }
+    return loads;
+  }
+
+  private static void release(PooledDriver driver) {
+    if (driver.load > 0) {
+      --driver.load;
+    }
+  }
+
+  @Override
+  public BrowserType chromium() {
+    return chromium;
+  }
+
+  @Override
+  public BrowserType firefox() {
+    return firefox;
+  }
+
+  @Override
+  public BrowserType webkit() {
+    return webkit;
+  }
+
+  @Override
+  public APIRequest request() {
+    return request;
+  }
+
+  @Override
+  public Selectors selectors() {
+    return selectors;
+  }
+
+  @Override
+  public void close() {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    PlaywrightException error = null;
+    for (PooledDriver driver : drivers) {
+      try {
+        if (driver.playwright.isDriverAlive()) {
+          driver.playwright.close();
+        } else {
+          driver.playwright.kill();
+        }
+      } catch (PlaywrightException e) {
+        if (error == null) {
+          error = e;
+        }
+      }
+    }
+    drivers.clear();
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  private class PooledBrowserType implements BrowserType {
+    private final Function<PlaywrightImpl, BrowserTypeImpl> selector;
+    // Same for every driver in the pool, cached so that reading them doesn't health check or respawn drivers.
+    private String name;
+    private String executablePath;
+
+    PooledBrowserType(Function<PlaywrightImpl, BrowserTypeImpl> selector) {
+      this.selector = selector;
+    }
+
+    private Browser track(PooledDriver driver, Browser browser) {
+      ++driver.load;
+      browser.onDisconnected(b -> release(driver));
+      return browser;
+    }
+
+    @Override
+    public Browser connect(String wsEndpoint, ConnectOptions options) {
+      PooledDriver driver = acquire();
+      return track(driver, selector.apply(driver.playwright).connect(wsEndpoint, options));
+    }
+
+    @Override
+    public Browser connectOverCDP(String endpointURL, ConnectOverCDPOptions options) {
+      PooledDriver driver = acquire();
+      return track(driver, selector.apply(driver.playwright).connectOverCDP(endpointURL, options));
+    }
+
+    @Override
+    public String executablePath() {
+      if (executablePath == null) {
+        executablePath = selector.apply(acquire().playwright).executablePath();
+      }
+      return executablePath;
+    }
+
+    @Override
+    public Browser launch(LaunchOptions options) {
+      PooledDriver driver = acquire();
+      return track(driver, selector.apply(driver.playwright).launch(options));
+    }
+
+    @Override
+    public BrowserContext launchPersistentContext(Path userDataDir, LaunchPersistentContextOptions options) {
+      PooledDriver driver = acquire();
+      BrowserContext context = selector.apply(driver.playwright).launchPersistentContext(userDataDir, options);
+      ++driver.load;
+      context.onClose(c -> release(driver));
+      return context;
+    }
+
+    @Override
+    public String name() {
+      if (name == null) {
+        name = selector.apply(acquire().playwright).name();
+      }
+      return name;
+    }
+  }
+
+  private class PooledAPIRequest implements APIRequest {
+    @Override
+    public APIRequestContext newContext(NewContextOptions options) {
+      return acquire().playwright.request().newContext(options);
+    }
+  }
+
+  /**
+   * Applies selector registrations to every driver and remembers them so that respawned
+   * drivers get the same engines.
+   */
+  private class PooledSelectors implements Selectors {
+    private final List<Registration> registrations = new ArrayList<>();
+    private String testIdAttribute;
+
+    private class Registration {
+      final String name;
+      final String script;
+      final RegisterOptions options;
+
+      Registration(String name, String script, RegisterOptions options) {
+        this.name = name;
+        this.script = script;
+        this.options = options;
+      }
+    }
+
+    void replay(Selectors target) {
+      for (Registration registration : registrations) {
+        target.register(registration.name, registration.script, registration.options);
+      }
+      if (testIdAttribute != null) {
+        target.setTestIdAttribute(testIdAttribute);
+      }
+    }
+
+    @Override
+    public void register(String name, String script, RegisterOptions options) {
+      for (PooledDriver driver : drivers) {
+        driver.playwright.selectors().register(name, script, options);
+      }
+      registrations.add(new Registration(name, script, options));
+    }
+
+    @Override
+    public void register(String name, Path script, RegisterOptions options) {
+      byte[] buffer;
+      try {
+        buffer = Files.readAllBytes(script);
+      } catch (IOException e) {
+        throw new PlaywrightException("Failed to read selector from file: " + script, e);
+      }
+      register(name, new String(buffer, UTF_8), options);
+    }
+
+    @Override
+    public void setTestIdAttribute(String attributeName) {
+      for (PooledDriver driver : drivers) {
+        driver.playwright.selectors().setTestIdAttribute(attributeName);
+      }
+      testIdAttribute = attributeName;
+    }
+  }
+}
@@ -16,6 +16,8 @@
 
 package com.microsoft.playwright.impl;
 
+import com.google.gson.JsonObject;
+
 import java.util.List;
 
 class Channel {
@@ -57,11 +59,6 @@ class SerializedValue{
   SerializedValue se;
 }
 
-class SerializedArgument{
-  SerializedValue value;
-  Channel[] handles;
-}
-
 class SerializedError{
   public static class Error {
     String message;
@@ -105,7 +102,8 @@ class FrameExpectOptions {
   List<ExpectedTextValue> expectedText;
   String selector;
   Double expectedNumber;
-  SerializedArgument expectedValue;
+  // Protocol form of SerializedArgument, see Serialization.serializeArgument.
+  JsonObject expectedValue;
   Boolean useInnerText;
   boolean isNot;
   Double timeout;
@@ -41,6 +41,8 @@ public class RequestImpl extends ChannelOwner implements Request {
   private RawHeaders rawHeaders;
   String failure;
   Timing timing;
+  // Set when the response object is created, lets internal code avoid the "response" round trip.
+  ResponseImpl existingResponse;
   boolean didFailOrFinish;
   private FallbackOverrides fallbackOverrides;
 
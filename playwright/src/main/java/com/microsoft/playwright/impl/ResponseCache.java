@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.options.HttpCache;
+import com.microsoft.playwright.options.HttpCacheStats;
+import com.microsoft.playwright.options.HttpHeader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.microsoft.playwright.impl.Serialization.gson;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * HTTP cache for {@code GET} requests of an {@link APIRequestContextImpl}. Entries are kept in a private in-memory LRU
+ * bounded by total body size and, if a directory is configured, written through to disk. The directory may be shared by
+ * other contexts, so it follows the rules of a shared cache (RFC 9111 section 3.5) and its entries are namespaced by the
+ * context's credentials.
+ */
+class ResponseCache {
+  private static final long DEFAULT_MAX_SIZE = 50 * 1024 * 1024;
+
+  private final String baseURL;
+  private final long maxSize;
+  private final Path dir;
+  // Hash of the context-level headers, credentials, cookies and client certificates.
+  private final String identity;
+  // Whether every request of the context may carry credentials.
+  private final boolean hasCredentials;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final HttpCacheStats stats = new HttpCacheStats();
+
+  private static class Entry {
+    String url;
+    int status;
+    String statusText;
+    List<HttpHeader> headers;
+    String etag;
+    String lastModified;
+    // Wall-clock time in milliseconds until which the response can be served without revalidation.
+    long freshUntil;
+    // Whether the entry may be stored in the shared disk tier.
+    transient boolean isShareable = true;
+    // Checked against the .body file, which is replaced separately from the metadata.
+    int bodySize;
+    transient byte[] body;
+  }
+
+  /**
+   * Cache state of a single request. {@code entry} is the stored response, if any.
+   */
+  class Lookup {
+    private final String key;
+    private final Entry entry;
+    private final boolean isAuthorized;
+
+    private Lookup(String key, Entry entry, boolean isAuthorized) {
+      this.key = key;
+      this.entry = entry;
+      this.isAuthorized = isAuthorized;
+    }
+
+    /**
+     * Returns the cached response if it can be used without contacting the server.
+     */
+    APIResponseImpl freshResponse(APIRequestContextImpl context) {
+      if (entry == null || entry.freshUntil <= System.currentTimeMillis()) {
+        return null;
+      }
+      ++stats.hits;
+      return new CachedResponse(context, entry);
+    }
+
+    /**
+     * Adds validators of the stale cached response to the request headers.
+     */
+    Map<String, String> conditionalHeaders(Map<String, String> headers) {
+      if (entry == null || (entry.etag == null && entry.lastModified == null)) {
+        return headers;
+      }
+      Map<String, String> result = headers == null ? new LinkedHashMap<>() : new LinkedHashMap<>(headers);
+      if (entry.etag != null) {
+        result.put("If-None-Match", entry.etag);
+      }
+      if (entry.lastModified != null) {
+        result.put("If-Modified-Since", entry.lastModified);
+      }
+      return result;
+    }
+
+    /**
+     * Updates the cache with the server response and returns the response to hand out to the caller.
+     */
+    APIResponseImpl complete(APIResponseImpl response) {
+      if (response.status() == 304 && entry != null) {
+        response.dispose();
+        entry.freshUntil = freshUntil(response.headers());
+        put(key, entry);
+        ++stats.revalidations;
+        return new CachedResponse(response.context, entry);
+      }
+      ++stats.misses;
+      Entry newEntry = toEntry(response, isAuthorized);
+      if (newEntry != null) {
+        newEntry.body = response.body();
+        put(key, newEntry);
+      }
+      return response;
+    }
+  }
+
+  ResponseCache(HttpCache options, String baseURL, JsonObject identity, boolean hasCredentials) {
+    this.baseURL = baseURL;
+    this.maxSize = options.maxSize == null ? DEFAULT_MAX_SIZE : options.maxSize;
+    this.dir = options.path;
+    this.identity = sha256(gson().toJson(identity));
+    this.hasCredentials = hasCredentials;
+  }
+
+  /**
+   * Returns {@code null} if the request is not cacheable.
+   */
+  Lookup lookup(String url, RequestOptionsImpl options) {
+    if (options.method != null && !"GET".equalsIgnoreCase(options.method)) {
+      return null;
+    }
+    if (options.data != null || options.form != null || options.multipart != null) {
+      return null;
+    }
+    String key = key(url, options);
+    Entry entry = entries.get(key);
+    if (entry == null && dir != null) {
+      entry = readFromDisk(key);
+      if (entry != null) {
+        putInMemory(key, entry);
+      }
+    }
+    boolean isAuthorized = hasCredentials;
+    if (options.headers != null) {
+      for (String name : options.headers.keySet()) {
+        isAuthorized |= "authorization".equalsIgnoreCase(name);
+      }
+    }
+    return new Lookup(key, entry, isAuthorized);
+  }
+
+  HttpCacheStats stats() {
+    HttpCacheStats result = new HttpCacheStats();
+    result.hits = stats.hits;
+    result.misses = stats.misses;
+    result.revalidations = stats.revalidations;
+    result.size = stats.size;
+    return result;
+  }
+
+  private String key(String url, RequestOptionsImpl options) {
+    String resolved = url;
+    try {
+      resolved = baseURL == null ? new URL(url).toString() : new URL(new URL(baseURL), url).toString();
+    } catch (MalformedURLException e) {
+      // Leave it to the driver to report.
+    }
+    StringBuilder key = new StringBuilder(identity).append('\n').append(resolved);
+    if (options.params != null) {
+      key.append('\n').append(new TreeMap<>(options.params));
+    }
+    if (options.headers != null) {
+      Map<String, String> headers = new TreeMap<>();
+      for (Map.Entry<String, String> e : options.headers.entrySet()) {
+        headers.put(e.getKey().toLowerCase(), e.getValue());
+      }
+      key.append('\n').append(headers);
+    }
+    return key.toString();
+  }
+
+  private void put(String key, Entry entry) {
+    putInMemory(key, entry);
+    if (dir != null && entry.isShareable) {
+      writeToDisk(key, entry);
+    }
+  }
+
+  private void putInMemory(String key, Entry entry) {
+    Entry previous = entries.remove(key);
+    if (previous != null) {
+      stats.size -= previous.body.length;
+    }
+    if (entry.body.length > maxSize) {
+      return;
+    }
+    entries.put(key, entry);
+    stats.size += entry.body.length;
+    for (Iterator<Entry> it = entries.values().iterator(); stats.size > maxSize && it.hasNext(); ) {
+      stats.size -= it.next().body.length;
+      it.remove();
+    }
+  }
+
+  private static Entry toEntry(APIResponseImpl response, boolean isAuthorized) {
+    if (response.status() != 200) {
+      return null;
+    }
+    Map<String, String> headers = response.headers();
+    Map<String, String> cacheControl = parseCacheControl(headers.get("cache-control"));
+    if (cacheControl.containsKey("no-store") || headers.containsKey("set-cookie") || "*".equals(headers.get("vary"))) {
+      return null;
+    }
+    Entry entry = new Entry();
+    entry.url = response.url();
+    entry.status = response.status();
+    entry.statusText = response.statusText();
+    entry.headers = response.headersArray();
+    entry.etag = headers.get("etag");
+    entry.lastModified = headers.get("last-modified");
+    entry.freshUntil = freshUntil(headers);
+    // Responses to authorized requests may only be shared if the server explicitly allows it.
+    entry.isShareable = !cacheControl.containsKey("private") && (!isAuthorized || cacheControl.containsKey("public") ||
+      cacheControl.containsKey("must-revalidate") || cacheControl.containsKey("s-maxage"));
+    if (entry.freshUntil <= System.currentTimeMillis() && entry.etag == null && entry.lastModified == null) {
+      return null;
+    }
+    return entry;
+  }
+
+  private static long freshUntil(Map<String, String> headers) {
+    long now = System.currentTimeMillis();
+    Map<String, String> cacheControl = parseCacheControl(headers.get("cache-control"));
+    if (cacheControl.containsKey("no-cache")) {
+      return now;
+    }
+    long age = parseSeconds(headers.get("age")) * 1000;
+    String maxAge = cacheControl.get("max-age");
+    if (maxAge != null) {
+      return now + parseSeconds(maxAge) * 1000 - age;
+    }
+    long expires = parseDate(headers.get("expires"));
+    if (expires > 0) {
+      long date = parseDate(headers.get("date"));
+      return now + expires - (date > 0 ? date : now) - age;
+    }
+    return now;
+  }
+
+  private static Map<String, String> parseCacheControl(String value) {
+    if (value == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, String> result = new LinkedHashMap<>();
+    for (String directive : value.split(",")) {
+      String[] nameValue = directive.trim().split("=", 2);
+      String name = nameValue[0].trim().toLowerCase();
+      if (!name.isEmpty()) {
+        result.put(name, nameValue.length > 1 ? nameValue[1].trim().replace("\"", "") : "");
+      }
+    }
+    return result;
+  }
+
+  private static long parseSeconds(String value) {
+    if (value == null) {
+      return 0;
+    }
+    try {
+      return Math.max(0, Long.parseLong(value.trim()));
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static long parseDate(String value) {
+    if (value == null) {
+      return 0;
+    }
+    try {
+      return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+    } catch (DateTimeParseException e) {
+      return 0;
+    }
+  }
+
+  private Path entryPath(String key, String extension) {
+    return dir.resolve(sha256(key) + extension);
+  }
+
+  private static String sha256(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      StringBuilder result = new StringBuilder();
+      for (byte b : digest.digest(value.getBytes(StandardCharsets.UTF_8))) {
+        result.append(String.format("%02x", b));
+      }
+      return result.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new PlaywrightException("Failed to compute cache file name", e);
+    }
+  }
+
+  private void writeToDisk(String key, Entry entry) {
+    entry.bodySize = entry.body.length;
+    try {
+      Files.createDirectories(dir);
+      writeAtomically(entry.body, entryPath(key, ".body"));
+      writeAtomically(gson().toJson(entry).getBytes(StandardCharsets.UTF_8), entryPath(key, ".json"));
+    } catch (IOException e) {
+      // The response is still cached in memory, a full or read-only disk only costs later contexts a miss.
+    }
+  }
+
+  // Other contexts may share the directory, they must never read a partially written file.
+  private void writeAtomically(byte[] data, Path path) throws IOException {
+    Path temp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+    try {
+      Files.write(temp, data);
+      try {
+        Files.move(temp, path, ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, path, REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private Entry readFromDisk(String key) {
+    Path metadata = entryPath(key, ".json");
+    if (!Files.exists(metadata)) {
+      return null;
+    }
+    // A missing or corrupted entry is treated as a cache miss and overwritten by the next response.
+    try (Reader reader = Files.newBufferedReader(metadata, StandardCharsets.UTF_8)) {
+      Entry entry = gson().fromJson(reader, Entry.class);
+      entry.body = Files.readAllBytes(entryPath(key, ".body"));
+      return entry.body.length == entry.bodySize ? entry : null;
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static class CachedResponse extends APIResponseImpl {
+    private final byte[] body;
+
+    CachedResponse(APIRequestContextImpl context, Entry entry) {
+      super(context, toInitializer(entry));
+      body = entry.body;
+    }
+
+    private static JsonObject toInitializer(Entry entry) {
+      JsonObject initializer = new JsonObject();
+      initializer.addProperty("url", entry.url);
+      initializer.addProperty("status", entry.status);
+      initializer.addProperty("statusText", entry.statusText);
+      initializer.add("headers", gson().toJsonTree(entry.headers));
+      return initializer;
+    }
+
+    @Override
+    public byte[] body() {
+      return body.clone();
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    @Override
+    List<String> fetchLog() {
+      return Collections.emptyList();
+    }
+  }
+}
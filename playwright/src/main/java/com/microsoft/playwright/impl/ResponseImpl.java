@@ -43,6 +43,7 @@ public class ResponseImpl extends ChannelOwner implements Response {
     headers = new RawHeaders(asList(gson().fromJson(initializer.getAsJsonArray("headers"), HttpHeader[].class)));
     request = connection.getExistingObject(initializer.getAsJsonObject("request").get("guid").getAsString());
     request.timing = gson().fromJson(initializer.get("timing"), Timing.class);
+    request.existingResponse = this;
   }
 
   @Override
@@ -194,7 +194,7 @@ public class RouteImpl extends ChannelOwner implements Route {
       length = options.bodyBytes.length;
     } else if (options.response != null) {
       APIResponseImpl response = (APIResponseImpl) options.response;
-      if (response.context.connection == connection) {
+      if (response.context.connection == connection && response.fetchUid() != null) {
         fetchResponseUid = response.fetchUid();
       } else {
         byte[] bodyBytes = response.body();
@@ -16,6 +16,7 @@
 
 package com.microsoft.playwright.impl;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.Selectors;
@@ -24,14 +25,18 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.microsoft.playwright.impl.ChannelOwner.NO_TIMEOUT;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class SelectorsImpl extends LoggingSupport implements Selectors {
   protected final List<BrowserContextImpl> contextsForSelectors = new ArrayList<>();
-  protected final List<JsonObject> selectorEngines = new ArrayList<>();
+  private final Map<String, JsonObject> selectorEngines = new LinkedHashMap<>();
+  // Shared by all newContext messages until the next registration, the array is never modified after it's built.
+  private JsonArray selectorEnginesJson;
 
   String testIdAttributeName = "data-testid";
 
@@ -68,7 +73,7 @@ public class SelectorsImpl extends LoggingSupport implements Selectors {
   }
 
   private void registerImpl(String name, String script, RegisterOptions options) {
-    if (selectorEngines.stream().anyMatch(engine -> name.equals(engine.get("name").getAsString()))) {
+    if (selectorEngines.containsKey(name)) {
       throw new PlaywrightException("selectors.register: \"" + name + "\" selector engine has been already registered");
     }
 
@@ -83,6 +88,17 @@ public class SelectorsImpl extends LoggingSupport implements Selectors {
       params.add("selectorEngine", engine);
       context.sendMessage("registerSelectorEngine", params, NO_TIMEOUT);
     }
-    selectorEngines.add(engine);
+    selectorEngines.put(name, engine);
+    selectorEnginesJson = null;
+  }
+
+  JsonArray selectorEnginesJson() {
+    if (selectorEnginesJson == null) {
+      selectorEnginesJson = new JsonArray();
+      for (JsonObject engine : selectorEngines.values()) {
+        selectorEnginesJson.add(engine);
+      }
+    }
+    return selectorEnginesJson;
   }
 }
@@ -19,6 +19,7 @@ package com.microsoft.playwright.impl;
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import com.microsoft.playwright.ElementHandle;
 import com.microsoft.playwright.PlaywrightException;
@@ -45,6 +46,7 @@ class Serialization {
     .registerTypeAdapter(Date.class, new DateSerializer())
     .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeSerializer())
     .registerTypeAdapter(SameSiteAttribute.class, new SameSiteAdapter().nullSafe())
+    .registerTypeAdapter(Cookie.class, new CookieAdapter().nullSafe())
     .registerTypeAdapter(BrowserChannel.class, new ToLowerCaseAndDashSerializer<BrowserChannel>())
     .registerTypeAdapter(ColorScheme.class, new ToLowerCaseAndDashSerializer<ColorScheme>())
     .registerTypeAdapter(Contrast.class, new ToLowerCaseAndDashSerializer<Contrast>())
@@ -90,137 +92,132 @@ class Serialization {
     return result;
   }
 
-  private static class ValueSerializer {
-    // hashCode() of a map containing itself as a key will throw stackoverflow exception,
-    // so we user wrappers.
-    private static class HashableValue {
-      final Object value;
-      HashableValue(Object value) {
-        this.value = value;
-      }
-
-      @Override
-      public boolean equals(Object o) {
-        return value == ((HashableValue) o).value;
-      }
-
-      @Override
-      public int hashCode() {
-        return System.identityHashCode(value);
-      }
-    }
-    private final Map<HashableValue, Integer> valueToId = new HashMap<>();
+  /**
+   * Encodes Java values directly into the protocol form of {@code SerializedArgument}. Identity tracking
+   * (needed for cyclic references) is only done for container values.
+   */
+  private static class ArgumentEncoder {
+    private final Map<Object, Integer> valueToId = new IdentityHashMap<>();
     private int lastId = 0;
-    private final List<JSHandleImpl> handles = new ArrayList<>();
-    private final SerializedValue serializedValue;
-
-    ValueSerializer(Object value) {
-      serializedValue = serializeValue(value);
-    }
-
-    SerializedArgument toSerializedArgument() {
-      SerializedArgument result = new SerializedArgument();
-      result.value = serializedValue;
-      result.handles = new Channel[handles.size()];
-      int i = 0;
-      for (JSHandleImpl handle : handles) {
-        result.handles[i] = new Channel();
-        result.handles[i].guid = handle.guid;
-        ++i;
-      }
+    private final JsonArray handles = new JsonArray();
+
+    JsonObject encode(Object arg) {
+      JsonObject result = new JsonObject();
+      result.add("value", encodeValue(arg));
+      result.add("handles", handles);
       return result;
     }
 
-    private SerializedValue serializeValue(Object value) {
-      SerializedValue result = new SerializedValue();
+    private JsonObject encodeValue(Object value) {
+      JsonObject result = new JsonObject();
       if (value instanceof JSHandleImpl) {
-        result.h = handles.size();
-        handles.add((JSHandleImpl) value);
-        return result;
-      }
-      if (value == null) {
-        result.v = "undefined";
+        result.addProperty("h", handles.size());
+        JsonObject channel = new JsonObject();
+        channel.addProperty("guid", ((JSHandleImpl) value).guid);
+        handles.add(channel);
+      } else if (value == null) {
+        result.addProperty("v", "undefined");
       } else if (value instanceof Double) {
-        double d = ((Double) value);
-        if (d == Double.POSITIVE_INFINITY) {
-          result.v = "Infinity";
-        } else if (d == Double.NEGATIVE_INFINITY) {
-          result.v = "-Infinity";
-        } else if (d == -0) {
-          result.v = "-0";
-        } else if (Double.isNaN(d)) {
-          result.v = "NaN";
-        } else {
-          result.n = d;
-        }
+        addNumber(result, (Double) value);
       } else if (value instanceof Boolean) {
-        result.b = (Boolean) value;
+        result.addProperty("b", (Boolean) value);
       } else if (value instanceof Integer) {
-        result.n = (Integer) value;
+        result.addProperty("n", (Integer) value);
       } else if (value instanceof String) {
-        result.s = (String) value;
+        result.addProperty("s", (String) value);
       } else if (value instanceof Date) {
-        result.d = ((Date)value).toInstant().toString();
+        result.addProperty("d", ((Date)value).toInstant().toString());
       } else if (value instanceof LocalDateTime) {
-        result.d = ((LocalDateTime)value).atZone(ZoneId.systemDefault()).toInstant().toString();
+        result.addProperty("d", ((LocalDateTime)value).atZone(ZoneId.systemDefault()).toInstant().toString());
       } else if (value instanceof URL) {
-        result.u = ((URL)value).toString();
+        result.addProperty("u", value.toString());
       } else if (value instanceof BigInteger) {
-        result.bi = ((BigInteger)value).toString();
+        result.addProperty("bi", value.toString());
       } else if (value instanceof Pattern) {
-        result.r = new SerializedValue.R();
-        result.r.p = ((Pattern)value).pattern();
-        result.r.f = toJsRegexFlags(((Pattern)value));
+        JsonObject regex = new JsonObject();
+        regex.addProperty("p", ((Pattern)value).pattern());
+        regex.addProperty("f", toJsRegexFlags(((Pattern)value)));
+        result.add("r", regex);
       } else if (value instanceof Exception) {
         Exception exception = (Exception) value;
-        result.e = new SerializedValue.E();
-        result.e.m = exception.getMessage();
-        result.e.n = exception.getClass().getSimpleName();
+        JsonObject error = new JsonObject();
+        error.addProperty("m", exception.getMessage());
+        error.addProperty("n", exception.getClass().getSimpleName());
         StringWriter sw = new StringWriter();
         exception.printStackTrace(new PrintWriter(sw));
-        result.e.s = sw.toString();
+        error.addProperty("s", sw.toString());
+        result.add("e", error);
       } else {
-        HashableValue mapKey = new HashableValue(value);
-        Integer id = valueToId.get(mapKey);
+        Integer id = valueToId.get(value);
         if (id != null) {
-          result.ref = id;
-        } else {
-          result.id = ++lastId;
-          valueToId.put(mapKey, lastId);
-          if (value instanceof List) {
-            List<SerializedValue> list = new ArrayList<>();
-            for (Object o : (List<?>) value) {
-              list.add(serializeValue(o));
-            }
-            result.a = list.toArray(new SerializedValue[0]);
-          } else if (value instanceof Map) {
-            List<SerializedValue.O> list = new ArrayList<>();
-            @SuppressWarnings("unchecked")
-            Map<String, ?> map = (Map<String, ?>) value;
-            for (Map.Entry<String, ?> e : map.entrySet()) {
-              SerializedValue.O o = new SerializedValue.O();
-              o.k = e.getKey();
-              o.v = serializeValue(e.getValue());
-              list.add(o);
-            }
-            result.o = list.toArray(new SerializedValue.O[0]);
-          } else if (value instanceof Object[]) {
-            List<SerializedValue> list = new ArrayList<>();
-            for (Object o : (Object[]) value) {
-              list.add(serializeValue(o));
-            }
-            result.a = list.toArray(new SerializedValue[0]);
-          } else {
-            throw new PlaywrightException("Unsupported type of argument: " + value);
+          result.addProperty("ref", id);
+          return result;
+        }
+        result.addProperty("id", ++lastId);
+        valueToId.put(value, lastId);
+        if (value instanceof List) {
+          JsonArray list = new JsonArray();
+          for (Object o : (List<?>) value) {
+            list.add(encodeValue(o));
+          }
+          result.add("a", list);
+        } else if (value instanceof Map) {
+          JsonArray list = new JsonArray();
+          for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+            JsonObject o = new JsonObject();
+            o.addProperty("k", (String) e.getKey());
+            o.add("v", encodeValue(e.getValue()));
+            list.add(o);
+          }
+          result.add("o", list);
+        } else if (value instanceof Object[]) {
+          JsonArray list = new JsonArray();
+          for (Object o : (Object[]) value) {
+            list.add(encodeValue(o));
           }
+          result.add("a", list);
+        } else if (value instanceof double[]) {
+          double[] array = (double[]) value;
+          JsonArray list = new JsonArray(array.length);
+          for (double d : array) {
+            JsonObject item = new JsonObject();
+            addNumber(item, d);
+            list.add(item);
+          }
+          result.add("a", list);
+        } else if (value instanceof int[]) {
+          int[] array = (int[]) value;
+          JsonArray list = new JsonArray(array.length);
+          for (int i : array) {
+            JsonObject item = new JsonObject();
+            item.addProperty("n", i);
+            list.add(item);
+          }
+          result.add("a", list);
+        } else {
+          throw new PlaywrightException("Unsupported type of argument: " + value);
         }
       }
       return result;
     }
+
+    private static void addNumber(JsonObject result, double d) {
+      if (d == Double.POSITIVE_INFINITY) {
+        result.addProperty("v", "Infinity");
+      } else if (d == Double.NEGATIVE_INFINITY) {
+        result.addProperty("v", "-Infinity");
+      } else if (d == 0 && 1 / d < 0) {
+        result.addProperty("v", "-0");
+      } else if (Double.isNaN(d)) {
+        result.addProperty("v", "NaN");
+      } else {
+        result.addProperty("n", d);
+      }
+    }
   }
 
-  static SerializedArgument serializeArgument(Object arg) {
-    return new ValueSerializer(arg).toSerializedArgument();
+  static JsonObject serializeArgument(Object arg) {
+    return new ArgumentEncoder().encode(arg);
   }
 
   static <T> T deserialize(SerializedValue value) {
@@ -517,6 +514,91 @@ class Serialization {
     }
   }
 
+  // Contexts may hold tens of thousands of cookies, this is considerably faster than the reflective adapter.
+  private static class CookieAdapter extends TypeAdapter<Cookie> {
+    private final SameSiteAdapter sameSiteAdapter = new SameSiteAdapter();
+
+    @Override
+    public void write(JsonWriter out, Cookie cookie) throws IOException {
+      out.beginObject();
+      writeString(out, "name", cookie.name);
+      writeString(out, "value", cookie.value);
+      writeString(out, "url", cookie.url);
+      writeString(out, "domain", cookie.domain);
+      writeString(out, "path", cookie.path);
+      if (cookie.expires != null) {
+        out.name("expires").value(cookie.expires);
+      }
+      if (cookie.httpOnly != null) {
+        out.name("httpOnly").value(cookie.httpOnly);
+      }
+      if (cookie.secure != null) {
+        out.name("secure").value(cookie.secure);
+      }
+      if (cookie.sameSite != null) {
+        out.name("sameSite");
+        sameSiteAdapter.write(out, cookie.sameSite);
+      }
+      writeString(out, "partitionKey", cookie.partitionKey);
+      out.endObject();
+    }
+
+    private static void writeString(JsonWriter out, String name, String value) throws IOException {
+      if (value != null) {
+        out.name(name).value(value);
+      }
+    }
+
+    @Override
+    public Cookie read(JsonReader in) throws IOException {
+      Cookie cookie = new Cookie(null, null);
+      in.beginObject();
+      while (in.hasNext()) {
+        String name = in.nextName();
+        if (in.peek() == JsonToken.NULL) {
+          in.nextNull();
+          continue;
+        }
+        switch (name) {
+          case "name":
+            cookie.name = in.nextString();
+            break;
+          case "value":
+            cookie.value = in.nextString();
+            break;
+          case "url":
+            cookie.url = in.nextString();
+            break;
+          case "domain":
+            cookie.domain = in.nextString();
+            break;
+          case "path":
+            cookie.path = in.nextString();
+            break;
+          case "expires":
+            cookie.expires = in.nextDouble();
+            break;
+          case "httpOnly":
+            cookie.httpOnly = in.nextBoolean();
+            break;
+          case "secure":
+            cookie.secure = in.nextBoolean();
+            break;
+          case "sameSite":
+            cookie.sameSite = sameSiteAdapter.read(in);
+            break;
+          case "partitionKey":
+            cookie.partitionKey = in.nextString();
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return cookie;
+    }
+  }
+
   private static DateFormat iso8601Format() {
     DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", Locale.getDefault());
     dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static com.microsoft.playwright.impl.Serialization.gson;
+
+/**
+ * Adapts a {@link com.microsoft.playwright.transport.Transport} passed by the user, which exchanges serialized
+ * messages, to the transport used by {@link Connection}.
+ */
+class SerializedTransportAdapter implements Transport {
+  private final com.microsoft.playwright.transport.Transport transport;
+
+  SerializedTransportAdapter(com.microsoft.playwright.transport.Transport transport) {
+    this.transport = transport;
+  }
+
+  @Override
+  public void send(JsonObject message) {
+    transport.send(gson().toJson(message));
+  }
+
+  @Override
+  public JsonObject poll(Duration timeout) {
+    String message = transport.poll(timeout);
+    return message == null ? null : gson().fromJson(message, JsonObject.class);
+  }
+
+  @Override
+  public void close() throws IOException {
+    transport.close();
+  }
+}
@@ -0,0 +1,623 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static com.microsoft.playwright.impl.Utils.fromJsRegexFlags;
+
+/**
+ * Decodes the {@code SerializedValue} wire form straight into a requested Java type, without building
+ * the intermediate {@code SerializedValue} graph or the generic {@code Map}/{@code List} representation
+ * produced by {@link Serialization#deserialize}.
+ */
+class SerializedValueDecoder {
+  private static final Map<Class<?>, ClassBinding> bindings = new ConcurrentHashMap<>();
+  private final Map<Integer, Object> idToValue = new HashMap<>();
+
+  private SerializedValueDecoder() {
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> T decode(JsonObject value, Type type) {
+    if (type == null) {
+      throw new PlaywrightException("Result type cannot be null");
+    }
+    return (T) new SerializedValueDecoder().decodeValue(value, type);
+  }
+
+  private Object decodeValue(JsonObject value, Type type) {
+    Class<?> raw = rawType(type);
+    JsonElement ref = value.get("ref");
+    if (ref != null) {
+      Object result = idToValue.get(ref.getAsInt());
+      if (result != null && !boxed(raw).isInstance(result)) {
+        throw new PlaywrightException("Cannot decode circular reference of type " + result.getClass().getName() + " into " + type.getTypeName());
+      }
+      return result;
+    }
+    if (raw == Object.class) {
+      return decodeUntyped(value);
+    }
+    JsonElement n = value.get("n");
+    if (n != null) {
+      return convertNumber(n.getAsDouble(), raw, type);
+    }
+    JsonElement b = value.get("b");
+    if (b != null) {
+      if (raw == boolean.class || raw == Boolean.class) {
+        return b.getAsBoolean();
+      }
+      throw mismatch("boolean", type);
+    }
+    JsonElement s = value.get("s");
+    if (s != null) {
+      return convertString(s.getAsString(), raw, type);
+    }
+    JsonElement v = value.get("v");
+    if (v != null) {
+      return convertSpecial(v.getAsString(), raw, type);
+    }
+    JsonElement d = value.get("d");
+    if (d != null) {
+      Instant instant = Instant.parse(d.getAsString());
+      if (raw == Date.class) {
+        return Date.from(instant);
+      }
+      if (raw == Instant.class) {
+        return instant;
+      }
+      if (raw == LocalDateTime.class) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+      }
+      if (raw == String.class) {
+        return d.getAsString();
+      }
+      throw mismatch("date", type);
+    }
+    JsonElement u = value.get("u");
+    if (u != null) {
+      return convertUrl(u.getAsString(), raw, type);
+    }
+    JsonElement bi = value.get("bi");
+    if (bi != null) {
+      if (raw == BigInteger.class) {
+        return new BigInteger(bi.getAsString());
+      }
+      if (raw == BigDecimal.class) {
+        return new BigDecimal(bi.getAsString());
+      }
+      if (raw == String.class) {
+        return bi.getAsString();
+      }
+      throw mismatch("bigint", type);
+    }
+    JsonElement r = value.get("r");
+    if (r != null) {
+      if (raw == Pattern.class) {
+        JsonObject regex = r.getAsJsonObject();
+        return Pattern.compile(regex.get("p").getAsString(), fromJsRegexFlags(regex.get("f").getAsString()));
+      }
+      throw mismatch("regexp", type);
+    }
+    JsonElement e = value.get("e");
+    if (e != null) {
+      if (raw.isAssignableFrom(Exception.class)) {
+        return new Exception(e.getAsJsonObject().get("s").getAsString());
+      }
+      throw mismatch("error", type);
+    }
+    JsonElement a = value.get("a");
+    if (a != null) {
+      return decodeArray(a.getAsJsonArray(), id(value), raw, type);
+    }
+    JsonElement o = value.get("o");
+    if (o != null) {
+      return decodeObject(o.getAsJsonArray(), id(value), raw, type);
+    }
+    JsonElement m = value.get("m");
+    if (m != null) {
+      return decodeMap(m.getAsJsonObject(), id(value), raw, type);
+    }
+    JsonElement se = value.get("se");
+    if (se != null) {
+      JsonElement items = se.getAsJsonObject().get("a");
+      return decodeArray(items == null ? new JsonArray() : items.getAsJsonArray(), id(value), raw, type);
+    }
+    throw new PlaywrightException("Unexpected result: " + value);
+  }
+
+  private static Integer id(JsonObject value) {
+    JsonElement id = value.get("id");
+    return id == null ? null : id.getAsInt();
+  }
+
+  private void register(Integer id, Object value) {
+    if (id != null) {
+      idToValue.put(id, value);
+    }
+  }
+
+  /**
+   * Mirrors {@link Serialization#deserialize} for {@code Object}-typed targets.
+   */
+  private Object decodeUntyped(JsonObject value) {
+    JsonElement n = value.get("n");
+    if (n != null) {
+      double d = n.getAsDouble();
+      if (d == (double) (int) d) {
+        return (int) d;
+      }
+      return d;
+    }
+    JsonElement b = value.get("b");
+    if (b != null) {
+      return b.getAsBoolean();
+    }
+    JsonElement s = value.get("s");
+    if (s != null) {
+      return s.getAsString();
+    }
+    JsonElement v = value.get("v");
+    if (v != null) {
+      return convertSpecial(v.getAsString(), Object.class, Object.class);
+    }
+    JsonElement a = value.get("a");
+    if (a != null) {
+      return decodeArray(a.getAsJsonArray(), id(value), List.class, List.class);
+    }
+    JsonElement o = value.get("o");
+    if (o != null) {
+      return decodeObject(o.getAsJsonArray(), id(value), Map.class, Map.class);
+    }
+    if (value.has("m") || value.has("se")) {
+      Map<?, ?> map = new LinkedHashMap<>();
+      register(id(value), map);
+      return map;
+    }
+    if (value.has("d")) {
+      return decodeValue(value, Date.class);
+    }
+    if (value.has("u")) {
+      return decodeValue(value, URL.class);
+    }
+    if (value.has("bi")) {
+      return decodeValue(value, BigInteger.class);
+    }
+    if (value.has("r")) {
+      return decodeValue(value, Pattern.class);
+    }
+    if (value.has("e")) {
+      return decodeValue(value, Exception.class);
+    }
+    throw new PlaywrightException("Unexpected result: " + value);
+  }
+
+  private static Object convertNumber(double d, Class<?> raw, Type type) {
+    if (raw == double.class || raw == Double.class) {
+      return d;
+    }
+    if (raw == int.class || raw == Integer.class) {
+      return (int) checkIntegral(d, Integer.MIN_VALUE, Integer.MAX_VALUE, type);
+    }
+    if (raw == long.class || raw == Long.class) {
+      return checkIntegral(d, Long.MIN_VALUE, Long.MAX_VALUE, type);
+    }
+    if (raw == float.class || raw == Float.class) {
+      return (float) d;
+    }
+    if (raw == short.class || raw == Short.class) {
+      return (short) checkIntegral(d, Short.MIN_VALUE, Short.MAX_VALUE, type);
+    }
+    if (raw == byte.class || raw == Byte.class) {
+      return (byte) checkIntegral(d, Byte.MIN_VALUE, Byte.MAX_VALUE, type);
+    }
+    if (raw == Number.class) {
+      return d == (double) (int) d ? (Object) (int) d : (Object) d;
+    }
+    if (raw == BigDecimal.class) {
+      return BigDecimal.valueOf(d);
+    }
+    if (raw == BigInteger.class) {
+      return BigDecimal.valueOf(checkIntegral(d, Long.MIN_VALUE, Long.MAX_VALUE, type)).toBigInteger();
+    }
+    throw mismatch("number " + d, type);
+  }
+
+  private static long checkIntegral(double d, long min, long max, Type type) {
+    if (d != Math.rint(d) || d < min || d > max) {
+      throw mismatch("number " + d, type);
+    }
+    return (long) d;
+  }
+
+  private static Object convertSpecial(String special, Class<?> raw, Type type) {
+    switch (special) {
+      case "undefined":
+      case "null":
+        return null;
+      case "Infinity":
+        return convertNumber(Double.POSITIVE_INFINITY, raw == Object.class ? Double.class : raw, type);
+      case "-Infinity":
+        return convertNumber(Double.NEGATIVE_INFINITY, raw == Object.class ? Double.class : raw, type);
+      case "-0":
+        return convertNumber(-0.0, raw == Object.class ? Double.class : raw, type);
+      case "NaN":
+        return convertNumber(Double.NaN, raw == Object.class ? Double.class : raw, type);
+      default:
+        throw new PlaywrightException("Unexpected value: " + special);
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Object convertString(String s, Class<?> raw, Type type) {
+    if (raw == String.class || raw == CharSequence.class) {
+      return s;
+    }
+    if (raw.isEnum()) {
+      for (Object constant : raw.getEnumConstants()) {
+        Enum<?> e = (Enum<?>) constant;
+        if (e.name().equals(s) || e.toString().equalsIgnoreCase(s)) {
+          return e;
+        }
+      }
+      throw mismatch("string '" + s + "'", type);
+    }
+    if ((raw == char.class || raw == Character.class) && s.length() == 1) {
+      return s.charAt(0);
+    }
+    throw mismatch("string", type);
+  }
+
+  private static Object convertUrl(String url, Class<?> raw, Type type) {
+    try {
+      if (raw == URL.class) {
+        return new URL(url);
+      }
+      if (raw == URI.class) {
+        return new URI(url);
+      }
+    } catch (MalformedURLException | URISyntaxException e) {
+      throw new PlaywrightException("Unexpected value: " + url, e);
+    }
+    if (raw == String.class) {
+      return url;
+    }
+    throw mismatch("url", type);
+  }
+
+  private Object decodeArray(JsonArray items, Integer id, Class<?> raw, Type type) {
+    if (raw == double[].class) {
+      double[] result = new double[items.size()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = item(items, i, double.class);
+      }
+      register(id, result);
+      return result;
+    }
+    if (raw == int[].class) {
+      int[] result = new int[items.size()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = (int) checkIntegral(item(items, i, int.class), Integer.MIN_VALUE, Integer.MAX_VALUE, int.class);
+      }
+      register(id, result);
+      return result;
+    }
+    if (raw == long[].class) {
+      long[] result = new long[items.size()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = checkIntegral(item(items, i, long.class), Long.MIN_VALUE, Long.MAX_VALUE, long.class);
+      }
+      register(id, result);
+      return result;
+    }
+    if (raw.isArray()) {
+      Type componentType = type instanceof GenericArrayType
+        ? ((GenericArrayType) type).getGenericComponentType() : raw.getComponentType();
+      Object result = Array.newInstance(raw.getComponentType(), items.size());
+      register(id, result);
+      for (int i = 0; i < items.size(); i++) {
+        Array.set(result, i, decodeValue(items.get(i).getAsJsonObject(), componentType));
+      }
+      return result;
+    }
+    Collection<Object> result = newCollection(raw, type);
+    register(id, result);
+    Type elementType = typeArgument(type, 0);
+    for (JsonElement item : items) {
+      result.add(decodeValue(item.getAsJsonObject(), elementType));
+    }
+    return result;
+  }
+
+  /**
+   * Reads a number element without boxing, used by the primitive array fast path.
+   */
+  private static double item(JsonArray items, int index, Class<?> type) {
+    JsonObject item = items.get(index).getAsJsonObject();
+    JsonElement n = item.get("n");
+    if (n != null) {
+      return n.getAsDouble();
+    }
+    JsonElement v = item.get("v");
+    if (v != null) {
+      Object special = convertSpecial(v.getAsString(), double.class, type);
+      if (special != null) {
+        return (Double) special;
+      }
+    }
+    throw mismatch(item + " at index " + index, type);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Collection<Object> newCollection(Class<?> raw, Type type) {
+    if (raw.isAssignableFrom(ArrayList.class)) {
+      return new ArrayList<>();
+    }
+    if (raw.isAssignableFrom(LinkedHashSet.class)) {
+      return new LinkedHashSet<>();
+    }
+    if (Collection.class.isAssignableFrom(raw) && !raw.isInterface() && !Modifier.isAbstract(raw.getModifiers())) {
+      return (Collection<Object>) newInstance(raw);
+    }
+    throw mismatch("array", type);
+  }
+
+  private Object decodeObject(JsonArray properties, Integer id, Class<?> raw, Type type) {
+    if (Map.class.isAssignableFrom(raw)) {
+      Map<Object, Object> map = newMap(raw, type);
+      register(id, map);
+      Type keyType = typeArgument(type, 0);
+      Type valueType = typeArgument(type, 1);
+      for (JsonElement property : properties) {
+        JsonObject entry = property.getAsJsonObject();
+        String key = entry.get("k").getAsString();
+        map.put(keyType == Object.class ? key : convertString(key, rawType(keyType), keyType),
+          decodeValue(entry.getAsJsonObject("v"), valueType));
+      }
+      return map;
+    }
+    if (raw.isPrimitive() || raw.isArray() || raw.isInterface() || raw.getName().startsWith("java.")) {
+      throw mismatch("object", type);
+    }
+    ClassBinding binding = bindings.computeIfAbsent(raw, ClassBinding::new);
+    if (binding.componentNames != null) {
+      Object[] args = new Object[binding.componentNames.length];
+      for (JsonElement property : properties) {
+        JsonObject entry = property.getAsJsonObject();
+        int index = binding.componentIndex(entry.get("k").getAsString());
+        if (index >= 0) {
+          args[index] = decodeValue(entry.getAsJsonObject("v"), binding.componentTypes[index]);
+        }
+      }
+      for (int i = 0; i < args.length; i++) {
+        if (args[i] == null && binding.componentClasses[i].isPrimitive()) {
+          args[i] = Array.get(Array.newInstance(binding.componentClasses[i], 1), 0);
+        }
+      }
+      Object result = binding.create(args);
+      register(id, result);
+      return result;
+    }
+    Object result = binding.create();
+    register(id, result);
+    for (JsonElement property : properties) {
+      JsonObject entry = property.getAsJsonObject();
+      Field field = binding.fields.get(entry.get("k").getAsString());
+      if (field == null) {
+        continue;
+      }
+      Object fieldValue = decodeValue(entry.getAsJsonObject("v"), field.getGenericType());
+      if (fieldValue == null && field.getType().isPrimitive()) {
+        continue;
+      }
+      try {
+        field.set(result, fieldValue);
+      } catch (IllegalAccessException e) {
+        throw new PlaywrightException("Cannot set field " + field, e);
+      }
+    }
+    return result;
+  }
+
+  private Object decodeMap(JsonObject entries, Integer id, Class<?> raw, Type type) {
+    if (!Map.class.isAssignableFrom(raw)) {
+      throw mismatch("map", type);
+    }
+    Map<Object, Object> map = newMap(raw, type);
+    register(id, map);
+    Type keyType = typeArgument(type, 0);
+    Type valueType = typeArgument(type, 1);
+    JsonElement items = entries.get("a");
+    if (items != null) {
+      for (JsonElement item : items.getAsJsonArray()) {
+        JsonArray pair = item.getAsJsonObject().getAsJsonArray("a");
+        map.put(decodeValue(pair.get(0).getAsJsonObject(), keyType), decodeValue(pair.get(1).getAsJsonObject(), valueType));
+      }
+    }
+    return map;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<Object, Object> newMap(Class<?> raw, Type type) {
+    if (raw.isAssignableFrom(LinkedHashMap.class)) {
+      return new LinkedHashMap<>();
+    }
+    if (raw.isAssignableFrom(TreeMap.class)) {
+      return new TreeMap<>();
+    }
+    if (!raw.isInterface() && !Modifier.isAbstract(raw.getModifiers())) {
+      return (Map<Object, Object>) newInstance(raw);
+    }
+    throw mismatch("object", type);
+  }
+
+  private static Object newInstance(Class<?> raw) {
+    try {
+      Constructor<?> constructor = raw.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      return constructor.newInstance();
+    } catch (NoSuchMethodException e) {
+      throw new PlaywrightException("Cannot decode into " + raw.getName() + ": no-arg constructor is missing", e);
+    } catch (ReflectiveOperationException e) {
+      throw new PlaywrightException("Cannot create instance of " + raw.getName(), e);
+    }
+  }
+
+  private static Class<?> rawType(Type type) {
+    if (type instanceof Class) {
+      return (Class<?>) type;
+    }
+    if (type instanceof ParameterizedType) {
+      return (Class<?>) ((ParameterizedType) type).getRawType();
+    }
+    if (type instanceof GenericArrayType) {
+      Class<?> component = rawType(((GenericArrayType) type).getGenericComponentType());
+      return Array.newInstance(component, 0).getClass();
+    }
+    if (type instanceof WildcardType) {
+      return rawType(((WildcardType) type).getUpperBounds()[0]);
+    }
+    return Object.class;
+  }
+
+  private static Type typeArgument(Type type, int index) {
+    if (type instanceof ParameterizedType) {
+      Type[] args = ((ParameterizedType) type).getActualTypeArguments();
+      if (index < args.length) {
+        return args[index];
+      }
+    }
+    return Object.class;
+  }
+
+  private static Class<?> boxed(Class<?> raw) {
+    if (!raw.isPrimitive()) {
+      return raw;
+    }
+    return Array.get(Array.newInstance(raw, 1), 0).getClass();
+  }
+
+  private static PlaywrightException mismatch(String actual, Type type) {
+    return new PlaywrightException("Cannot decode " + actual + " into " + type.getTypeName());
+  }
+
+  /**
+   * Cached reflection data for decoding into a POJO or a record.
+   */
+  private static class ClassBinding {
+    final Map<String, Field> fields = new HashMap<>();
+    final Constructor<?> constructor;
+    // Set only for records, whose components are passed to the canonical constructor.
+    final String[] componentNames;
+    final Class<?>[] componentClasses;
+    final Type[] componentTypes;
+
+    ClassBinding(Class<?> raw) {
+      Object[] components = recordComponents(raw);
+      if (components != null) {
+        componentNames = new String[components.length];
+        componentClasses = new Class<?>[components.length];
+        componentTypes = new Type[components.length];
+        try {
+          for (int i = 0; i < components.length; i++) {
+            Class<?> componentClass = components[i].getClass();
+            componentNames[i] = (String) componentClass.getMethod("getName").invoke(components[i]);
+            componentClasses[i] = (Class<?>) componentClass.getMethod("getType").invoke(components[i]);
+            componentTypes[i] = (Type) componentClass.getMethod("getGenericType").invoke(components[i]);
+          }
+          constructor = raw.getDeclaredConstructor(componentClasses);
+        } catch (ReflectiveOperationException e) {
+          throw new PlaywrightException("Cannot decode into record " + raw.getName(), e);
+        }
+      } else {
+        componentNames = null;
+        componentClasses = null;
+        componentTypes = null;
+        try {
+          constructor = raw.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+          throw new PlaywrightException("Cannot decode into " + raw.getName() + ": no-arg constructor is missing", e);
+        }
+        for (Class<?> c = raw; c != null && c != Object.class; c = c.getSuperclass()) {
+          for (Field field : c.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+              continue;
+            }
+            if (!fields.containsKey(field.getName())) {
+              field.setAccessible(true);
+              fields.put(field.getName(), field);
+            }
+          }
+        }
+      }
+      constructor.setAccessible(true);
+    }
+
+    int componentIndex(String name) {
+      for (int i = 0; i < componentNames.length; i++) {
+        if (componentNames[i].equals(name)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    Object create(Object... args) {
+      try {
+        return constructor.newInstance(args);
+      } catch (ReflectiveOperationException e) {
+        throw new PlaywrightException("Cannot create instance of " + constructor.getDeclaringClass().getName(), e);
+      }
+    }
+
+    /**
+     * Returns {@code Class.getRecordComponents()} when running on a JDK with records, otherwise null.
+     */
+    private static Object[] recordComponents(Class<?> raw) {
+      try {
+        Method isRecord = Class.class.getMethod("isRecord");
+        if (!(Boolean) isRecord.invoke(raw)) {
+          return null;
+        }
+        return (Object[]) Class.class.getMethod("getRecordComponents").invoke(raw);
+      } catch (NoSuchMethodException e) {
+        return null;
+      } catch (ReflectiveOperationException e) {
+        throw new PlaywrightException("Cannot inspect " + raw.getName(), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.microsoft.playwright.impl.Serialization.gson;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Parsed storage states shared by all contexts and threads, so that creating many contexts from the same state file or
+ * the same captured string parses it only once. Files are re-read when their modification time or size changes.
+ * Returned objects are only ever serialized into protocol messages and must not be modified.
+ */
+class StorageStateCache {
+  private static final int MAX_ENTRIES = 32;
+  // Cached texts are retained as keys, so their total length is bounded as well.
+  private static final long MAX_TEXT_CHARS = 8 * 1024 * 1024;
+  private static final Map<Path, FileEntry> files = lruMap();
+  // Guarded by itself.
+  private static final LinkedHashMap<String, JsonObject> texts = new LinkedHashMap<>(16, 0.75f, true);
+  private static long textChars;
+
+  private static class FileEntry {
+    final FileTime lastModified;
+    final long size;
+    final JsonObject state;
+
+    FileEntry(FileTime lastModified, long size, JsonObject state) {
+      this.lastModified = lastModified;
+      this.size = size;
+      this.state = state;
+    }
+  }
+
+  private static <K, V> Map<K, V> lruMap() {
+    return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > MAX_ENTRIES;
+      }
+    });
+  }
+
+  static JsonObject fromFile(Path path) {
+    try {
+      Path key = path.toAbsolutePath().normalize();
+      BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+      FileEntry entry = files.get(key);
+      if (entry != null && entry.lastModified.equals(attributes.lastModifiedTime()) && entry.size == attributes.size()) {
+        return entry.state;
+      }
+      JsonObject state;
+      try (Reader reader = Files.newBufferedReader(key, UTF_8)) {
+        state = gson().fromJson(reader, JsonObject.class);
+      }
+      files.put(key, new FileEntry(attributes.lastModifiedTime(), attributes.size(), state));
+      return state;
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to read storage state from file", e);
+    }
+  }
+
+  static JsonObject fromText(String text) {
+    synchronized (texts) {
+      JsonObject state = texts.get(text);
+      if (state != null) {
+        return state;
+      }
+    }
+    JsonObject state = gson().fromJson(text, JsonObject.class);
+    if (text.length() > MAX_TEXT_CHARS) {
+      return state;
+    }
+    synchronized (texts) {
+      if (texts.put(text, state) == null) {
+        textChars += text.length();
+      }
+      Iterator<String> eldest = texts.keySet().iterator();
+      while (texts.size() > MAX_ENTRIES || textChars > MAX_TEXT_CHARS) {
+        textChars -= eldest.next().length();
+        eldest.remove();
+      }
+    }
+    return state;
+  }
+}
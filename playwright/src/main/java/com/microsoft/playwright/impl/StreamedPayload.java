@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Large binary value that is sent base64-encoded without ever being held in the message. The message carries
+ * {@link #placeholder} in place of the value; a {@link StreamingTransport} encodes the value straight into its output in
+ * bounded chunks, any other transport gets the encoded value inlined before sending.
+ *
+ * <p> This only bounds the memory used on the Java side. The driver still receives the whole message as one string, so
+ * the message size is limited, see {@link OutgoingMessage#MAX_DRIVER_MESSAGE_LENGTH}.
+ */
+class StreamedPayload {
+  // Values smaller than this are cheaper to send inline.
+  static final int THRESHOLD = 1024 * 1024;
+  // Multiple of 3 so that chunks encode without padding and concatenate into valid base64.
+  private static final int CHUNK_SIZE = 48 * 1024;
+
+  final String placeholder = "__pw_streamed_payload_" + UUID.randomUUID();
+  private final Path file;
+  private final long size;
+  // Opened on the calling thread so that missing or unreadable files fail the call, read once by the transport.
+  private InputStream in;
+
+  private StreamedPayload(Path file, InputStream in, long size) {
+    this.file = file;
+    this.in = in;
+    this.size = size;
+  }
+
+  static StreamedPayload fromFile(Path file) {
+    InputStream in = null;
+    try {
+      in = Files.newInputStream(file);
+      return new StreamedPayload(file, in, Files.size(file));
+    } catch (IOException e) {
+      closeQuietly(in);
+      throw new PlaywrightException("Failed to read from file", e);
+    }
+  }
+
+  static StreamedPayload fromBytes(byte[] bytes) {
+    return new StreamedPayload(null, new ByteArrayInputStream(bytes), bytes.length);
+  }
+
+  long size() {
+    return size;
+  }
+
+  long encodedLength() {
+    return (size + 2) / 3 * 4;
+  }
+
+  /**
+   * Writes exactly {@link #encodedLength()} bytes. The length is announced before the value is read, so a file that
+   * shrinks in the meantime fails with an {@link IOException} after part of the value has been written and the
+   * output can no longer be used. A file that grows is cut at its original size.
+   */
+  void writeTo(OutputStream out) throws IOException {
+    Base64.Encoder encoder = Base64.getEncoder();
+    byte[] chunk = new byte[CHUNK_SIZE];
+    try (InputStream in = take()) {
+      long remaining = size;
+      while (remaining > 0) {
+        int length = (int) Math.min(chunk.length, remaining);
+        readFully(in, chunk, length);
+        out.write(encoder.encode(length == chunk.length ? chunk : Arrays.copyOf(chunk, length)));
+        remaining -= length;
+      }
+    }
+  }
+
+  private String encode() {
+    try (InputStream in = take()) {
+      byte[] value = new byte[(int) size];
+      readFully(in, value, value.length);
+      return Base64.getEncoder().encodeToString(value);
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to read from file", e);
+    }
+  }
+
+  /**
+   * Releases the value if it is not going to be sent.
+   */
+  void close() {
+    closeQuietly(in);
+    in = null;
+  }
+
+  static void closeAll(List<StreamedPayload> payloads) {
+    for (StreamedPayload payload : payloads) {
+      payload.close();
+    }
+  }
+
+  private InputStream take() throws IOException {
+    if (in == null) {
+      throw new IOException("Payload has already been sent");
+    }
+    InputStream result = in;
+    in = null;
+    return result;
+  }
+
+  private void readFully(InputStream in, byte[] buffer, int length) throws IOException {
+    int total = 0;
+    while (total < length) {
+      int n = in.read(buffer, total, length - total);
+      if (n < 0) {
+        throw new EOFException(file + " is shorter than the " + size + " bytes it had when the request was created");
+      }
+      total += n;
+    }
+  }
+
+  private static void closeQuietly(InputStream in) {
+    if (in == null) {
+      return;
+    }
+    try {
+      in.close();
+    } catch (IOException e) {
+      // Nothing has been read from it, or it has been read in full.
+    }
+  }
+
+  /**
+   * Replaces placeholders in the message with the encoded values, for transports that can only send whole messages.
+   */
+  static void inline(JsonObject message, List<StreamedPayload> payloads) {
+    for (StreamedPayload payload : payloads) {
+      replace(message, payload);
+    }
+  }
+
+  private static void replace(JsonElement element, StreamedPayload payload) {
+    if (element.isJsonObject()) {
+      for (Map.Entry<String, JsonElement> e : element.getAsJsonObject().entrySet()) {
+        if (isPlaceholder(e.getValue(), payload)) {
+          e.setValue(new JsonPrimitive(payload.encode()));
+        } else {
+          replace(e.getValue(), payload);
+        }
+      }
+    } else if (element.isJsonArray()) {
+      JsonArray array = element.getAsJsonArray();
+      for (int i = 0; i < array.size(); i++) {
+        if (isPlaceholder(array.get(i), payload)) {
+          array.set(i, new JsonPrimitive(payload.encode()));
+        } else {
+          replace(array.get(i), payload);
+        }
+      }
+    }
+  }
+
+  private static boolean isPlaceholder(JsonElement element, StreamedPayload payload) {
+    return element.isJsonPrimitive() && payload.placeholder.equals(element.getAsString());
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonObject;
+
+import java.util.List;
+
+/**
+ * Transport that writes messages as bytes and can encode {@link StreamedPayload}s directly into its output.
+ */
+interface StreamingTransport extends Transport {
+  /**
+   * Sends a message whose string values equal to a payload's placeholder are replaced with the payload's encoded value.
+   */
+  void send(JsonObject message, List<StreamedPayload> payloads);
+}
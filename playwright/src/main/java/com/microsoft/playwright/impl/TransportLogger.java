@@ -20,11 +20,12 @@ import com.google.gson.JsonObject;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
 
 import static com.microsoft.playwright.impl.LoggingSupport.logWithTimestamp;
 import static com.microsoft.playwright.impl.Serialization.gson;
 
-class TransportLogger implements Transport {
+class TransportLogger implements StreamingTransport {
   private final Transport transport;
 
   TransportLogger(Transport transport) {
@@ -38,6 +39,18 @@ class TransportLogger implements Transport {
     transport.send(message);
   }
 
+  @Override
+  public void send(JsonObject message, List<StreamedPayload> payloads) {
+    String messageString = gson().toJson(message);
+    logWithTimestamp("SEND ► " + messageString);
+    if (transport instanceof StreamingTransport) {
+      ((StreamingTransport) transport).send(message, payloads);
+    } else {
+      StreamedPayload.inline(message, payloads);
+      transport.send(message);
+    }
+  }
+
   @Override
   public JsonObject poll(Duration timeout) {
     JsonObject message = transport.poll(timeout);
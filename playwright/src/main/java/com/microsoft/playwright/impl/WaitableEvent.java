@@ -33,7 +33,7 @@ class WaitableEvent<EventType, T> implements Waitable<T>, Consumer<T> {
     this.listeners = listeners;
     this.type = type;
     this.predicate = predicate;
-    listeners.add(type, this);
+    listeners.addSync(type, this);
   }
 
   @Override
@@ -16,18 +16,72 @@
 
 package com.microsoft.playwright.impl;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
-class WaitablePredicate<T> implements Waitable<T> {
+import static com.microsoft.playwright.impl.LoggingSupport.logApiIfEnabled;
+
+/**
+ * Re-evaluates the predicate after an event has been dispatched on the connection or when
+ * the polling interval expires, rather than on every tick of the message loop. Without an
+ * event filter the predicate is polled at the message loop's own 10ms cadence; when the
+ * waiter is restricted to the given event names the interval backs off up to 100ms.
+ */
+class WaitablePredicate<T> implements Waitable<T>, Consumer<String> {
+  private static final long[] POLLING_INTERVALS_MS = {10, 20, 50, 100};
+
+  private final Connection connection;
   private final BooleanSupplier predicate;
+  private final Set<String> events;
+  private final long startNanos = System.nanoTime();
+  private boolean hasPendingEvent = true;
+  private int pollingStep;
+  private long nextPollNanos;
+  private boolean isDone;
+  private int evaluationCount;
+  private boolean isDisposed;
 
-  WaitablePredicate(BooleanSupplier predicate) {
+  WaitablePredicate(Connection connection, BooleanSupplier predicate, Collection<String> events) {
+    this.connection = connection;
     this.predicate = predicate;
+    if (events == null) {
+      this.events = null;
+    } else {
+      this.events = new HashSet<>();
+      for (String event : events) {
+        this.events.add(event.toLowerCase());
+      }
+    }
+    connection.addEventObserver(this);
+  }
+
+  @Override
+  public void accept(String event) {
+    if (events == null || events.contains(event.toLowerCase())) {
+      hasPendingEvent = true;
+    }
   }
 
   @Override
   public boolean isDone() {
-    return predicate.getAsBoolean();
+    if (isDone) {
+      return true;
+    }
+    long now = System.nanoTime();
+    if (!hasPendingEvent && now < nextPollNanos) {
+      return false;
+    }
+    hasPendingEvent = false;
+    nextPollNanos = now + POLLING_INTERVALS_MS[pollingStep] * 1_000_000;
+    if (events != null && pollingStep < POLLING_INTERVALS_MS.length - 1) {
+      ++pollingStep;
+    }
+    ++evaluationCount;
+    isDone = predicate.getAsBoolean();
+    return isDone;
   }
 
   @Override
@@ -37,5 +91,12 @@ class WaitablePredicate<T> implements Waitable<T> {
 
   @Override
   public void dispose() {
+    if (isDisposed) {
+      return;
+    }
+    isDisposed = true;
+    connection.removeEventObserver(this);
+    logApiIfEnabled("waitForCondition evaluated predicate " + evaluationCount + " times in " +
+      (System.nanoTime() - startNanos) / 1_000_000 + "ms");
   }
 }
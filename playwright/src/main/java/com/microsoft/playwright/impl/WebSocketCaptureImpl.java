@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.WebSocketCapture;
+import com.microsoft.playwright.options.CapturedWebSocketFrame;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.microsoft.playwright.WebSocket.CaptureFramesOptions;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.*;
+
+class WebSocketCaptureImpl implements WebSocketCapture {
+  private static final int DEFAULT_CAPACITY = 1000;
+  private static final int CHUNK_SIZE = 4 * 1024 * 1024;
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+  // Maximum number of entries in the offsets index.
+  private static final int MAX_INDEX_SIZE = 4096;
+  private static final byte[] MAGIC = "PWWS".getBytes(UTF_8);
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = MAGIC.length + 4;
+  // direction, opcode, timestamp, payload length
+  private static final int RECORD_HEADER_SIZE = 1 + 1 + 8 + 4;
+  private static final byte SENT = 1;
+  private static final byte RECEIVED = 2;
+
+  private final WebSocketImpl webSocket;
+  private final CapturedWebSocketFrame[] recent;
+  // Index of the oldest frame in recent.
+  private int head;
+  private int size;
+  private int frameCount;
+
+  private final Path path;
+  private FileChannel channel;
+  private MappedByteBuffer mapped;
+  private long written;
+  // File offset of every indexStride-th record. Once the index is full every other entry is dropped and the
+  // stride doubles, so reading a frame back skips at most frameCount / MAX_INDEX_SIZE records.
+  private long[] offsets = new long[256];
+  private int indexStride = 1;
+
+  private final Consumer<JsonObject> onSent = params -> capture(params, true);
+  private final Consumer<JsonObject> onReceived = params -> capture(params, false);
+  private final Consumer<JsonObject> onClose = params -> close();
+  private boolean isClosed;
+
+  WebSocketCaptureImpl(WebSocketImpl webSocket, CaptureFramesOptions options) {
+    if (options == null) {
+      options = new CaptureFramesOptions();
+    }
+    int capacity = options.capacity == null ? DEFAULT_CAPACITY : options.capacity;
+    if (capacity < 0) {
+      throw new PlaywrightException("Capacity must not be negative, got: " + capacity);
+    }
+    this.webSocket = webSocket;
+    this.recent = new CapturedWebSocketFrame[capacity];
+    this.path = options.path;
+    if (path != null) {
+      openLog();
+    }
+    webSocket.listeners.addRaw(WebSocketImpl.EventType.FRAMESENT, onSent);
+    webSocket.listeners.addRaw(WebSocketImpl.EventType.FRAMERECEIVED, onReceived);
+    webSocket.listeners.addRaw(WebSocketImpl.EventType.CLOSE, onClose);
+  }
+
+  private void openLog() {
+    try {
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+      channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, READ, WRITE);
+      ensureMapped(HEADER_SIZE);
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to create WebSocket log: " + path, e);
+    }
+    mapped.put(MAGIC);
+    mapped.putInt(VERSION);
+    written = HEADER_SIZE;
+  }
+
+  private void ensureMapped(int bytes) throws IOException {
+    if (mapped != null && mapped.remaining() >= bytes) {
+      return;
+    }
+    if (mapped != null) {
+      mapped.force();
+      unmap(mapped);
+    }
+    // Mapping past the end grows the file, the gap stays zero-filled which marks the end of the log.
+    mapped = channel.map(FileChannel.MapMode.READ_WRITE, written, Math.max(CHUNK_SIZE, bytes));
+  }
+
+  private void capture(JsonObject params, boolean sent) {
+    CapturedWebSocketFrame frame = new CapturedWebSocketFrame();
+    frame.timestamp = System.currentTimeMillis();
+    frame.sent = sent;
+    frame.opcode = params.get("opcode").getAsInt();
+    String data = params.get("data").getAsString();
+    frame.payload = frame.opcode == 2 ? Base64.getDecoder().decode(data) : data.getBytes(UTF_8);
+    if (channel != null) {
+      append(frame);
+    }
+    ++frameCount;
+    if (recent.length == 0) {
+      return;
+    }
+    if (size < recent.length) {
+      recent[(head + size++) % recent.length] = frame;
+    } else {
+      recent[head] = frame;
+      head = (head + 1) % recent.length;
+    }
+  }
+
+  private void append(CapturedWebSocketFrame frame) {
+    int recordSize = RECORD_HEADER_SIZE + frame.payload.length;
+    try {
+      ensureMapped(recordSize);
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to write WebSocket log: " + path, e);
+    }
+    if (frameCount % indexStride == 0) {
+      int index = frameCount / indexStride;
+      if (index == MAX_INDEX_SIZE) {
+        for (int i = 0; i < MAX_INDEX_SIZE / 2; i++) {
+          offsets[i] = offsets[2 * i];
+        }
+        indexStride *= 2;
+        index /= 2;
+      } else if (index == offsets.length) {
+        offsets = Arrays.copyOf(offsets, Math.min(offsets.length * 2, MAX_INDEX_SIZE));
+      }
+      offsets[index] = written;
+    }
+    mapped.put(frame.sent ? SENT : RECEIVED);
+    mapped.put((byte) frame.opcode);
+    mapped.putDouble(frame.timestamp);
+    mapped.putInt(frame.payload.length);
+    mapped.put(frame.payload);
+    written += recordSize;
+  }
+
+  @Override
+  public int frameCount() {
+    return frameCount;
+  }
+
+  @Override
+  public List<CapturedWebSocketFrame> recentFrames() {
+    List<CapturedWebSocketFrame> result = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      result.add(recent[(head + i) % recent.length]);
+    }
+    return result;
+  }
+
+  @Override
+  public List<CapturedWebSocketFrame> readFrames(int from, int count) {
+    if (path == null) {
+      throw new PlaywrightException("Frames are only logged when CaptureFramesOptions.path is set");
+    }
+    if (from < 0 || from > frameCount) {
+      throw new PlaywrightException("Frame index out of range: " + from + ", frame count: " + frameCount);
+    }
+    int end = (int) Math.min((long) from + Math.max(count, 0), frameCount);
+    List<CapturedWebSocketFrame> result = new ArrayList<>(end - from);
+    if (from == end) {
+      return result;
+    }
+    try {
+      if (channel != null) {
+        readRecords(channel, from, end, result);
+      } else {
+        try (FileChannel file = FileChannel.open(path, READ)) {
+          readRecords(file, from, end, result);
+        }
+      }
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to read WebSocket log: " + path, e);
+    }
+    return result;
+  }
+
+  private void readRecords(FileChannel file, int from, int end, List<CapturedWebSocketFrame> result) throws IOException {
+    // Records are read through a bounded buffer, payloads that don't fit are read directly into their arrays.
+    ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    buffer.flip();
+    long position = offsets[from / indexStride];
+    for (int i = from - from % indexStride; i < end; i++) {
+      position = fill(file, buffer, position, RECORD_HEADER_SIZE);
+      CapturedWebSocketFrame frame = new CapturedWebSocketFrame();
+      frame.sent = buffer.get() == SENT;
+      frame.opcode = buffer.get();
+      frame.timestamp = buffer.getDouble();
+      int length = buffer.getInt();
+      if (i < from) {
+        int skipped = Math.min(length, buffer.remaining());
+        buffer.position(buffer.position() + skipped);
+        position += length - skipped;
+        continue;
+      }
+      frame.payload = new byte[length];
+      int buffered = Math.min(length, buffer.remaining());
+      buffer.get(frame.payload, 0, buffered);
+      ByteBuffer payload = ByteBuffer.wrap(frame.payload, buffered, length - buffered);
+      while (payload.hasRemaining()) {
+        int read = file.read(payload, position);
+        if (read < 0) {
+          throw new IOException("Unexpected end of file");
+        }
+        position += read;
+      }
+      result.add(frame);
+    }
+  }
+
+  /**
+   * Makes sure that {@code buffer} has at least {@code bytes} remaining, reading from {@code position} on.
+   * Returns the file position following the buffered bytes.
+   */
+  private static long fill(FileChannel file, ByteBuffer buffer, long position, int bytes) throws IOException {
+    if (buffer.remaining() >= bytes) {
+      return position;
+    }
+    buffer.compact();
+    while (buffer.position() < bytes) {
+      int read = file.read(buffer, position);
+      if (read < 0) {
+        throw new IOException("Unexpected end of file");
+      }
+      position += read;
+    }
+    buffer.flip();
+    return position;
+  }
+
+  @Override
+  public void close() {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    webSocket.listeners.removeRaw(WebSocketImpl.EventType.FRAMESENT, onSent);
+    webSocket.listeners.removeRaw(WebSocketImpl.EventType.FRAMERECEIVED, onReceived);
+    webSocket.listeners.removeRaw(WebSocketImpl.EventType.CLOSE, onClose);
+    if (channel == null) {
+      return;
+    }
+    try {
+      mapped.force();
+      unmap(mapped);
+      mapped = null;
+      try {
+        channel.truncate(written);
+      } catch (IOException e) {
+        // Some platforms refuse to truncate a file that is still mapped if unmapping failed, the zero-filled tail
+        // still terminates the log.
+      }
+      channel.close();
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to close WebSocket log: " + path, e);
+    } finally {
+      channel = null;
+    }
+  }
+
+  /**
+   * Releases the mapping right away instead of when the buffer is garbage collected. There is no public API for
+   * this, so it is best effort: {@code Unsafe.invokeCleaner} on Java 9+ and the buffer's cleaner on Java 8.
+   */
+  private static void unmap(MappedByteBuffer buffer) {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      try {
+        Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+        invokeCleaner.invoke(theUnsafe.get(null), buffer);
+      } catch (NoSuchMethodException e) {
+        Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+        cleanerMethod.setAccessible(true);
+        Object cleaner = cleanerMethod.invoke(buffer);
+        if (cleaner != null) {
+          cleaner.getClass().getMethod("clean").invoke(cleaner);
+        }
+      }
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // The mapping is released when the buffer is collected.
+    }
+  }
+}
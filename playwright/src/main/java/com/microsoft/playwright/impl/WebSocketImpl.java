@@ -19,6 +19,7 @@ package com.microsoft.playwright.impl;
 import com.google.gson.JsonObject;
 import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.WebSocket;
+import com.microsoft.playwright.WebSocketCapture;
 import com.microsoft.playwright.WebSocketFrame;
 
 import java.util.ArrayList;
@@ -27,7 +28,7 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 class WebSocketImpl extends ChannelOwner implements WebSocket {
-  private final ListenerCollection<EventType> listeners = new ListenerCollection<>();
+  final ListenerCollection<EventType> listeners = new ListenerCollection<>();
   private final PageImpl page;
   private boolean isClosed;
 
@@ -107,6 +108,11 @@ class WebSocketImpl extends ChannelOwner implements WebSocket {
     return waitForEventWithTimeout(EventType.FRAMESENT, code, options.predicate, options.timeout);
   }
 
+  @Override
+  public WebSocketCapture captureFrames(CaptureFramesOptions options) {
+    return new WebSocketCaptureImpl(this, options);
+  }
+
   @Override
   public boolean isClosed() {
     return isClosed;
@@ -157,6 +163,11 @@ class WebSocketImpl extends ChannelOwner implements WebSocket {
         if (opCode != 1 && opCode != 2) {
           break;
         }
+        listeners.notifyRaw(EventType.FRAMESENT, parameters);
+        // Frame captures consume raw params, don't decode the payload unless someone listens.
+        if (!listeners.hasListeners(EventType.FRAMESENT)) {
+          break;
+        }
         WebSocketFrameImpl WebSocketFrame = new WebSocketFrameImpl(
           parameters.get("data").getAsString(), opCode == 2);
         listeners.notify(EventType.FRAMESENT, WebSocketFrame);
@@ -167,6 +178,10 @@ class WebSocketImpl extends ChannelOwner implements WebSocket {
         if (opCode != 1 && opCode != 2) {
           break;
         }
+        listeners.notifyRaw(EventType.FRAMERECEIVED, parameters);
+        if (!listeners.hasListeners(EventType.FRAMERECEIVED)) {
+          break;
+        }
         WebSocketFrameImpl WebSocketFrame = new WebSocketFrameImpl(
           parameters.get("data").getAsString(), opCode == 2);
         listeners.notify(EventType.FRAMERECEIVED, WebSocketFrame);
@@ -180,6 +195,7 @@ class WebSocketImpl extends ChannelOwner implements WebSocket {
       case "close": {
         isClosed = true;
         listeners.notify(EventType.CLOSE, this);
+        listeners.notifyRaw(EventType.CLOSE, parameters);
         break;
       }
       default: {
@@ -6,16 +6,20 @@ import com.microsoft.playwright.WebSocketFrame;
 import com.microsoft.playwright.WebSocketRoute;
 
 import java.util.Base64;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static com.microsoft.playwright.impl.Serialization.gson;
 
 class WebSocketRouteImpl extends ChannelOwner implements WebSocketRoute {
 
   private Consumer<WebSocketFrame> onPageMessage;
+  private Predicate<String> pagePassThrough;
   private BiConsumer<Integer, String> onPageClose;
   private Consumer<WebSocketFrame> onServerMessage;
+  private Predicate<String> serverPassThrough;
   private BiConsumer<Integer, String> onServerClose;
   private boolean connected;
   private WebSocketRoute server = new WebSocketRoute() {
@@ -40,16 +44,19 @@ class WebSocketRouteImpl extends ChannelOwner implements WebSocketRoute {
     }
 
     @Override
-    public void onMessage(Consumer<WebSocketFrame> handler) {
+    public void onMessage(Consumer<WebSocketFrame> handler, OnMessageOptions options) {
       onServerMessage = handler;
+      serverPassThrough = options == null ? null : options.passThrough;
     }
 
     @Override
     public void send(String message) {
-      JsonObject params = new JsonObject();
-      params.addProperty("message", message);
-      params.addProperty("isBase64", false);
-      sendMessageAsync("sendToServer", params);
+      sendMessageAsync("sendToServer", textMessage(message));
+    }
+
+    @Override
+    public void send(List<String> messages) {
+      sendAll("sendToServer", messages);
     }
 
     @Override
@@ -97,16 +104,37 @@ class WebSocketRouteImpl extends ChannelOwner implements WebSocketRoute {
   }
 
   @Override
-  public void onMessage(Consumer<WebSocketFrame> handler) {
+  public void onMessage(Consumer<WebSocketFrame> handler, OnMessageOptions options) {
     onPageMessage = handler;
+    pagePassThrough = options == null ? null : options.passThrough;
   }
 
   @Override
   public void send(String message) {
+    sendMessageAsync("sendToPage", textMessage(message));
+  }
+
+  @Override
+  public void send(List<String> messages) {
+    sendAll("sendToPage", messages);
+  }
+
+  private static JsonObject textMessage(String message) {
     JsonObject params = new JsonObject();
     params.addProperty("message", message);
     params.addProperty("isBase64", false);
-    sendMessageAsync("sendToPage", params);
+    return params;
+  }
+
+  private void sendAll(String method, List<String> messages) {
+    // Replies are not awaited, so all messages are queued to the transport back to back.
+    for (String message : messages) {
+      sendMessageAsync(method, textMessage(message));
+    }
+  }
+
+  private static boolean passesThrough(Predicate<String> passThrough, String message, boolean isBase64) {
+    return passThrough != null && !isBase64 && passThrough.test(message);
   }
 
   @Override
@@ -140,24 +168,19 @@ class WebSocketRouteImpl extends ChannelOwner implements WebSocketRoute {
     if ("messageFromPage".equals(event)) {
       String message = params.get("message").getAsString();
       boolean isBase64 = params.get("isBase64").getAsBoolean();
-      if (onPageMessage != null) {
+      if (onPageMessage != null && !(connected && passesThrough(pagePassThrough, message, isBase64))) {
         onPageMessage.accept(new WebSocketFrameImpl(message, isBase64));
       } else if (connected) {
-        JsonObject messageParams = new JsonObject();
-        messageParams.addProperty("message", message);
-        messageParams.addProperty("isBase64", isBase64);
-        sendMessageAsync("sendToServer", messageParams);
+        // The event params have the same shape as the command params.
+        sendMessageAsync("sendToServer", params);
       }
     } else if ("messageFromServer".equals(event)) {
       String message = params.get("message").getAsString();
       boolean isBase64 = params.get("isBase64").getAsBoolean();
-      if (onServerMessage != null) {
+      if (onServerMessage != null && !passesThrough(serverPassThrough, message, isBase64)) {
         onServerMessage.accept(new WebSocketFrameImpl(message, isBase64));
       } else {
-        JsonObject messageParams = new JsonObject();
-        messageParams.addProperty("message", message);
-        messageParams.addProperty("isBase64", isBase64);
-        sendMessageAsync("sendToPage", messageParams);
+        sendMessageAsync("sendToPage", params);
       }
     } else if ("closePage".equals(event)) {
       int code = params.get("code").getAsInt();
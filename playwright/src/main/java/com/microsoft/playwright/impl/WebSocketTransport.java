@@ -0,0 +1,550 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.TimeoutError;
+
+import javax.net.ssl.SNIHostName;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.microsoft.playwright.impl.Serialization.gson;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Minimal RFC 6455 client that carries protocol messages to a Playwright server directly, without going through the
+ * local driver. Supports permessage-deflate (RFC 7692) and detects dead connections with pings.
+ */
+class WebSocketTransport implements Transport {
+  private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+  private static final long PING_INTERVAL_MS = 15_000;
+  // Small messages (most protocol calls) are not worth the CPU, permessage-deflate lets each message
+  // choose whether it is compressed. Large ones are mostly base64 payloads which deflate well even at
+  // the fastest level.
+  private static final int COMPRESSION_THRESHOLD = 1024;
+  private static final int OPCODE_CONTINUATION = 0;
+  private static final int OPCODE_TEXT = 1;
+  private static final int OPCODE_BINARY = 2;
+  private static final int OPCODE_CLOSE = 8;
+  private static final int OPCODE_PING = 9;
+  private static final int OPCODE_PONG = 10;
+  // Trailer that a sync flush appends and permessage-deflate strips.
+  private static final byte[] DEFLATE_TAIL = {0, 0, (byte) 0xff, (byte) 0xff};
+
+  private final Socket socket;
+  private final InputStream in;
+  private final OutputStream out;
+  private final SecureRandom random = new SecureRandom();
+  private final BlockingQueue<Incoming> incoming = new LinkedBlockingQueue<>();
+  private final long slowMoNanos;
+  private final ReaderThread reader;
+  private final ScheduledExecutorService pinger;
+  private Deflater deflater;
+  private Inflater inflater;
+  private boolean resetDeflater;
+  private boolean resetInflater;
+  // Set before the deflater and inflater are ended, checked by their users under the respective lock.
+  private volatile boolean isCompressionReleased;
+  private volatile long lastPongNanos = System.nanoTime();
+  private volatile String closeReason;
+  private Runnable onClose;
+  private boolean isClosed;
+
+  private static class Incoming {
+    final JsonObject message;
+    final long receivedNanos = System.nanoTime();
+
+    Incoming(JsonObject message) {
+      this.message = message;
+    }
+  }
+
+  static WebSocketTransport connect(String wsEndpoint, Map<String, String> headers, double timeout, double slowMo) {
+    return connect(wsEndpoint, headers, timeout, slowMo, (SSLSocketFactory) SSLSocketFactory.getDefault());
+  }
+
+  static WebSocketTransport connect(String wsEndpoint, Map<String, String> headers, double timeout, double slowMo,
+                                    SSLSocketFactory sslSocketFactory) {
+    URI uri;
+    try {
+      uri = new URI(wsEndpoint);
+    } catch (URISyntaxException e) {
+      throw new PlaywrightException("Invalid WebSocket endpoint: " + wsEndpoint, e);
+    }
+    String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+    if (!"ws".equals(scheme) && !"wss".equals(scheme)) {
+      throw new PlaywrightException("WebSocket endpoint must start with ws:// or wss://, got: " + wsEndpoint);
+    }
+    boolean secure = "wss".equals(scheme);
+    int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+    Socket socket = null;
+    try {
+      socket = secure ? createSecureSocket(sslSocketFactory, uri.getHost()) : new Socket();
+      socket.setTcpNoDelay(true);
+      socket.connect(new InetSocketAddress(uri.getHost(), port), (int) timeout);
+      socket.setSoTimeout((int) timeout);
+      WebSocketTransport transport = new WebSocketTransport(socket, uri, port, headers, slowMo);
+      socket.setSoTimeout(0);
+      transport.start();
+      return transport;
+    } catch (SocketTimeoutException e) {
+      closeQuietly(socket);
+      throw new TimeoutError("Timeout " + (int) timeout + "ms exceeded while connecting to " + wsEndpoint, e);
+    } catch (IOException e) {
+      closeQuietly(socket);
+      throw new PlaywrightException("Failed to connect to " + wsEndpoint + ": " + e.getMessage(), e);
+    } catch (RuntimeException e) {
+      closeQuietly(socket);
+      throw e;
+    }
+  }
+
+  /**
+   * Unlike HTTPS clients, a plain {@link SSLSocket} neither verifies that the certificate matches the host nor sends
+   * the host name, enable both before the handshake.
+   */
+  private static SSLSocket createSecureSocket(SSLSocketFactory factory, String host) throws IOException {
+    SSLSocket socket = (SSLSocket) factory.createSocket();
+    SSLParameters parameters = socket.getSSLParameters();
+    parameters.setEndpointIdentificationAlgorithm("HTTPS");
+    try {
+      parameters.setServerNames(Collections.singletonList(new SNIHostName(host)));
+    } catch (IllegalArgumentException e) {
+      // IP addresses are not sent as server names, the certificate is still checked against them.
+    }
+    socket.setSSLParameters(parameters);
+    return socket;
+  }
+
+  private WebSocketTransport(Socket socket, URI uri, int port, Map<String, String> headers, double slowMo) throws IOException {
+    this.socket = socket;
+    this.in = new BufferedInputStream(socket.getInputStream());
+    this.out = new BufferedOutputStream(socket.getOutputStream());
+    this.slowMoNanos = (long) (slowMo * 1_000_000);
+    handshake(uri, port, headers);
+    reader = new ReaderThread();
+    pinger = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "Playwright-WebSocket-Ping");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  private void start() {
+    reader.start();
+    pinger.scheduleWithFixedDelay(this::checkAlive, PING_INTERVAL_MS, PING_INTERVAL_MS, TimeUnit.MILLISECONDS);
+  }
+
+  private void handshake(URI uri, int port, Map<String, String> headers) throws IOException {
+    byte[] nonce = new byte[16];
+    random.nextBytes(nonce);
+    String key = Base64.getEncoder().encodeToString(nonce);
+    String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+    if (uri.getRawQuery() != null) {
+      path += "?" + uri.getRawQuery();
+    }
+    StringBuilder request = new StringBuilder();
+    request.append("GET ").append(path).append(" HTTP/1.1\r\n");
+    request.append("Host: ").append(uri.getHost()).append(':').append(port).append("\r\n");
+    request.append("Upgrade: websocket\r\n");
+    request.append("Connection: Upgrade\r\n");
+    request.append("Sec-WebSocket-Key: ").append(key).append("\r\n");
+    request.append("Sec-WebSocket-Version: 13\r\n");
+    request.append("Sec-WebSocket-Extensions: permessage-deflate\r\n");
+    if (headers != null) {
+      for (Map.Entry<String, String> header : headers.entrySet()) {
+        request.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+      }
+    }
+    request.append("\r\n");
+    out.write(request.toString().getBytes(UTF_8));
+    out.flush();
+
+    String statusLine = readLine();
+    String accept = null;
+    String extensions = null;
+    int contentLength = 0;
+    for (String line = readLine(); !line.isEmpty(); line = readLine()) {
+      int colon = line.indexOf(':');
+      if (colon == -1) {
+        continue;
+      }
+      String name = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+      String value = line.substring(colon + 1).trim();
+      if ("sec-websocket-accept".equals(name)) {
+        accept = value;
+      } else if ("sec-websocket-extensions".equals(name)) {
+        extensions = value;
+      } else if ("content-length".equals(name)) {
+        contentLength = Integer.parseInt(value);
+      }
+    }
+    String[] status = statusLine.split(" ", 3);
+    if (status.length < 2 || !"101".equals(status[1])) {
+      // The server explains why it rejected the connection in the body, e.g. on version mismatch.
+      byte[] body = new byte[Math.min(contentLength, 64 * 1024)];
+      new DataInputStream(in).readFully(body);
+      throw new IOException("WebSocket upgrade failed: " + statusLine + (body.length > 0 ? "\n" + new String(body, UTF_8) : ""));
+    }
+    if (!expectedAccept(key).equals(accept)) {
+      throw new IOException("Invalid Sec-WebSocket-Accept header: " + accept);
+    }
+    if (extensions != null) {
+      negotiateDeflate(extensions);
+    }
+  }
+
+  private void negotiateDeflate(String extensions) throws IOException {
+    String[] params = extensions.split(";");
+    if (!"permessage-deflate".equals(params[0].trim())) {
+      throw new IOException("Unexpected WebSocket extension: " + extensions);
+    }
+    for (int i = 1; i < params.length; i++) {
+      String param = params[i].trim();
+      if ("client_no_context_takeover".equals(param)) {
+        resetDeflater = true;
+      } else if ("server_no_context_takeover".equals(param)) {
+        resetInflater = true;
+      } else if (param.startsWith("client_max_window_bits")) {
+        // Deflater always uses a 32K window, we did not offer to limit it.
+        throw new IOException("Unsupported permessage-deflate parameter: " + param);
+      }
+    }
+    deflater = new Deflater(Deflater.BEST_SPEED, true);
+    inflater = new Inflater(true);
+  }
+
+  private static String expectedAccept(String key) {
+    try {
+      MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+      return Base64.getEncoder().encodeToString(sha1.digest((key + ACCEPT_GUID).getBytes(ISO_8859_1)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new PlaywrightException("SHA-1 is not available", e);
+    }
+  }
+
+  private String readLine() throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int c;
+    while ((c = in.read()) != '\n') {
+      if (c == -1) {
+        throw new EOFException("Connection closed during WebSocket handshake");
+      }
+      if (c != '\r') {
+        line.write(c);
+      }
+    }
+    return new String(line.toByteArray(), ISO_8859_1);
+  }
+
+  void onClose(Runnable handler) {
+    onClose = handler;
+  }
+
+  @Override
+  public void send(JsonObject message) {
+    checkIfClosed();
+    byte[] payload = gson().toJson(message).getBytes(UTF_8);
+    boolean compressed = deflater != null && payload.length >= COMPRESSION_THRESHOLD;
+    if (compressed) {
+      payload = deflate(payload);
+    }
+    try {
+      writeFrame(OPCODE_TEXT, payload, compressed);
+    } catch (IOException e) {
+      didFail("Failed to send message: " + e.getMessage());
+      checkIfClosed();
+    }
+  }
+
+  @Override
+  public JsonObject poll(Duration timeout) {
+    try {
+      Incoming next = incoming.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+      if (next == null) {
+        checkIfClosed();
+        return null;
+      }
+      if (slowMoNanos > 0) {
+        long delay = next.receivedNanos + slowMoNanos - System.nanoTime();
+        if (delay > 0) {
+          TimeUnit.NANOSECONDS.sleep(delay);
+        }
+      }
+      return next.message;
+    } catch (InterruptedException e) {
+      throw new PlaywrightException("Failed to read message", e);
+    }
+  }
+
+  private void checkIfClosed() {
+    if (closeReason == null) {
+      return;
+    }
+    // Report the closure once on the connection thread, then fail all further calls.
+    if (!isClosed) {
+      isClosed = true;
+      if (onClose != null) {
+        onClose.run();
+      }
+    }
+    throw new PlaywrightException(closeReason);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closeReason == null) {
+      closeReason = "Browser has been closed";
+      try {
+        writeFrame(OPCODE_CLOSE, new byte[] {0x03, (byte) 0xe8}, false);
+      } catch (IOException e) {
+        // The other side is already gone.
+      }
+    }
+    isClosed = true;
+    pinger.shutdownNow();
+    try {
+      socket.close();
+    } finally {
+      releaseCompression();
+    }
+  }
+
+  private void checkAlive() {
+    if (System.nanoTime() - lastPongNanos > TimeUnit.MILLISECONDS.toNanos(2 * PING_INTERVAL_MS)) {
+      didFail("WebSocket connection is not responding to pings");
+      return;
+    }
+    try {
+      writeFrame(OPCODE_PING, new byte[0], false);
+    } catch (IOException e) {
+      didFail("Failed to send ping: " + e.getMessage());
+    }
+  }
+
+  private void didFail(String reason) {
+    if (closeReason == null) {
+      closeReason = reason;
+    }
+    pinger.shutdownNow();
+    closeQuietly(socket);
+    releaseCompression();
+  }
+
+  // Deflater and Inflater hold native zlib memory that is otherwise only freed by finalization.
+  private void releaseCompression() {
+    if (deflater == null) {
+      return;
+    }
+    isCompressionReleased = true;
+    synchronized (deflater) {
+      deflater.end();
+    }
+    synchronized (inflater) {
+      inflater.end();
+    }
+  }
+
+  private byte[] deflate(byte[] data) {
+    synchronized (deflater) {
+      if (isCompressionReleased) {
+        throw new PlaywrightException(closeReason == null ? "Playwright connection closed" : closeReason);
+      }
+      if (resetDeflater) {
+        deflater.reset();
+      }
+      deflater.setInput(data);
+      ByteArrayOutputStream result = new ByteArrayOutputStream(data.length / 2 + 16);
+      byte[] buffer = new byte[8192];
+      int n;
+      do {
+        n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+        result.write(buffer, 0, n);
+      } while (n == buffer.length || !deflater.needsInput());
+      byte[] bytes = result.toByteArray();
+      // The message must not include the empty block trailer produced by the flush.
+      return Arrays.copyOf(bytes, bytes.length - DEFLATE_TAIL.length);
+    }
+  }
+
+  private byte[] inflate(byte[] data) throws IOException {
+    synchronized (inflater) {
+      if (isCompressionReleased) {
+        throw new IOException("WebSocket connection closed");
+      }
+      if (resetInflater) {
+        inflater.reset();
+      }
+      byte[] input = Arrays.copyOf(data, data.length + DEFLATE_TAIL.length);
+      System.arraycopy(DEFLATE_TAIL, 0, input, data.length, DEFLATE_TAIL.length);
+      inflater.setInput(input);
+      ByteArrayOutputStream result = new ByteArrayOutputStream(data.length * 4);
+      byte[] buffer = new byte[8192];
+      try {
+        while (!inflater.needsInput() && !inflater.finished()) {
+          int n = inflater.inflate(buffer);
+          result.write(buffer, 0, n);
+        }
+        if (inflater.finished()) {
+          // The server ended the deflate stream, the next message starts a new one.
+          inflater.reset();
+        }
+      } catch (DataFormatException e) {
+        throw new IOException("Invalid compressed WebSocket message", e);
+      }
+      return result.toByteArray();
+    }
+  }
+
+  // Called from the connection thread, the reader thread (pongs) and the ping thread.
+  private void writeFrame(int opcode, byte[] payload, boolean compressed) throws IOException {
+    byte[] mask = new byte[4];
+    synchronized (random) {
+      random.nextBytes(mask);
+    }
+    synchronized (out) {
+      out.write(0x80 | (compressed ? 0x40 : 0) | opcode);
+      if (payload.length < 126) {
+        out.write(0x80 | payload.length);
+      } else if (payload.length < 65536) {
+        out.write(0x80 | 126);
+        out.write(payload.length >>> 8);
+        out.write(payload.length);
+      } else {
+        out.write(0x80 | 127);
+        long length = payload.length;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+          out.write((int) (length >>> shift));
+        }
+      }
+      out.write(mask);
+      byte[] masked = new byte[payload.length];
+      for (int i = 0; i < payload.length; i++) {
+        masked[i] = (byte) (payload[i] ^ mask[i & 3]);
+      }
+      out.write(masked);
+      out.flush();
+    }
+  }
+
+  private static void closeQuietly(Socket socket) {
+    if (socket == null) {
+      return;
+    }
+    try {
+      socket.close();
+    } catch (IOException e) {
+      // Ignore.
+    }
+  }
+
+  private class ReaderThread extends Thread {
+    ReaderThread() {
+      super("Playwright-WebSocket-Reader");
+      setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      DataInputStream data = new DataInputStream(in);
+      ByteArrayOutputStream message = new ByteArrayOutputStream();
+      boolean messageCompressed = false;
+      try {
+        while (true) {
+          int b0 = data.readUnsignedByte();
+          int b1 = data.readUnsignedByte();
+          boolean fin = (b0 & 0x80) != 0;
+          boolean rsv1 = (b0 & 0x40) != 0;
+          int opcode = b0 & 0x0f;
+          long length = b1 & 0x7f;
+          if (length == 126) {
+            length = data.readUnsignedShort();
+          } else if (length == 127) {
+            length = data.readLong();
+          }
+          if (length > Integer.MAX_VALUE) {
+            throw new IOException("WebSocket frame is too large: " + length);
+          }
+          // Servers never mask their frames.
+          byte[] payload = new byte[(int) length];
+          data.readFully(payload);
+          switch (opcode) {
+            case OPCODE_TEXT:
+            case OPCODE_BINARY:
+              message.reset();
+              messageCompressed = rsv1;
+              // fall through
+            case OPCODE_CONTINUATION:
+              message.write(payload);
+              if (fin) {
+                byte[] bytes = message.toByteArray();
+                if (messageCompressed) {
+                  bytes = inflate(bytes);
+                }
+                incoming.add(new Incoming(gson().fromJson(new String(bytes, UTF_8), JsonObject.class)));
+              }
+              break;
+            case OPCODE_PING:
+              writeFrame(OPCODE_PONG, payload, false);
+              break;
+            case OPCODE_PONG:
+              lastPongNanos = System.nanoTime();
+              break;
+            case OPCODE_CLOSE:
+              String reason = payload.length > 2 ? new String(payload, 2, payload.length - 2, UTF_8) : "";
+              if (closeReason == null) {
+                writeFrame(OPCODE_CLOSE, payload.length >= 2 ? new byte[] {payload[0], payload[1]} : new byte[0], false);
+              }
+              didFail(reason.isEmpty() ? "Browser has been closed" : reason);
+              return;
+            default:
+              throw new IOException("Unexpected WebSocket opcode: " + opcode);
+          }
+        }
+      } catch (IOException e) {
+        didFail(closeReason != null ? closeReason : "WebSocket connection closed: " + e.getMessage());
+      }
+    }
+  }
+}
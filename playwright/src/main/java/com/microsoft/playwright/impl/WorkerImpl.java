@@ -73,7 +73,7 @@ class WorkerImpl extends ChannelOwner implements Worker {
   public Object evaluate(String pageFunction, Object arg) {
     JsonObject params = new JsonObject();
     params.addProperty("expression", pageFunction);
-    params.add("arg", gson().toJsonTree(serializeArgument(arg)));
+    params.add("arg", serializeArgument(arg));
     JsonElement json = sendMessage("evaluateExpression", params, NO_TIMEOUT);
     SerializedValue value = gson().fromJson(json.getAsJsonObject().get("value"), SerializedValue.class);
     return deserialize(value);
@@ -83,7 +83,7 @@ class WorkerImpl extends ChannelOwner implements Worker {
   public JSHandle evaluateHandle(String pageFunction, Object arg) {
     JsonObject params = new JsonObject();
     params.addProperty("expression", pageFunction);
-    params.add("arg", gson().toJsonTree(serializeArgument(arg)));
+    params.add("arg", serializeArgument(arg));
     JsonElement json = sendMessage("evaluateExpressionHandle", params, NO_TIMEOUT);
     return connection.getExistingObject(json.getAsJsonObject().getAsJsonObject("handle").get("guid").getAsString());
   }
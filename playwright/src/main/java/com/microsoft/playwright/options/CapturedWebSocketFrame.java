@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.options;
+
+public class CapturedWebSocketFrame {
+  /**
+   * Time when the frame was observed, in milliseconds since the epoch.
+   */
+  public double timestamp;
+  /**
+   * {@code true} if the frame was sent by the page, {@code false} if it was received.
+   */
+  public boolean sent;
+  /**
+   * WebSocket opcode of the frame: {@code 1} for text, {@code 2} for binary.
+   */
+  public int opcode;
+  /**
+   * Frame payload. Text frames are stored as UTF-8.
+   */
+  public byte[] payload;
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.options;
+
+public class FetchRequest {
+  /**
+   * Target URL.
+   */
+  public String url;
+  /**
+   * Optional request parameters.
+   */
+  public RequestOptions params;
+
+  public FetchRequest(String url) {
+    this.url = url;
+  }
+  /**
+   * Optional request parameters.
+   */
+  public FetchRequest setParams(RequestOptions params) {
+    this.params = params;
+    return this;
+  }
+}
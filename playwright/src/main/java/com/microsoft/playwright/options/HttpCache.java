@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.options;
+
+import java.nio.file.Path;
+
+public class HttpCache {
+  /**
+   * Maximum total size in bytes of the response bodies kept in memory. Least recently used responses are evicted first.
+   * Defaults to {@code 52428800} (50 MB).
+   */
+  public Long maxSize;
+  /**
+   * Directory to additionally store cached responses in. Responses evicted from memory are then loaded from disk, and
+   * contexts that use the same directory share the cached responses if they have the same extra HTTP headers, HTTP
+   * credentials, storage state and client certificates. Responses marked {@code Cache-Control: private} and responses
+   * to requests with credentials are only kept in memory. Failing to write to the directory is not an error. Defaults
+   * to none.
+   */
+  public Path path;
+
+  /**
+   * Maximum total size in bytes of the response bodies kept in memory. Least recently used responses are evicted first.
+   * Defaults to {@code 52428800} (50 MB).
+   */
+  public HttpCache setMaxSize(long maxSize) {
+    this.maxSize = maxSize;
+    return this;
+  }
+  /**
+   * Directory to additionally store cached responses in. Responses evicted from memory are then loaded from disk, and
+   * contexts that use the same directory share the cached responses if they have the same extra HTTP headers, HTTP
+   * credentials, storage state and client certificates. Responses marked {@code Cache-Control: private} and responses
+   * to requests with credentials are only kept in memory. Failing to write to the directory is not an error. Defaults
+   * to none.
+   */
+  public HttpCache setPath(Path path) {
+    this.path = path;
+    return this;
+  }
+}
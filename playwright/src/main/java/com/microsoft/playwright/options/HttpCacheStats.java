@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.options;
+
+public class HttpCacheStats {
+  /**
+   * Number of requests served from the cache without contacting the server.
+   */
+  public long hits;
+  /**
+   * Number of cacheable requests that were sent to the server and got a full response.
+   */
+  public long misses;
+  /**
+   * Number of stale cached responses that the server confirmed with {@code 304 Not Modified}.
+   */
+  public long revalidations;
+  /**
+   * Total size in bytes of the response bodies currently kept in memory.
+   */
+  public long size;
+}
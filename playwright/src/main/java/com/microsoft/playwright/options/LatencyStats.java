@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.options;
+
+public class LatencyStats {
+  /**
+   * Number of requests.
+   */
+  public int count;
+  /**
+   * Median request duration in milliseconds.
+   */
+  public double p50;
+  /**
+   * 95th percentile of request durations in milliseconds.
+   */
+  public double p95;
+  /**
+   * Longest request duration in milliseconds.
+   */
+  public double max;
+}
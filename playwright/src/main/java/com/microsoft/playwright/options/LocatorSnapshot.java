@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.options;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Properties of all elements matching a locator, captured in a single call. Each requested field is stored as a column
+ * with one entry per matching element, in document order. Columns for fields that were not requested are {@code null}.
+ */
+public class LocatorSnapshot {
+  /**
+   * Number of elements matching the locator.
+   */
+  public int count;
+  /**
+   * {@code node.textContent} of each element.
+   */
+  public List<String> textContent;
+  /**
+   * {@code element.innerText} of each element.
+   */
+  public List<String> innerText;
+  /**
+   * {@code value} of each {@code <input>}, {@code <textarea>} or {@code <select>} element, {@code null} for other elements.
+   */
+  public List<String> inputValue;
+  /**
+   * Whether each element is visible, using the same definition as {@code Locator.isVisible()}.
+   */
+  public List<Boolean> visible;
+  /**
+   * Checked state of each checkbox or radio button, {@code null} for other elements.
+   */
+  public List<Boolean> checked;
+  /**
+   * Bounding box of each element relative to the viewport of its frame, {@code null} for elements that are not rendered.
+   */
+  public List<BoundingBox> boundingBox;
+  /**
+   * Values of the requested attributes keyed by attribute name, {@code null} entries for elements without the attribute.
+   */
+  public Map<String, List<String>> attributes;
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.options;
+
+import java.util.Map;
+
+public class NetworkSummary {
+  /**
+   * URL of the page at the time the summary was made, or {@code null} for a context-wide summary.
+   */
+  public String pageUrl;
+  /**
+   * Number of finished and failed requests.
+   */
+  public int requestCount;
+  /**
+   * Number of failed requests.
+   */
+  public int failedCount;
+  /**
+   * Number of responses served from the HTTP cache (status 304) or by a service worker.
+   */
+  public int cachedCount;
+  /**
+   * Duration of finished requests from start to the end of the response, by host name.
+   */
+  public Map<String, LatencyStats> latencyByHost;
+  /**
+   * Transferred bytes (headers and body of both request and response), by resource type.
+   */
+  public Map<String, Long> bytesByResourceType;
+  /**
+   * Number of requests in the longest chain of requests where each one started after the previous one had finished.
+   */
+  public int criticalPathLength;
+  /**
+   * Time in milliseconds from the start of the first to the end of the last request of the critical path.
+   */
+  public double criticalPathDuration;
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.transport;
+
+import com.microsoft.playwright.PlaywrightException;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * In-process transport that hands every message sent by the client to a peer instead of a driver process. The peer
+ * answers by calling {@link #dispatch}, which makes it possible to test client code against a scripted or replayed
+ * protocol stream without Node.js.
+ * <pre>{@code
+ * LoopbackTransport transport = new LoopbackTransport((message, t) -> {
+ *   // inspect message and call t.dispatch(...) with replies and events
+ * });
+ * Playwright playwright = Playwright.create(new Playwright.CreateOptions().setTransport(transport));
+ * }</pre>
+ */
+public class LoopbackTransport implements Transport {
+  private final BlockingQueue<String> incoming = new LinkedBlockingQueue<>();
+  private final BiConsumer<String, LoopbackTransport> peer;
+  private volatile boolean isClosed;
+
+  /**
+   * @param peer Receives each message sent by the client together with this transport. It is called on the client
+   * thread and may call {@link #dispatch} right away.
+   */
+  public LoopbackTransport(BiConsumer<String, LoopbackTransport> peer) {
+    this.peer = peer;
+  }
+
+  /**
+   * Queues a message for the client. May be called from any thread.
+   */
+  public void dispatch(String message) {
+    incoming.add(message);
+  }
+
+  @Override
+  public void send(String message) {
+    if (isClosed) {
+      throw new PlaywrightException("Playwright connection closed");
+    }
+    peer.accept(message, this);
+  }
+
+  @Override
+  public String poll(Duration timeout) {
+    if (isClosed) {
+      throw new PlaywrightException("Playwright connection closed");
+    }
+    try {
+      return incoming.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      throw new PlaywrightException("Failed to read message", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    isClosed = true;
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.transport;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Carries protocol messages between the client and a Playwright driver. Each message is a JSON object serialized to a
+ * string, the client takes care of encoding and decoding. All methods are called on the thread that uses the {@code
+ * Playwright} instance. Pass an instance via {@link com.microsoft.playwright.Playwright.CreateOptions#transport
+ * Playwright.CreateOptions.transport} to talk to a driver that is not started by the client, see {@link
+ * UnixSocketTransport} and {@link LoopbackTransport}.
+ */
+public interface Transport {
+  /**
+   * Sends a message to the driver. Must not block waiting for the reply.
+   */
+  void send(String message);
+  /**
+   * Returns the next message from the driver, or {@code null} if none arrived within {@code timeout}.
+   */
+  String poll(Duration timeout);
+  void close() throws IOException;
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.transport;
+
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.impl.PipeTransport;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Connects to a driver listening on a Unix domain socket, for example one started with
+ * {@code socat UNIX-LISTEN:/tmp/playwright.sock,fork EXEC:"playwright run-driver"}. The messages use the same framing as
+ * the driver's stdio pipe. Requires Java 16 or later.
+ */
+public class UnixSocketTransport implements Transport {
+  private final SocketChannel channel;
+  private final Transport pipe;
+
+  public UnixSocketTransport(Path socketPath) {
+    channel = openChannel(socketPath);
+    pipe = PipeTransport.create(new ChannelInput(channel), new BufferedOutputStream(new ChannelOutput(channel)));
+  }
+
+  // Unix domain socket channels were added in Java 16, look them up reflectively to keep Java 8 compatibility.
+  private static SocketChannel openChannel(Path socketPath) {
+    SocketAddress address;
+    SocketChannel channel;
+    try {
+      Class<?> addressClass = Class.forName("java.net.UnixDomainSocketAddress");
+      address = (SocketAddress) addressClass.getMethod("of", Path.class).invoke(null, socketPath);
+      ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+      channel = (SocketChannel) SocketChannel.class.getMethod("open", ProtocolFamily.class).invoke(null, unix);
+    } catch (ClassNotFoundException | NoSuchMethodException | IllegalArgumentException | IllegalAccessException e) {
+      throw new PlaywrightException("Unix domain sockets require Java 16 or later", e);
+    } catch (InvocationTargetException e) {
+      throw new PlaywrightException("Failed to open Unix domain socket", e.getCause());
+    }
+    try {
+      channel.connect(address);
+    } catch (IOException e) {
+      try {
+        channel.close();
+      } catch (IOException ignored) {
+      }
+      throw new PlaywrightException("Failed to connect to " + socketPath, e);
+    }
+    return channel;
+  }
+
+  @Override
+  public void send(String message) {
+    pipe.send(message);
+  }
+
+  @Override
+  public String poll(Duration timeout) {
+    return pipe.poll(timeout);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      pipe.close();
+    } finally {
+      channel.close();
+    }
+  }
+
+  // Channels.newInputStream/newOutputStream serialize reads and writes on the channel's blocking lock, which would
+  // block the writer thread while the reader waits for data. Socket channels allow one reader and one writer at a time.
+  private static class ChannelInput extends InputStream {
+    private final SocketChannel channel;
+
+    ChannelInput(SocketChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] b = new byte[1];
+      int n = read(b, 0, 1);
+      return n < 0 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      return channel.read(ByteBuffer.wrap(b, off, len));
+    }
+  }
+
+  private static class ChannelOutput extends OutputStream {
+    private final SocketChannel channel;
+
+    ChannelOutput(SocketChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+}
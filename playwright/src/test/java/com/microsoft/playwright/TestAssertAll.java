@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import com.microsoft.playwright.assertions.PlaywrightAssertions;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.MultipleFailuresError;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestAssertAll extends TestBase {
+  @Test
+  void shouldPassWhenAllAssertionsHold() {
+    page.setContent("<input id=name value=John><input id=terms type=checkbox checked><div>Hello</div>");
+    PlaywrightAssertions.assertAll(
+      () -> assertThat(page.locator("#name")).hasValue("John"),
+      () -> assertThat(page.locator("#terms")).isChecked(),
+      () -> assertThat(page.locator("div")).hasText("Hello"),
+      () -> assertThat(page.locator("span")).not().isAttached());
+  }
+
+  @Test
+  void shouldRetryAssertionsTogether() {
+    page.setContent("<div></div>");
+    page.evaluate("setTimeout(() => {\n" +
+      "  document.querySelector('div').textContent = 'Loaded';\n" +
+      "  document.title = 'Done';\n" +
+      "}, 300);");
+    PlaywrightAssertions.assertAll(
+      () -> assertThat(page.locator("div")).hasText("Loaded"),
+      () -> assertThat(page).hasTitle("Done"));
+  }
+
+  @Test
+  void shouldReportAllFailures() {
+    page.setContent("<div>Hello</div><input type=checkbox>");
+    MultipleFailuresError e = assertThrows(MultipleFailuresError.class, () -> PlaywrightAssertions.assertAll(
+      () -> assertThat(page.locator("div")).hasText("World", new LocatorAssertions.HasTextOptions().setTimeout(500)),
+      () -> assertThat(page.locator("div")).isVisible(),
+      () -> assertThat(page.locator("input")).isChecked(new LocatorAssertions.IsCheckedOptions().setTimeout(500))));
+    assertEquals(2, e.getFailures().size());
+    assertTrue(e.getFailures().get(0).getMessage().contains("Locator expected to have text: World"), e.getFailures().get(0).getMessage());
+    assertTrue(e.getFailures().get(1).getMessage().contains("Locator expected to be checked"), e.getFailures().get(1).getMessage());
+  }
+
+  @Test
+  void shouldSupportCustomPollingIntervals() {
+    page.setContent("<div></div>");
+    page.evaluate("setTimeout(() => document.querySelector('div').textContent = 'Loaded', 300);");
+    assertThat(page.locator("div")).withPollingIntervals(20, 50).hasText("Loaded");
+  }
+
+  @Test
+  void shouldFailWithCustomPollingIntervalsAfterTimeout() {
+    page.setContent("<div>Hello</div>");
+    AssertionFailedError e = assertThrows(AssertionFailedError.class, () ->
+      assertThat(page.locator("div")).withPollingIntervals(50)
+        .hasText("World", new LocatorAssertions.HasTextOptions().setTimeout(300)));
+    assertTrue(e.getMessage().contains("Locator expected to have text: World"), e.getMessage());
+  }
+
+  @Test
+  void shouldPreservePollingIntervalsInNot() {
+    page.setContent("<div>Hello</div>");
+    page.evaluate("setTimeout(() => document.querySelector('div').remove(), 200);");
+    assertThat(page.locator("div")).withPollingIntervals(30).not().isAttached();
+  }
+
+  @Test
+  void shouldRejectInvalidPollingIntervals() {
+    PlaywrightException e = assertThrows(PlaywrightException.class,
+      () -> assertThat(page.locator("div")).withPollingIntervals(0));
+    assertTrue(e.getMessage().contains("Polling interval must be positive"), e.getMessage());
+  }
+}
@@ -17,6 +17,7 @@
 package com.microsoft.playwright;
 
 import com.microsoft.playwright.options.Cookie;
+import com.microsoft.playwright.options.CookieChanges;
 import com.microsoft.playwright.options.SameSiteAttribute;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIf;
@@ -53,6 +54,32 @@ public class TestBrowserContextCookies extends TestBase {
   }
 
 
+  @Test
+  void shouldReportCookieChangesSinceLastCall() {
+    page.navigate(server.EMPTY_PAGE);
+    page.evaluate("() => {\n" +
+      "  document.cookie = 'a=1';\n" +
+      "  document.cookie = 'b=2';\n" +
+      "}");
+    CookieChanges changes = context.cookieChanges();
+    assertEquals(asList("a", "b"), changes.changed.stream().map(c -> c.name).sorted().collect(Collectors.toList()));
+    assertEquals(0, changes.removed.size());
+
+    changes = context.cookieChanges();
+    assertEquals(0, changes.changed.size());
+    assertEquals(0, changes.removed.size());
+
+    page.evaluate("() => {\n" +
+      "  document.cookie = 'a=changed';\n" +
+      "  document.cookie = 'b=; expires=Thu, 01 Jan 1970 00:00:00 GMT';\n" +
+      "  document.cookie = 'c=3';\n" +
+      "}");
+    changes = context.cookieChanges();
+    assertEquals(asList("a=changed", "c=3"), changes.changed.stream().map(c -> c.name + "=" + c.value).sorted().collect(Collectors.toList()));
+    assertEquals(1, changes.removed.size());
+    assertEquals("b", changes.removed.get(0).name);
+  }
+
   @Test
   void shouldGetANonSessionCookie() {
     page.navigate(server.EMPTY_PAGE);
@@ -644,6 +644,34 @@ public class TestBrowserContextFetch extends TestBase {
     assertEquals(200, response.status());
   }
 
+  @Test
+  void shouldSendLargeMultipartFilesAndBodies(@TempDir Path tmp) throws ExecutionException, InterruptedException, IOException {
+    byte[] content = new byte[3 * 1024 * 1024 + 1];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) ('a' + i % 26);
+    }
+    Path path = tmp.resolve("large.txt");
+    try (FileOutputStream output = new FileOutputStream(path.toFile())) {
+      output.write(content);
+    }
+    Future<Server.Request> serverRequest = server.futureRequest("/empty.html");
+    APIResponse response = context.request().post(server.EMPTY_PAGE, RequestOptions.create().setMultipart(
+      FormData.create()
+        .set("firstName", "John")
+        .set("file", path)));
+    assertEquals(200, response.status());
+    String body = new String(serverRequest.get().postBody, StandardCharsets.UTF_8);
+    assertTrue(body.contains("content-disposition: form-data; name=\"file\"; filename=\"large.txt\"\r\n" +
+      "content-type: text/plain\r\n" +
+      "\r\n" +
+      new String(content, StandardCharsets.UTF_8) + "\r\n"));
+
+    serverRequest = server.futureRequest("/empty.html");
+    response = context.request().post(server.EMPTY_PAGE, RequestOptions.create().setData(content));
+    assertEquals(200, response.status());
+    assertArrayEquals(content, serverRequest.get().postBody);
+  }
+
   @Test
   void shouldSupportMultipartFormDataWithPathValues(@TempDir Path tmp) throws ExecutionException, InterruptedException, IOException {
     Future<Server.Request> serverRequest = server.futureRequest("/empty.html");
@@ -25,7 +25,9 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import static com.microsoft.playwright.Utils.assertJsonEquals;
 import static com.microsoft.playwright.Utils.mapOf;
@@ -155,6 +157,53 @@ public class TestBrowserContextStorageState extends TestBase {
     context2.close();
   }
 
+  @Test
+  void shouldSaveStorageStateToFile(@TempDir Path tempDir) throws IOException {
+    page.route("**/*", route -> route.fulfill(new Route.FulfillOptions().setBody("<html></html>")));
+    page.navigate("https://www.example.com");
+    page.evaluate("localStorage['name1'] = 'value1'");
+    Path path = tempDir.resolve("nested/storage-state.json");
+    context.saveStorageState(path);
+    String saved = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    assertEquals(context.storageState(), saved);
+  }
+
+  @Test
+  void shouldReloadStorageStateFileWhenItChanges(@TempDir Path tempDir) throws IOException {
+    Path path = tempDir.resolve("storage-state.json");
+    String state = "{ origins: [{ origin: 'https://www.example.com', localStorage: [{ name: 'name1', value: '%s' }] }] }";
+    Files.write(path, String.format(state, "value1").getBytes(StandardCharsets.UTF_8));
+    for (String expected : new String[] {"value1", "value1", "changed-value"}) {
+      if ("changed-value".equals(expected)) {
+        FileTime lastModified = Files.getLastModifiedTime(path);
+        Files.write(path, String.format(state, expected).getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified.toMillis() + 2000));
+      }
+      BrowserContext context = browser.newContext(new Browser.NewContextOptions().setStorageStatePath(path));
+      Page page = context.newPage();
+      page.route("**/*", route -> route.fulfill(new Route.FulfillOptions().setBody("<html></html>")));
+      page.navigate("https://www.example.com");
+      assertEquals(expected, page.evaluate("localStorage['name1']"));
+      context.close();
+    }
+  }
+
+  @Test
+  void shouldReuseCapturedStorageStateAcrossContexts() {
+    page.route("**/*", route -> route.fulfill(new Route.FulfillOptions().setBody("<html></html>")));
+    page.navigate("https://www.example.com");
+    page.evaluate("localStorage['name1'] = 'value1'");
+    String storageState = context.storageState();
+    for (int i = 0; i < 3; i++) {
+      BrowserContext context = browser.newContext(new Browser.NewContextOptions().setStorageState(storageState));
+      Page page = context.newPage();
+      page.route("**/*", route -> route.fulfill(new Route.FulfillOptions().setBody("<html></html>")));
+      page.navigate("https://www.example.com");
+      assertEquals("value1", page.evaluate("localStorage['name1']"));
+      context.close();
+    }
+  }
+
   @Test
   void shouldSerialiseStorageStateWithLoneSurrogates() {
     page.navigate(server.EMPTY_PAGE);
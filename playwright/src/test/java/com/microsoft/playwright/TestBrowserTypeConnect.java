@@ -200,6 +200,37 @@ public class TestBrowserTypeConnect extends TestBase {
     assertEquals(1, disconnected2[0]);
   }
 
+  @Test
+  void shouldConnectOverNativeWebSocket() {
+    Browser browser = browserType.connect(wsEndpoint, new BrowserType.ConnectOptions().setNativeWebSocket(true));
+    assertTrue(browser.isConnected());
+    Page page = browser.newPage();
+    assertEquals(121, page.evaluate("11 * 11"));
+    page.navigate(server.EMPTY_PAGE);
+    assertEquals(server.EMPTY_PAGE, page.url());
+    browser.close();
+    assertFalse(browser.isConnected());
+  }
+
+  @Test
+  void shouldEmitDisconnectedWhenServerIsClosedWithNativeWebSocket() throws InterruptedException {
+    BrowserServer remote = launchBrowserServer(browserType);
+    Browser browser = browserType.connect(remote.wsEndpoint, new BrowserType.ConnectOptions().setNativeWebSocket(true));
+    int[] disconnected = {0};
+    browser.onDisconnected(b -> ++disconnected[0]);
+    Page page = browser.newPage();
+    remote.kill();
+    assertThrows(PlaywrightException.class, () -> page.title());
+    assertEquals(1, disconnected[0]);
+  }
+
+  @Test
+  void shouldRejectExposeNetworkWithNativeWebSocket() {
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> browserType.connect(wsEndpoint,
+      new BrowserType.ConnectOptions().setNativeWebSocket(true).setExposeNetwork("<loopback>")));
+    assertTrue(e.getMessage().contains("exposeNetwork"), e.getMessage());
+  }
+
   @Test
   void disconnectedEventShouldHaveBrowserAsArgument() {
     Browser browser = browserType.connect(wsEndpoint);
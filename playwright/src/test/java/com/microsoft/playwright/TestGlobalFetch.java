@@ -18,20 +18,34 @@ package com.microsoft.playwright;
 
 import com.google.gson.Gson;
 import com.microsoft.playwright.APIRequest.NewContextOptions;
+import com.microsoft.playwright.options.FetchRequest;
+import com.microsoft.playwright.options.HttpCache;
+import com.microsoft.playwright.options.HttpCacheStats;
 import com.microsoft.playwright.options.HttpCredentials;
 import com.microsoft.playwright.options.HttpCredentialsSend;
 import com.microsoft.playwright.options.HttpHeader;
 import com.microsoft.playwright.options.RequestOptions;
+import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.microsoft.playwright.Utils.mapOf;
 import static java.util.Arrays.asList;
@@ -207,6 +221,217 @@ public class TestGlobalFetch extends TestBase {
     assertEquals(asList("Value"), req3.get().headers.get("my-secret"));
   }
 
+  @Test
+  void fetchAllShouldReturnResponsesInRequestOrder() {
+    APIRequestContext request = playwright.request().newContext();
+    for (int i = 0; i < 20; i++) {
+      String body = "response" + i;
+      server.setRoute("/item" + i, exchange -> {
+        exchange.sendResponseHeaders(200, 0);
+        try (Writer writer = new OutputStreamWriter(exchange.getResponseBody())) {
+          writer.write(body);
+        }
+      });
+    }
+    List<FetchRequest> requests = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      requests.add(new FetchRequest(server.PREFIX + "/item" + i).setParams(RequestOptions.create().setMethod("POST").setData("request" + i)));
+    }
+    List<APIResponse> responses = request.fetchAll(requests, new APIRequestContext.FetchAllOptions().setMaxConcurrency(4));
+    assertEquals(20, responses.size());
+    for (int i = 0; i < 20; i++) {
+      assertEquals(200, responses.get(i).status());
+      assertEquals("response" + i, responses.get(i).text());
+    }
+    request.dispose();
+  }
+
+  @Test
+  void fetchAllShouldSendUpToMaxConcurrencyRequestsAtOnce() throws Exception {
+    int maxConcurrency = 4;
+    // The test server handles one request at a time, this one holds the first requests until all of them have arrived.
+    CountDownLatch arrived = new CountDownLatch(maxConcurrency);
+    AtomicInteger active = new AtomicInteger();
+    AtomicInteger maxActive = new AtomicInteger();
+    HttpServer holdingServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    ExecutorService executor = Executors.newCachedThreadPool();
+    holdingServer.setExecutor(executor);
+    holdingServer.createContext("/", exchange -> {
+      maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+      arrived.countDown();
+      boolean overlapped;
+      try {
+        overlapped = arrived.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        overlapped = false;
+      }
+      active.decrementAndGet();
+      exchange.sendResponseHeaders(200, 0);
+      try (Writer writer = new OutputStreamWriter(exchange.getResponseBody())) {
+        writer.write(overlapped ? "overlapped" : "sequential");
+      }
+    });
+    holdingServer.start();
+    try {
+      APIRequestContext request = playwright.request().newContext();
+      List<FetchRequest> requests = new ArrayList<>();
+      for (int i = 0; i < 2 * maxConcurrency; i++) {
+        requests.add(new FetchRequest("http://localhost:" + holdingServer.getAddress().getPort() + "/item" + i));
+      }
+      List<APIResponse> responses = request.fetchAll(requests, new APIRequestContext.FetchAllOptions().setMaxConcurrency(maxConcurrency));
+      for (APIResponse response : responses) {
+        assertEquals("overlapped", response.text());
+      }
+      assertEquals(maxConcurrency, maxActive.get());
+      request.dispose();
+    } finally {
+      holdingServer.stop(0);
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void fetchAllShouldThrowFirstError() {
+    APIRequestContext request = playwright.request().newContext();
+    List<FetchRequest> requests = asList(
+      new FetchRequest(server.EMPTY_PAGE),
+      new FetchRequest(server.PREFIX + "/does-not-exist.html").setParams(RequestOptions.create().setFailOnStatusCode(true)),
+      new FetchRequest(server.EMPTY_PAGE));
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> request.fetchAll(requests));
+    assertTrue(e.getMessage().contains("404 Not Found"), e.getMessage());
+    e = assertThrows(PlaywrightException.class, () -> request.fetchAll(requests, new APIRequestContext.FetchAllOptions().setMaxConcurrency(0)));
+    assertTrue(e.getMessage().contains("'maxConcurrency' must be greater than '0'"), e.getMessage());
+    request.dispose();
+  }
+
+  @Test
+  void shouldServeFreshResponsesFromHttpCache(@TempDir Path tmp) {
+    AtomicInteger requestCount = new AtomicInteger();
+    server.setRoute("/cached", exchange -> {
+      requestCount.incrementAndGet();
+      exchange.getResponseHeaders().set("Cache-Control", "max-age=60");
+      exchange.sendResponseHeaders(200, 0);
+      try (Writer writer = new OutputStreamWriter(exchange.getResponseBody())) {
+        writer.write("cached");
+      }
+    });
+    APIRequestContext request = playwright.request().newContext(new NewContextOptions()
+      .setBaseURL(server.PREFIX)
+      .setHttpCache(new HttpCache().setPath(tmp)));
+    assertEquals("cached", request.get("/cached").text());
+    assertEquals("cached", request.get(server.PREFIX + "/cached").text());
+    assertEquals(1, requestCount.get());
+    HttpCacheStats stats = request.httpCacheStats();
+    assertEquals(1, stats.hits);
+    assertEquals(1, stats.misses);
+    assertEquals("cached".length(), stats.size);
+    request.dispose();
+
+    APIRequestContext request2 = playwright.request().newContext(new NewContextOptions().setHttpCache(new HttpCache().setPath(tmp)));
+    assertEquals("cached", request2.get(server.PREFIX + "/cached").text());
+    assertEquals(1, requestCount.get());
+    assertEquals(1, request2.httpCacheStats().hits);
+    request2.dispose();
+  }
+
+  private void setCacheableRoute(String path, String cacheControl, AtomicInteger requestCount) {
+    server.setRoute(path, exchange -> {
+      requestCount.incrementAndGet();
+      exchange.getResponseHeaders().set("Cache-Control", cacheControl);
+      exchange.sendResponseHeaders(200, 0);
+      try (Writer writer = new OutputStreamWriter(exchange.getResponseBody())) {
+        writer.write(path);
+      }
+    });
+  }
+
+  @Test
+  void shouldNotShareHttpCacheAcrossIdentitiesOrStorePrivateResponsesOnDisk(@TempDir Path tmp) {
+    AtomicInteger sharedCount = new AtomicInteger();
+    AtomicInteger privateCount = new AtomicInteger();
+    AtomicInteger authorizedCount = new AtomicInteger();
+    setCacheableRoute("/shared", "max-age=60", sharedCount);
+    setCacheableRoute("/private", "private, max-age=60", privateCount);
+    setCacheableRoute("/authorized", "max-age=60", authorizedCount);
+    RequestOptions authorized = RequestOptions.create().setHeader("Authorization", "Bearer token");
+    NewContextOptions userA = new NewContextOptions()
+      .setExtraHTTPHeaders(mapOf("X-User", "a"))
+      .setHttpCache(new HttpCache().setPath(tmp));
+
+    APIRequestContext request = playwright.request().newContext(userA);
+    request.get(server.PREFIX + "/shared");
+    request.get(server.PREFIX + "/private");
+    request.get(server.PREFIX + "/authorized", authorized);
+    // All of them are served from the context's own memory.
+    assertEquals("/private", request.get(server.PREFIX + "/private").text());
+    assertEquals("/authorized", request.get(server.PREFIX + "/authorized", authorized).text());
+    assertEquals(asList(1, 1, 1), asList(sharedCount.get(), privateCount.get(), authorizedCount.get()));
+    request.dispose();
+
+    // Only the shared response was written to disk.
+    APIRequestContext sameUser = playwright.request().newContext(userA);
+    assertEquals("/shared", sameUser.get(server.PREFIX + "/shared").text());
+    sameUser.get(server.PREFIX + "/private");
+    sameUser.get(server.PREFIX + "/authorized", authorized);
+    assertEquals(asList(1, 2, 2), asList(sharedCount.get(), privateCount.get(), authorizedCount.get()));
+    sameUser.dispose();
+
+    APIRequestContext otherUser = playwright.request().newContext(new NewContextOptions()
+      .setExtraHTTPHeaders(mapOf("X-User", "b"))
+      .setHttpCache(new HttpCache().setPath(tmp)));
+    otherUser.get(server.PREFIX + "/shared");
+    assertEquals(2, sharedCount.get());
+    otherUser.dispose();
+  }
+
+  @Test
+  void shouldIgnoreHttpCacheDiskWriteErrors(@TempDir Path tmp) throws Exception {
+    AtomicInteger requestCount = new AtomicInteger();
+    setCacheableRoute("/cached", "max-age=60", requestCount);
+    // A file where the cache directory should be.
+    Path notADirectory = tmp.resolve("cache");
+    Files.write(notADirectory, new byte[0]);
+    APIRequestContext request = playwright.request().newContext(new NewContextOptions().setHttpCache(new HttpCache().setPath(notADirectory)));
+    assertEquals("/cached", request.get(server.PREFIX + "/cached").text());
+    assertEquals("/cached", request.get(server.PREFIX + "/cached").text());
+    assertEquals(1, requestCount.get());
+    request.dispose();
+  }
+
+  @Test
+  void shouldRevalidateStaleResponsesInHttpCache() {
+    AtomicInteger requestCount = new AtomicInteger();
+    server.setRoute("/etag", exchange -> {
+      requestCount.incrementAndGet();
+      exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+      exchange.getResponseHeaders().set("ETag", "\"v1\"");
+      if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        exchange.sendResponseHeaders(304, -1);
+        exchange.close();
+        return;
+      }
+      exchange.sendResponseHeaders(200, 0);
+      try (Writer writer = new OutputStreamWriter(exchange.getResponseBody())) {
+        writer.write("v1 body");
+      }
+    });
+    APIRequestContext request = playwright.request().newContext(new NewContextOptions().setHttpCache(new HttpCache()));
+    assertEquals("v1 body", request.get(server.PREFIX + "/etag").text());
+    APIResponse response = request.get(server.PREFIX + "/etag");
+    assertEquals(200, response.status());
+    assertEquals("v1 body", response.text());
+    assertEquals(2, requestCount.get());
+    HttpCacheStats stats = request.httpCacheStats();
+    assertEquals(0, stats.hits);
+    assertEquals(1, stats.misses);
+    assertEquals(1, stats.revalidations);
+
+    request.post(server.PREFIX + "/etag");
+    assertEquals(3, requestCount.get());
+    assertEquals(1, request.httpCacheStats().misses);
+    request.dispose();
+  }
+
   @Test
   void shouldSupportGlobalHttpCredentialsOption() {
     server.setAuth("/empty.html", "user", "pass");
@@ -16,13 +16,16 @@
 
 package com.microsoft.playwright;
 
+import com.microsoft.playwright.options.BoundingBox;
+import com.microsoft.playwright.options.LocatorSnapshot;
+import com.microsoft.playwright.options.SnapshotField;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.Arrays.asList;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class TestLocatorList extends TestBase {
   @Test
@@ -35,4 +38,60 @@ public class TestLocatorList extends TestBase {
     assertEquals(asList("A", "B", "C"), texts);
   }
 
+  @Test
+  void snapshotAllShouldCaptureRequestedFields() {
+    page.setContent("<div id=a title=first>A</div>" +
+      "<div id=b style='display:none'>B</div>" +
+      "<input id=c type=checkbox checked>" +
+      "<input id=d value=text>");
+    LocatorSnapshot snapshot = page.locator("div, input").snapshotAll(new Locator.SnapshotAllOptions()
+      .setFields(asList(SnapshotField.TEXT_CONTENT, SnapshotField.VISIBLE, SnapshotField.CHECKED, SnapshotField.INPUT_VALUE))
+      .setAttributes(asList("id", "title")));
+    assertEquals(4, snapshot.count);
+    assertEquals(asList("A", "B", "", ""), snapshot.textContent);
+    assertEquals(asList(true, false, true, true), snapshot.visible);
+    assertEquals(asList(null, null, true, false), snapshot.checked);
+    assertEquals(asList(null, null, "on", "text"), snapshot.inputValue);
+    assertEquals(asList("a", "b", "c", "d"), snapshot.attributes.get("id"));
+    assertEquals(asList("first", null, null, null), snapshot.attributes.get("title"));
+    assertNull(snapshot.innerText);
+    assertNull(snapshot.boundingBox);
+  }
+
+  @Test
+  void snapshotAllShouldMatchPerElementReads() {
+    StringBuilder html = new StringBuilder("<table>");
+    for (int i = 0; i < 50; i++) {
+      html.append("<tr><td data-row=").append(i).append(">Row ").append(i).append("</td></tr>");
+    }
+    html.append("</table>");
+    page.setContent(html.toString());
+    Locator cells = page.locator("td");
+    LocatorSnapshot snapshot = cells.snapshotAll(new Locator.SnapshotAllOptions()
+      .setFields(asList(SnapshotField.TEXT_CONTENT, SnapshotField.VISIBLE, SnapshotField.BOUNDING_BOX))
+      .setAttributes(asList("data-row")));
+    List<Locator> all = cells.all();
+    assertEquals(all.size(), snapshot.count);
+    for (int i = 0; i < all.size(); i++) {
+      Locator cell = all.get(i);
+      assertEquals(cell.textContent(), snapshot.textContent.get(i));
+      assertEquals(cell.isVisible(), snapshot.visible.get(i));
+      assertEquals(cell.getAttribute("data-row"), snapshot.attributes.get("data-row").get(i));
+      BoundingBox expected = cell.boundingBox();
+      BoundingBox actual = snapshot.boundingBox.get(i);
+      assertEquals(expected.x, actual.x, 0.01);
+      assertEquals(expected.y, actual.y, 0.01);
+      assertEquals(expected.width, actual.width, 0.01);
+      assertEquals(expected.height, actual.height, 0.01);
+    }
+  }
+
+  @Test
+  void snapshotAllShouldReturnEmptyColumnsWhenNothingMatches() {
+    page.setContent("<div></div>");
+    LocatorSnapshot snapshot = page.locator("span").snapshotAll(SnapshotField.INNER_TEXT);
+    assertEquals(0, snapshot.count);
+    assertEquals(new ArrayList<>(), snapshot.innerText);
+    assertTrue(snapshot.attributes.isEmpty());
+  }
 }
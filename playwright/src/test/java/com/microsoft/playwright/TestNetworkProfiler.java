@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+import com.microsoft.playwright.options.LatencyStats;
+import com.microsoft.playwright.options.NetworkSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestNetworkProfiler extends TestBase {
+  @Test
+  void shouldCollectRequestsPerPage() {
+    NetworkProfiler profiler = context.attachNetworkProfiler();
+    page.navigate(server.PREFIX + "/one-style.html");
+    Page other = context.newPage();
+    other.navigate(server.EMPTY_PAGE);
+
+    NetworkSummary summary = profiler.summary(page);
+    assertEquals(server.PREFIX + "/one-style.html", summary.pageUrl);
+    assertEquals(2, summary.requestCount);
+    assertEquals(0, summary.failedCount);
+    LatencyStats stats = summary.latencyByHost.get("localhost");
+    assertNotNull(stats, summary.latencyByHost.keySet().toString());
+    assertEquals(2, stats.count);
+    assertTrue(stats.p50 <= stats.p95);
+    assertTrue(stats.p95 <= stats.max);
+    assertTrue(summary.bytesByResourceType.get("document") > 0);
+    assertTrue(summary.bytesByResourceType.get("stylesheet") > 0);
+    // The stylesheet is only requested once the document has arrived.
+    assertEquals(2, summary.criticalPathLength);
+    assertTrue(summary.criticalPathDuration > 0);
+
+    assertEquals(1, profiler.summary(other).requestCount);
+    assertEquals(3, profiler.summary().requestCount);
+    assertEquals(3, profiler.requestCount());
+  }
+
+  @Test
+  void shouldCountFailedRequests() {
+    server.setRoute("/one-style.css", exchange -> exchange.getResponseBody().close());
+    NetworkProfiler profiler = context.attachNetworkProfiler();
+    page.navigate(server.PREFIX + "/one-style.html");
+    NetworkSummary summary = profiler.summary(page);
+    assertTrue(summary.failedCount >= 1);
+    assertEquals(summary.requestCount - summary.failedCount, summary.latencyByHost.get("localhost").count);
+  }
+
+  @Test
+  void shouldReportSummaryOnPageClose() {
+    NetworkProfiler profiler = context.attachNetworkProfiler();
+    List<NetworkSummary> summaries = new ArrayList<>();
+    profiler.onPageSummary(summaries::add);
+    page.navigate(server.EMPTY_PAGE);
+    page.close();
+    assertEquals(1, summaries.size());
+    assertEquals(server.EMPTY_PAGE, summaries.get(0).pageUrl);
+    assertEquals(1, summaries.get(0).requestCount);
+    // Closed pages are forgotten, their requests still count for the whole context.
+    assertEquals(0, profiler.summary(page).requestCount);
+    assertEquals(1, profiler.summary().requestCount);
+  }
+
+  @Test
+  void shouldStopCollectingAfterDetach() {
+    NetworkProfiler profiler = context.attachNetworkProfiler();
+    page.navigate(server.EMPTY_PAGE);
+    profiler.detach();
+    page.navigate(server.PREFIX + "/one-style.html");
+    assertEquals(1, profiler.requestCount());
+  }
+}
@@ -22,6 +22,8 @@ import org.junit.jupiter.api.condition.DisabledIf;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -339,6 +341,38 @@ public class TestPageBasic extends TestBase {
     assertTrue(e.getMessage().contains("Target page, context or browser has been closed"), e.getMessage());
   }
 
+  @Test
+  void waitForConditionShouldOnlyReevaluateOnMatchingEvents() {
+    List<String> messages = new ArrayList<>();
+    page.onConsoleMessage(m -> messages.add(m.text()));
+    AtomicInteger evaluations = new AtomicInteger();
+    page.evaluate("setTimeout(() => console.log('done'), 500);");
+    page.waitForCondition(() -> {
+      evaluations.incrementAndGet();
+      return !messages.isEmpty();
+    }, new Page.WaitForConditionOptions().setEvents(asList("console")));
+    assertEquals(asList("done"), messages);
+    // One initial evaluation, a handful of backoff polls and one after the console event.
+    assertTrue(evaluations.get() < 15, "evaluations: " + evaluations.get());
+  }
+
+  @Test
+  void waitForConditionShouldPollConditionsThatDoNotDependOnEvents() throws InterruptedException {
+    AtomicBoolean flag = new AtomicBoolean();
+    Thread thread = new Thread(() -> {
+      try {
+        Thread.sleep(200);
+      } catch (InterruptedException e) {
+        return;
+      }
+      flag.set(true);
+    });
+    thread.start();
+    page.waitForCondition(flag::get, new Page.WaitForConditionOptions().setEvents(asList("console")));
+    assertTrue(flag.get());
+    thread.join();
+  }
+
   @Test
   void shouldPropagateCloseReasonToPendingActions() {
     Page page = context.newPage();
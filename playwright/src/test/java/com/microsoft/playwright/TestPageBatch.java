@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPageBatch extends TestBase {
+  private static final String FORM = "<input id=name>" +
+    "<textarea id=bio></textarea>" +
+    "<select id=color><option>red</option><option>green</option><option>blue</option></select>" +
+    "<select id=size><option value=s>Small</option><option value=l>Large</option></select>" +
+    "<input id=terms type=checkbox>";
+
+  @Test
+  void shouldPerformAllSteps() {
+    page.setContent(FORM);
+    page.batch(b -> b
+      .fill(page.locator("#name"), "John")
+      .fill(page.locator("#bio"), "Hello")
+      .selectOption(page.locator("#color"), "blue")
+      .selectOption(page.locator("#size"), "Large")
+      .check(page.locator("#terms")));
+    assertEquals("John", page.locator("#name").inputValue());
+    assertEquals("Hello", page.locator("#bio").inputValue());
+    assertEquals("blue", page.locator("#color").inputValue());
+    assertEquals("l", page.locator("#size").inputValue());
+    assertTrue(page.locator("#terms").isChecked());
+  }
+
+  @Test
+  void shouldPreserveOrderOfFocusDependentSteps() {
+    page.setContent("<input id=a>");
+    page.evaluate("() => {\n" +
+      "  window.events = [];\n" +
+      "  document.querySelector('#a').addEventListener('input', e => window.events.push(e.target.value));\n" +
+      "}");
+    Locator input = page.locator("#a");
+    page.batch(b -> b
+      .fill(input, "one")
+      .fill(input, "two")
+      .press(input, "End")
+      .press(input, "!"));
+    assertEquals("two!", input.inputValue());
+    assertEquals(asList("one", "two", "two!"), page.evaluate("window.events"));
+  }
+
+  @Test
+  void shouldStopAtNextBarrierAfterFailedStep() {
+    page.setContent(FORM);
+    page.setDefaultTimeout(500);
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> page.batch(b -> b
+      .fill(page.locator("#name"), "John")
+      .selectOption(page.locator("#color"), "purple")
+      .selectOption(page.locator("#size"), "Large")
+      .check(page.locator("#terms"))
+      .fill(page.locator("#bio"), "Hello")));
+    assertTrue(e.getMessage().contains("1 of 5 steps failed, 2 steps were not run"), e.getMessage());
+    assertTrue(e.getMessage().contains("#2 selectOption(Locator@#color)"), e.getMessage());
+    assertEquals(1, e.getSuppressed().length);
+    assertEquals("John", page.locator("#name").inputValue());
+    // Steps already in flight with the failed one are completed.
+    assertEquals("l", page.locator("#size").inputValue());
+    assertFalse(page.locator("#terms").isChecked());
+    assertEquals("", page.locator("#bio").inputValue());
+  }
+
+  @Test
+  void shouldRejectLocatorsFromOtherPages() {
+    Page other = context.newPage();
+    PlaywrightException e = assertThrows(PlaywrightException.class,
+      () -> page.batch(b -> b.click(other.locator("button"))));
+    assertTrue(e.getMessage().contains("Locator belongs to a different page"), e.getMessage());
+  }
+}
@@ -16,11 +16,13 @@
 
 package com.microsoft.playwright;
 
+import com.google.gson.reflect.TypeToken;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIf;
 
 import java.math.BigInteger;
 import java.time.*;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.Date;
@@ -52,6 +54,24 @@ public class TestPageEvaluate extends TestBase {
     assertEquals(Double.NEGATIVE_INFINITY, 1 / (Double) result);
   }
 
+  @Test
+  void shouldTransferPositiveZero() {
+    assertEquals(false, page.evaluate("a => Object.is(a, -0)", 0.0));
+    assertEquals(true, page.evaluate("a => Object.is(a, 0)", 0.0));
+  }
+
+  @Test
+  void shouldTransferPrimitiveArrays() {
+    double[] coordinates = new double[100_000];
+    for (int i = 0; i < coordinates.length; i++) {
+      coordinates[i] = i / 2.0;
+    }
+    assertEquals(100_000, page.evaluate("a => a.length", coordinates));
+    assertEquals(49999.5, page.evaluate("a => a[a.length - 1]", coordinates));
+    assertEquals(asList(1, 2, 3), page.evaluate("a => a", new int[] {1, 2, 3}));
+    assertEquals(asList(1, "a", asList(0.5)), page.evaluate("a => a", asList(1, "a", new double[] {0.5})));
+  }
+
   @Test
   void shouldTransferInfinity() {
     Object result = page.evaluate("a => a", Double.POSITIVE_INFINITY);
@@ -666,4 +686,72 @@ public class TestPageEvaluate extends TestBase {
   void shouldTransferSets() {
     assertEquals(mapOf(), page.evaluate("() => new Set([1, { test: 42n }])"));
   }
+
+  static class Row {
+    String name;
+    int count;
+    double[] values;
+    List<Row> children;
+  }
+
+  @Test
+  void shouldDecodeIntoClass() {
+    Row row = page.evaluate("() => ({ name: 'a', count: 2, values: [1.5, 2], extra: true, children: [{ name: 'b', count: 3 }] })", null, Row.class);
+    assertEquals("a", row.name);
+    assertEquals(2, row.count);
+    assertArrayEquals(new double[] {1.5, 2}, row.values);
+    assertEquals(1, row.children.size());
+    assertEquals("b", row.children.get(0).name);
+    assertEquals(3, row.children.get(0).count);
+    assertNull(row.children.get(0).values);
+  }
+
+  @Test
+  void shouldDecodeIntoGenericType() {
+    List<Row> rows = page.evaluate("n => Array.from({ length: n }, (_, i) => ({ name: 'row' + i, count: i }))", 3,
+      new TypeToken<List<Row>>(){}.getType());
+    assertEquals(3, rows.size());
+    assertEquals("row2", rows.get(2).name);
+    assertEquals(2, rows.get(2).count);
+    Map<String, Integer> map = page.evaluate("() => ({ a: 1, b: 2 })", null, new TypeToken<Map<String, Integer>>(){}.getType());
+    assertEquals(mapOf("a", 1, "b", 2), map);
+  }
+
+  @Test
+  void shouldDecodePrimitiveArrays() {
+    int[] ints = page.evaluate("n => Array.from({ length: n }, (_, i) => i)", 10000, int[].class);
+    assertEquals(10000, ints.length);
+    assertEquals(9999, ints[9999]);
+    double[] doubles = page.evaluate("() => [0.5, NaN, -Infinity, -0]", null, double[].class);
+    assertEquals(0.5, doubles[0]);
+    assertTrue(Double.isNaN(doubles[1]));
+    assertEquals(Double.NEGATIVE_INFINITY, doubles[2]);
+    assertEquals(Double.NEGATIVE_INFINITY, 1 / doubles[3]);
+    long[] longs = page.evaluate("() => [2 ** 40]", null, long[].class);
+    assertEquals(1L << 40, longs[0]);
+  }
+
+  @Test
+  void shouldDecodeScalars() {
+    assertEquals(21L, (long) page.evaluate("() => 7 * 3", null, long.class));
+    assertEquals("foo", page.evaluate("() => 'foo'", null, String.class));
+    assertNull(page.evaluate("() => undefined", null, Row.class));
+    assertEquals(new BigInteger("123456789012345678901234567890"),
+      page.evaluate("() => 123456789012345678901234567890n", null, BigInteger.class));
+  }
+
+  @Test
+  void shouldThrowOnTypeMismatch() {
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> page.evaluate("() => 1.5", null, int.class));
+    assertTrue(e.getMessage().contains("Cannot decode number 1.5 into int"), e.getMessage());
+    e = assertThrows(PlaywrightException.class, () -> page.evaluate("() => 'foo'", null, Row.class));
+    assertTrue(e.getMessage().contains("Cannot decode string into"), e.getMessage());
+  }
+
+  @Test
+  void shouldDecodeCircularReferences() {
+    Map<String, Object> result = page.evaluate("() => { const a = { name: 'a' }; a.self = a; return a; }", null,
+      new TypeToken<Map<String, Object>>(){}.getType());
+    assertSame(result, result.get("self"));
+  }
 }
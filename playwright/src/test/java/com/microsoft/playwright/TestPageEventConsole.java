@@ -20,13 +20,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIf;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static com.microsoft.playwright.Utils.getOS;
 import static com.microsoft.playwright.Utils.mapOf;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TestPageEventConsole extends TestBase {
@@ -130,4 +137,98 @@ public class TestPageEventConsole extends TestBase {
     assertEquals("2", message.text());
     assertEquals("info", message.type());
   }
+
+  @Test
+  void shouldFilterConsoleMessagesByType() {
+    List<String> messages = new ArrayList<>();
+    page.onConsoleMessage(m -> messages.add(m.type() + ":" + m.text()),
+      new Page.OnConsoleMessageOptions().setTypes(asList("error", "warning")));
+    page.waitForConsoleMessage(new Page.WaitForConsoleMessageOptions().setPredicate(m -> "done".equals(m.text())),
+      () -> page.evaluate("() => {\n" +
+        "  console.log('a');\n" +
+        "  console.error('b');\n" +
+        "  console.info('c');\n" +
+        "  console.warn('d');\n" +
+        "  console.log('done');\n" +
+        "}"));
+    assertEquals(asList("error:b", "warning:d"), messages);
+  }
+
+  @Test
+  void shouldDeliverEventsOnListenerExecutorInOrder() throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<String> messages = Collections.synchronizedList(new ArrayList<>());
+    List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+    page.setListenerExecutor(executor);
+    CountDownLatch delivered = new CountDownLatch(5);
+    page.onConsoleMessage(m -> {
+      threads.add(Thread.currentThread());
+      messages.add(m.text());
+      delivered.countDown();
+    });
+    page.waitForConsoleMessage(new Page.WaitForConsoleMessageOptions().setPredicate(m -> "4".equals(m.text())),
+      () -> page.evaluate("() => { for (let i = 0; i < 5; i++) console.log(String(i)); }"));
+    assertTrue(delivered.await(10, TimeUnit.SECONDS));
+    executor.shutdown();
+    assertEquals(asList("0", "1", "2", "3", "4"), messages);
+    for (Thread thread : threads) {
+      assertNotEquals(Thread.currentThread(), thread);
+    }
+  }
+
+  @Test
+  void shouldKeepDispatchingEventsWhenListenerExecutorIsShutDown() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    executor.shutdown();
+    page.setListenerExecutor(executor);
+    List<String> messages = new ArrayList<>();
+    page.onConsoleMessage(m -> messages.add(m.text()));
+    // Rejected deliveries are dropped instead of failing the connection.
+    page.evaluate("() => { console.log('dropped'); console.log('dropped'); }");
+    page.evaluate("() => 1");
+    page.setListenerExecutor(null);
+    page.evaluate("() => console.log('delivered')");
+    page.evaluate("() => 1");
+    assertEquals(asList("delivered"), messages);
+  }
+
+  @Test
+  void shouldCaptureConsoleMessagesIntoBuffer() {
+    ConsoleBuffer buffer = page.captureConsole();
+    page.evaluate("() => { console.log('one'); console.warn('two'); }");
+    // Round trip to make sure all console events have been dispatched.
+    page.evaluate("() => 1");
+    assertEquals(asList("one", "two"), buffer.messages().stream().map(ConsoleMessage::text).collect(toList()));
+    assertEquals(asList("log", "warning"), buffer.messages().stream().map(ConsoleMessage::type).collect(toList()));
+    assertEquals(page, buffer.messages().get(0).page());
+    assertTrue(buffer.dump().startsWith("[log] one ("), buffer.dump());
+    buffer.clear();
+    assertEquals(0, buffer.messages().size());
+    buffer.close();
+    page.evaluate("() => console.log('three')");
+    page.evaluate("() => 1");
+    assertEquals(0, buffer.messages().size());
+  }
+
+  @Test
+  void shouldDropOldestConsoleMessagesWhenBufferIsFull() {
+    ConsoleBuffer buffer = page.captureConsole(new Page.CaptureConsoleOptions().setCapacity(2));
+    page.evaluate("() => { for (let i = 0; i < 5; ++i) console.log('m' + i); }");
+    page.evaluate("() => 1");
+    assertEquals(asList("m3", "m4"), buffer.messages().stream().map(ConsoleMessage::text).collect(toList()));
+    assertEquals(3, buffer.droppedCount());
+  }
+
+  @Test
+  void shouldOnlyKeepConsoleArgsWhenRequested() {
+    ConsoleBuffer buffer = page.captureConsole();
+    ConsoleBuffer withArgs = page.captureConsole(new Page.CaptureConsoleOptions().setKeepArgs(true));
+    page.evaluate("() => console.log('hello', 5)");
+    page.evaluate("() => 1");
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> buffer.messages().get(0).args());
+    assertTrue(e.getMessage().contains("keepArgs"), e.getMessage());
+    List<JSHandle> args = withArgs.messages().get(0).args();
+    assertEquals("hello", args.get(0).jsonValue());
+    assertEquals(5, args.get(1).jsonValue());
+  }
 }
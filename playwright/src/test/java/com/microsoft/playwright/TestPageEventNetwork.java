@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,6 +52,24 @@ public class TestPageEventNetwork extends TestBase {
     assertNotNull(responses.get(0).request());
   }
 
+  @Test
+  void PageEventsRequestWithFilter() {
+    List<String> fetches = new ArrayList<>();
+    List<String> digits = new ArrayList<>();
+    page.onRequest(request -> fetches.add(request.url()),
+      new Page.OnRequestOptions().setResourceTypes(asList("fetch", "xhr")).setUrl("**/api/*"));
+    page.onResponse(response -> digits.add(response.url()),
+      new Page.OnResponseOptions().setUrl(Pattern.compile("/digits/\\d\\.png$")));
+    page.navigate(server.EMPTY_PAGE);
+    page.evaluate("() => Promise.all([\n" +
+      "  fetch('/api/one'),\n" +
+      "  fetch('/other/two'),\n" +
+      "  fetch('/digits/1.png'),\n" +
+      "])");
+    assertEquals(asList(server.PREFIX + "/api/one"), fetches);
+    assertEquals(asList(server.PREFIX + "/digits/1.png"), digits);
+  }
+
   @Test
   void PageEventsRequestFailed() {
     server.setRoute("/one-style.css", exchange -> exchange.getResponseBody().close());
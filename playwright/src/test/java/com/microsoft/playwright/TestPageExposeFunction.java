@@ -20,6 +20,10 @@ import com.microsoft.playwright.options.BindingCallback;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static com.microsoft.playwright.Utils.mapOf;
 import static com.microsoft.playwright.options.WaitUntilState.LOAD;
@@ -233,5 +237,55 @@ public class TestPageExposeFunction extends TestBase {
     assertEquals(1, map.size());
     assertTrue(map == map.get("b"));
   }
-}
 
+  @Test
+  void shouldRunBindingsConcurrentlyOnExecutor() throws InterruptedException {
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      CountDownLatch bothCalled = new CountDownLatch(2);
+      page.exposeFunction("rendezvous", args -> {
+        bothCalled.countDown();
+        try {
+          // Would time out if the calls were serviced one at a time.
+          return bothCalled.await(10, TimeUnit.SECONDS) ? args[0] : "timeout";
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+      }, new Page.ExposeFunctionOptions().setExecutor(executor));
+      Object result = page.evaluate("() => Promise.all([window['rendezvous']('a'), window['rendezvous']('b')])");
+      assertEquals(asList("a", "b"), result);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void shouldReportErrorsFromExecutorBinding() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      page.exposeBinding("fail", (source, args) -> {
+        assertEquals(page, source.page());
+        throw new RuntimeException("WOOF WOOF");
+      }, new Page.ExposeBindingOptions().setExecutor(executor));
+      Object result = page.evaluate("async () => {\n" +
+        "  try {\n" +
+        "    await window['fail']();\n" +
+        "  } catch (e) {\n" +
+        "    return e.message;\n" +
+        "  }\n" +
+        "}");
+      assertTrue(((String) result).contains("WOOF WOOF"), (String) result);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void shouldNotAllowHandleBindingsOnExecutor() {
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> page.exposeBinding("logme", (source, args) -> null,
+      new Page.ExposeBindingOptions().setHandle(true).setExecutor(Runnable::run)));
+    assertTrue(e.getMessage().contains("cannot run on an executor"), e.getMessage());
+    // The name was not registered.
+    page.exposeBinding("logme", (source, args) -> null);
+  }
+}
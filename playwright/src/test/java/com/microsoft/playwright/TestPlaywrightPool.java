@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+import org.junit.jupiter.api.Test;
+
+import static com.microsoft.playwright.Utils.getBrowserTypeFromEnv;
+import static com.microsoft.playwright.impl.ImplUtils.isPooledDriverAlive;
+import static com.microsoft.playwright.impl.ImplUtils.killPooledDriver;
+import static com.microsoft.playwright.impl.ImplUtils.pooledDriver;
+import static com.microsoft.playwright.impl.ImplUtils.pooledDriverLoads;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPlaywrightPool {
+  @Test
+  void shouldLaunchBrowsersOnAllDrivers() {
+    try (Playwright pool = Playwright.createPool(new Playwright.CreatePoolOptions().setSize(2))) {
+      Browser browser1 = getBrowserTypeFromEnv(pool).launch();
+      Browser browser2 = getBrowserTypeFromEnv(pool).launch();
+      Page page1 = browser1.newPage();
+      Page page2 = browser2.newPage();
+      assertEquals(2, page1.evaluate("1 + 1"));
+      assertEquals(4, page2.evaluate("2 + 2"));
+      browser1.close();
+      browser2.close();
+    }
+  }
+
+  @Test
+  void shouldPingDriversBeforeUse() {
+    Playwright.CreatePoolOptions options = new Playwright.CreatePoolOptions()
+      .setSize(1)
+      .setHealthCheckInterval(0)
+      .setMaxPingLatency(10_000);
+    try (Playwright pool = Playwright.createPool(options)) {
+      for (int i = 0; i < 3; i++) {
+        try (Browser browser = getBrowserTypeFromEnv(pool).launch()) {
+          assertTrue(browser.isConnected());
+        }
+      }
+    }
+  }
+
+  @Test
+  void shouldRegisterSelectorsOnAllDrivers() {
+    try (Playwright pool = Playwright.createPool(new Playwright.CreatePoolOptions().setSize(2))) {
+      pool.selectors().register("tag", "{\n" +
+        "  query(root, selector) { return root.querySelector(selector); },\n" +
+        "  queryAll(root, selector) { return Array.from(root.querySelectorAll(selector)); }\n" +
+        "}");
+      for (int i = 0; i < 2; i++) {
+        Browser browser = getBrowserTypeFromEnv(pool).launch();
+        Page page = browser.newPage();
+        page.setContent("<div><span></span></div>");
+        assertEquals("SPAN", page.evalOnSelector("tag=span", "e => e.nodeName"));
+      }
+    }
+  }
+
+  @Test
+  void shouldReplaceKilledDriverAndReplaySelectors() {
+    try (Playwright pool = Playwright.createPool(new Playwright.CreatePoolOptions().setSize(1))) {
+      pool.selectors().register("tag", "{\n" +
+        "  query(root, selector) { return root.querySelector(selector); },\n" +
+        "  queryAll(root, selector) { return Array.from(root.querySelectorAll(selector)); }\n" +
+        "}");
+      pool.selectors().setTestIdAttribute("data-pool-id");
+      Object killedDriver = pooledDriver(pool, 0);
+      killPooledDriver(pool, 0);
+      // The process is destroyed asynchronously, the closed pipe alone must mark the driver as dead.
+      assertFalse(isPooledDriverAlive(pool, 0));
+
+      Browser browser = getBrowserTypeFromEnv(pool).launch();
+      assertNotSame(killedDriver, pooledDriver(pool, 0));
+      Page page = browser.newPage();
+      page.setContent("<div><span data-pool-id='foo'></span></div>");
+      assertEquals("SPAN", page.evalOnSelector("tag=span", "e => e.nodeName"));
+      assertEquals(1, page.getByTestId("foo").count());
+      browser.close();
+    }
+  }
+
+  @Test
+  void shouldPlaceBrowsersOnLeastLoadedDriver() {
+    try (Playwright pool = Playwright.createPool(new Playwright.CreatePoolOptions().setSize(2))) {
+      BrowserType browserType = getBrowserTypeFromEnv(pool);
+      Browser browser1 = browserType.launch();
+      assertEquals(asList(1, 0), pooledDriverLoads(pool));
+      Browser browser2 = browserType.launch();
+      assertEquals(asList(1, 1), pooledDriverLoads(pool));
+      browser1.close();
+      assertEquals(asList(0, 1), pooledDriverLoads(pool));
+      Browser browser3 = browserType.launch();
+      assertEquals(asList(1, 1), pooledDriverLoads(pool));
+      Browser browser4 = browserType.launch();
+      assertEquals(asList(2, 1), pooledDriverLoads(pool));
+      browser2.close();
+      browser3.close();
+      browser4.close();
+      assertEquals(asList(0, 0), pooledDriverLoads(pool));
+    }
+  }
+
+  @Test
+  void shouldRejectInvalidSize() {
+    PlaywrightException e = assertThrows(PlaywrightException.class,
+      () -> Playwright.createPool(new Playwright.CreatePoolOptions().setSize(0)));
+    assertTrue(e.getMessage().contains("Pool size must be positive"), e.getMessage());
+  }
+}
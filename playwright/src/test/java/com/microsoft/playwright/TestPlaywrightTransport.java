@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.impl.ImplUtils;
+import com.microsoft.playwright.transport.LoopbackTransport;
+import com.microsoft.playwright.transport.UnixSocketTransport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPlaywrightTransport {
+  private static final Gson gson = new Gson();
+
+  /**
+   * Answers the client the way a driver with no browsers installed would.
+   */
+  private static List<JsonObject> fakeDriver(JsonObject message) {
+    return fakeDriver(message, false);
+  }
+
+  private static List<JsonObject> fakeDriver(JsonObject message, boolean isRemote) {
+    List<JsonObject> replies = new ArrayList<>();
+    int id = message.get("id").getAsInt();
+    String method = message.get("method").getAsString();
+    if ("initialize".equals(method)) {
+      for (String name : new String[] {"chromium", "firefox", "webkit"}) {
+        replies.add(json("{guid: '', method: '__create__', params: {type: 'BrowserType', guid: 'browser-type@" + name + "'," +
+          " initializer: {name: '" + name + "', executablePath: '/fake/" + name + "'}}}"));
+      }
+      replies.add(json("{guid: '', method: '__create__', params: {type: 'LocalUtils', guid: 'localUtils'," +
+        " initializer: {deviceDescriptors: []}}}"));
+      String preLaunchedBrowser = "";
+      if (isRemote) {
+        replies.add(json("{guid: 'browser-type@chromium', method: '__create__', params: {type: 'Browser', guid: 'browser'," +
+          " initializer: {name: 'chromium', version: '1.0'}}}"));
+        preLaunchedBrowser = ", preLaunchedBrowser: {guid: 'browser'}";
+      }
+      replies.add(json("{guid: '', method: '__create__', params: {type: 'Playwright', guid: 'playwright', initializer: {" +
+        "chromium: {guid: 'browser-type@chromium'}, firefox: {guid: 'browser-type@firefox'}, webkit: {guid: 'browser-type@webkit'}" +
+        preLaunchedBrowser + "}}}"));
+      replies.add(json("{id: " + id + ", result: {playwright: {guid: 'playwright'}}}"));
+    } else {
+      replies.add(json("{id: " + id + ", error: {error: {name: 'Error', message: 'No browsers in fake driver'}}}"));
+    }
+    return replies;
+  }
+
+  private static JsonObject json(String text) {
+    return gson.fromJson(text, JsonObject.class);
+  }
+
+  @Test
+  void shouldConnectOverLoopbackTransport() {
+    List<String> methods = new ArrayList<>();
+    LoopbackTransport transport = new LoopbackTransport((text, t) -> {
+      JsonObject message = json(text);
+      methods.add(message.get("method").getAsString());
+      fakeDriver(message).forEach(reply -> t.dispatch(gson.toJson(reply)));
+    });
+    try (Playwright playwright = Playwright.create(new Playwright.CreateOptions().setTransport(transport))) {
+      assertEquals("firefox", playwright.firefox().name());
+      assertEquals("/fake/webkit", playwright.webkit().executablePath());
+      PlaywrightException e = assertThrows(PlaywrightException.class, () -> playwright.chromium().launch());
+      assertTrue(e.getMessage().contains("No browsers in fake driver"), e.getMessage());
+    }
+    assertEquals("initialize", methods.get(0));
+    assertTrue(methods.contains("launch"), methods.toString());
+  }
+
+  @Test
+  void shouldNotWaitForAcknowledgementWhenSendingToRemoteBrowser() {
+    List<Integer> unacknowledgedSends = new ArrayList<>();
+    boolean[] failSends = {false};
+    LoopbackTransport transport = new LoopbackTransport((text, t) -> {
+      JsonObject message = json(text);
+      String method = message.get("method").getAsString();
+      int id = message.get("id").getAsInt();
+      if ("connect".equals(method)) {
+        t.dispatch(gson.toJson(json("{guid: 'localUtils', method: '__create__', params: {type: 'JsonPipe', guid: 'pipe', initializer: {}}}")));
+        t.dispatch(gson.toJson(json("{id: " + id + ", result: {pipe: {guid: 'pipe'}}}")));
+      } else if ("send".equals(method)) {
+        if (failSends[0]) {
+          // Acknowledgements arrive in order.
+          for (int held : unacknowledgedSends) {
+            t.dispatch(gson.toJson(json("{id: " + held + ", result: {}}")));
+          }
+          unacknowledgedSends.clear();
+          t.dispatch(gson.toJson(json("{id: " + id + ", error: {error: {name: 'Error', message: 'WebSocket is not open'}}}")));
+          return;
+        }
+        // Hold back the acknowledgement, the remote connection must make progress without it.
+        unacknowledgedSends.add(id);
+        for (JsonObject reply : fakeDriver(message.getAsJsonObject("params").getAsJsonObject("message"), true)) {
+          JsonObject event = json("{guid: 'pipe', method: 'message', params: {}}");
+          event.getAsJsonObject("params").add("message", reply);
+          t.dispatch(gson.toJson(event));
+        }
+      } else {
+        fakeDriver(message).forEach(reply -> t.dispatch(gson.toJson(reply)));
+      }
+    });
+    try (Playwright playwright = Playwright.create(new Playwright.CreateOptions().setTransport(transport))) {
+      Browser browser = playwright.chromium().connect("ws://localhost:1234/fake");
+      assertEquals("1.0", browser.version());
+      assertEquals(1, unacknowledgedSends.size());
+
+      boolean[] disconnected = {false};
+      browser.onDisconnected(b -> disconnected[0] = true);
+      failSends[0] = true;
+      PlaywrightException e = assertThrows(PlaywrightException.class, () -> browser.newContext());
+      assertTrue(e.getMessage().contains("WebSocket is not open"), e.getMessage());
+      assertTrue(disconnected[0]);
+    }
+  }
+
+  @Test
+  @EnabledForJreRange(min = JRE.JAVA_16)
+  void shouldConnectOverUnixDomainSocket(@TempDir Path tempDir) throws Exception {
+    Path socketPath = tempDir.resolve("driver.sock");
+    ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+    SocketAddress address = (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress")
+      .getMethod("of", Path.class).invoke(null, socketPath);
+    try (ServerSocketChannel server = (ServerSocketChannel) ServerSocketChannel.class
+      .getMethod("open", ProtocolFamily.class).invoke(null, unix)) {
+      server.bind(address);
+      Thread driverThread = new Thread(() -> serveFakeDriver(server));
+      driverThread.start();
+      try (Playwright playwright = Playwright.create(new Playwright.CreateOptions().setTransport(new UnixSocketTransport(socketPath)))) {
+        assertEquals("chromium", playwright.chromium().name());
+        PlaywrightException e = assertThrows(PlaywrightException.class, () -> playwright.chromium().launch());
+        assertTrue(e.getMessage().contains("No browsers in fake driver"), e.getMessage());
+      }
+      driverThread.join(10_000);
+      assertFalse(driverThread.isAlive());
+    }
+  }
+
+  private static void serveFakeDriver(ServerSocketChannel server) {
+    try (SocketChannel channel = server.accept()) {
+      DataInputStream in = new DataInputStream(Channels.newInputStream(channel));
+      OutputStream out = Channels.newOutputStream(channel);
+      while (true) {
+        String text = readFrame(in);
+        if (text == null) {
+          return;
+        }
+        for (JsonObject reply : fakeDriver(json(text))) {
+          writeFrame(out, gson.toJson(reply));
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static String readFrame(InputStream in) throws IOException {
+    byte[] header = new byte[4];
+    int read = 0;
+    while (read < header.length) {
+      int n = in.read(header, read, header.length - read);
+      if (n < 0) {
+        return null;
+      }
+      read += n;
+    }
+    int length = (header[0] & 0xff) | (header[1] & 0xff) << 8 | (header[2] & 0xff) << 16 | (header[3] & 0xff) << 24;
+    byte[] body = new byte[length];
+    new DataInputStream(in).readFully(body);
+    return new String(body, UTF_8);
+  }
+
+  private static void writeFrame(OutputStream out, String text) throws IOException {
+    byte[] body = text.getBytes(UTF_8);
+    out.write(new byte[] {(byte) body.length, (byte) (body.length >>> 8), (byte) (body.length >>> 16), (byte) (body.length >>> 24)});
+    out.write(body);
+  }
+
+  private static Path sparseFile(Path dir, String name, long size) throws IOException {
+    Path file = dir.resolve(name);
+    try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+      raf.setLength(size);
+    }
+    return file;
+  }
+
+  @Test
+  void shouldRejectStreamedMessagesAboveDriverLimitBeforeSending(@TempDir Path tmp) throws IOException {
+    // The frame is {"buffer":"<base64>"}, the largest file whose encoding fits in the limit:
+    long maxEncoded = (ImplUtils.maxDriverMessageLength() - "{\"buffer\":\"\"}".length()) / 4 * 4;
+    long maxSize = maxEncoded / 4 * 3;
+    ImplUtils.prepareStreamedMessage(sparseFile(tmp, "max.bin", maxSize));
+    PlaywrightException e = assertThrows(PlaywrightException.class,
+      () -> ImplUtils.prepareStreamedMessage(sparseFile(tmp, "too-large.bin", maxSize + 1)));
+    assertTrue(e.getMessage().contains("Message is too large to be sent to the driver"), e.getMessage());
+  }
+}
@@ -320,6 +320,67 @@ public class TestRouteWebSocket {
       page.evaluate("window.log"));
   }
 
+  @Test
+  public void shouldSendMessagesInBulk(Page page) {
+    int count = 2000;
+    page.routeWebSocket(Pattern.compile("/.*/"), ws -> {
+      ws.onMessage(frame -> {
+        List<String> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+          messages.add("tick-" + i);
+        }
+        ws.send(messages);
+      });
+    });
+    setupWS(page, webSocketServer.getPort(), "blob");
+    page.evaluate("async () => {\n" +
+      "    await window.wsOpened;\n" +
+      "    window.ws.send('subscribe');\n" +
+      "  }");
+    page.waitForCondition(() -> (Boolean) page.evaluate("count => window.log.length >= count + 1", count));
+    List<?> log = (List<?>) page.evaluate("window.log");
+    assertEquals(count + 1, log.size());
+    String origin = " origin=ws://localhost:" + webSocketServer.getPort() + " lastEventId=";
+    assertEquals("message: data=tick-0" + origin, log.get(1));
+    assertEquals("message: data=tick-" + (count - 1) + origin, log.get(count));
+  }
+
+  @Test
+  public void shouldForwardPassThroughMessagesWithoutCallingHandler(Page page) throws Exception {
+    List<String> handledFromPage = new ArrayList<>();
+    List<String> handledFromServer = new ArrayList<>();
+    page.routeWebSocket(Pattern.compile("/.*/"), ws -> {
+      WebSocketRoute server = ws.connectToServer();
+      ws.onMessage(frame -> handledFromPage.add(frame.text()),
+        new WebSocketRoute.OnMessageOptions().setPassThrough(message -> message.startsWith("pass")));
+      server.onMessage(frame -> {
+        handledFromServer.add(frame.text());
+        ws.send("handled:" + frame.text());
+      }, new WebSocketRoute.OnMessageOptions().setPassThrough(message -> message.startsWith("tick")));
+    });
+
+    Future<WebSocket> ws = webSocketServer.waitForWebSocket();
+    setupWS(page, webSocketServer.getPort(), "blob");
+    ws.get().send("tick-1");
+    ws.get().send("snapshot");
+    page.waitForCondition(() -> (Boolean) page.evaluate("() => window.log.length >= 3"));
+    assertEquals(
+      asList(
+        "open",
+        "message: data=tick-1 origin=ws://localhost:" + webSocketServer.getPort() + " lastEventId=",
+        "message: data=handled:snapshot origin=ws://localhost:" + webSocketServer.getPort() + " lastEventId="),
+      page.evaluate("window.log"));
+    assertEquals(asList("snapshot"), handledFromServer);
+
+    page.evaluate("() => {\n" +
+      "    window.ws.send('pass-1');\n" +
+      "    window.ws.send('blocked');\n" +
+      "  }");
+    page.waitForCondition(() -> webSocketServer.logCopy().size() >= 1 && handledFromPage.size() >= 1);
+    assertEquals(asList("message: pass-1"), webSocketServer.logCopy());
+    assertEquals(asList("blocked"), handledFromPage);
+  }
+
   @Test
   public void shouldWorkWithBaseURL(Browser browser) throws Exception {
     BrowserContext context = browser.newContext(new Browser.NewContextOptions().setBaseURL("http://localhost:" + webSocketServer.getPort()));
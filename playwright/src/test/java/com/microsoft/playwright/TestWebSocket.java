@@ -16,17 +16,22 @@
 
 package com.microsoft.playwright;
 
+import com.microsoft.playwright.options.CapturedWebSocketFrame;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -135,6 +140,64 @@ public class TestWebSocket extends TestBase {
     }
   }
 
+  @Test
+  void shouldCaptureFramesToLogFile(@TempDir Path tempDir) throws IOException {
+    boolean[] socketClosed = {false};
+    Path logPath = tempDir.resolve("frames.wslog");
+    WebSocketCapture[] capture = {null};
+    page.onWebSocket(ws -> {
+      ws.onClose(ws1 -> socketClosed[0] = true);
+      capture[0] = ws.captureFrames(new WebSocket.CaptureFramesOptions().setPath(logPath).setCapacity(1));
+    });
+    page.evaluate("port => {\n" +
+      "  const ws = new WebSocket('ws://localhost:' + port + '/ws');\n" +
+      "  ws.addEventListener('open', () => {\n" +
+      "    ws.send('text');\n" +
+      "    ws.send(new Uint8Array([1, 2, 3]));\n" +
+      "  });\n" +
+      "  ws.addEventListener('message', () => setTimeout(() => ws.close(), 100));\n" +
+      "}", webSocketServer.getPort());
+    waitForCondition(socketClosed);
+    assertEquals(3, capture[0].frameCount());
+    assertEquals(1, capture[0].recentFrames().size());
+
+    List<CapturedWebSocketFrame> frames = capture[0].readFrames(0, 10);
+    assertEquals(3, frames.size());
+    List<String> sentText = new ArrayList<>();
+    for (CapturedWebSocketFrame frame : frames) {
+      if (frame.sent && frame.opcode == 1) {
+        sentText.add(new String(frame.payload, UTF_8));
+      } else if (frame.sent) {
+        assertArrayEquals(new byte[] {1, 2, 3}, frame.payload);
+      } else {
+        assertEquals("incoming", new String(frame.payload, UTF_8));
+      }
+    }
+    assertEquals(asList("text"), sentText);
+    assertEquals(1, capture[0].readFrames(2, 1).size());
+    byte[] header = new byte[4];
+    System.arraycopy(Files.readAllBytes(logPath), 0, header, 0, 4);
+    assertEquals("PWWS", new String(header, UTF_8));
+  }
+
+  @Test
+  void shouldThrowWhenReadingFramesWithoutLogFile() {
+    boolean[] socketClosed = {false};
+    WebSocketCapture[] capture = {null};
+    page.onWebSocket(ws -> {
+      ws.onClose(ws1 -> socketClosed[0] = true);
+      capture[0] = ws.captureFrames();
+    });
+    page.evaluate("port => {\n" +
+      "  const ws = new WebSocket('ws://localhost:' + port + '/ws');\n" +
+      "  ws.addEventListener('message', () => ws.close());\n" +
+      "}", webSocketServer.getPort());
+    waitForCondition(socketClosed);
+    assertEquals(1, capture[0].recentFrames().size());
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> capture[0].readFrames(0, 1));
+    assertTrue(e.getMessage().contains("path"), e.getMessage());
+  }
+
   @Test
   void shouldEmitError() {
     boolean[] socketError = {false};
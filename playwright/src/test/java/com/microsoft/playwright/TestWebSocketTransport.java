@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.impl.ImplUtils;
+import com.microsoft.playwright.impl.Transport;
+import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft_6455;
+import org.java_websocket.enums.Opcode;
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.extensions.IExtension;
+import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
+import org.java_websocket.framing.Framedata;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.DefaultSSLWebSocketServerFactory;
+import org.java_websocket.server.WebSocketServer;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import java.net.InetSocketAddress;
+import java.security.KeyStore;
+import java.security.cert.CertificateException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static com.microsoft.playwright.Utils.nextFreePort;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestWebSocketTransport {
+  /**
+   * Records whether each data frame was compressed on the wire.
+   */
+  private static class RecordingDeflateExtension extends PerMessageDeflateExtension {
+    private final List<String> log;
+
+    RecordingDeflateExtension(List<String> log) {
+      this.log = log;
+      setThreshold(1024);
+    }
+
+    // Only called for compressed frames, plain ones are recorded by the server.
+    @Override
+    public void decodeFrame(Framedata frame) throws InvalidDataException {
+      record("received", frame);
+      super.decodeFrame(frame);
+    }
+
+    @Override
+    public void encodeFrame(Framedata frame) {
+      super.encodeFrame(frame);
+      record("sent", frame);
+    }
+
+    private void record(String direction, Framedata frame) {
+      if (frame.getOpcode() == Opcode.TEXT) {
+        synchronized (log) {
+          log.add(direction + " " + (frame.isRSV1() ? "compressed" : "plain"));
+        }
+      }
+    }
+
+    @Override
+    public IExtension copyInstance() {
+      return new RecordingDeflateExtension(log);
+    }
+  }
+
+  private static class EchoServer extends WebSocketServer implements AutoCloseable {
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final List<String> log;
+
+    EchoServer(List<String> log) {
+      super(new InetSocketAddress("localhost", nextFreePort()),
+        Collections.singletonList(new Draft_6455(new RecordingDeflateExtension(log))));
+      this.log = log;
+    }
+
+    @Override
+    public void onOpen(WebSocket conn, ClientHandshake handshake) {
+    }
+
+    @Override
+    public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+    }
+
+    @Override
+    public void onMessage(WebSocket conn, String message) {
+      synchronized (log) {
+        if (log.isEmpty() || !"received compressed".equals(log.get(log.size() - 1))) {
+          log.add("received plain");
+        }
+      }
+      conn.send(message);
+    }
+
+    @Override
+    public void onError(WebSocket conn, Exception e) {
+      e.printStackTrace();
+      started.countDown();
+    }
+
+    @Override
+    public void onStart() {
+      started.countDown();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+      stop();
+    }
+  }
+
+  // Message that serializes to exactly length bytes.
+  private static JsonObject messageOfLength(int length) {
+    JsonObject message = new JsonObject();
+    StringBuilder data = new StringBuilder();
+    for (int i = 0; i < length - "{\"data\":\"\"}".length(); i++) {
+      data.append((char) ('a' + i % 26));
+    }
+    message.addProperty("data", data.toString());
+    return message;
+  }
+
+  @Test
+  void shouldCompressOnlyMessagesAboveThresholdInBothDirections() throws Exception {
+    List<String> log = new ArrayList<>();
+    try (EchoServer server = new EchoServer(log)) {
+      server.start();
+      server.started.await();
+      Transport transport = ImplUtils.connectWebSocketTransport("ws://localhost:" + server.getPort() + "/");
+      try {
+        for (int length : new int[] {100, 1023, 1024, 64 * 1024}) {
+          JsonObject message = messageOfLength(length);
+          transport.send(message);
+          assertEquals(message, transport.poll(Duration.ofSeconds(30)), "length " + length);
+        }
+      } finally {
+        transport.close();
+      }
+    }
+    synchronized (log) {
+      assertEquals(asList(
+        "received plain", "sent plain",
+        "received plain", "sent plain",
+        "received compressed", "sent compressed",
+        "received compressed", "sent compressed"), log);
+    }
+  }
+
+  // Keystore with a self-signed certificate for "localhost" only, trusted by the client.
+  private static SSLContext localhostSSLContext() throws Exception {
+    KeyStore keyStore = KeyStore.getInstance("JKS");
+    char[] password = "password".toCharArray();
+    keyStore.load(TestWebSocketTransport.class.getClassLoader().getResourceAsStream("resources/keys/localhost.jks"), password);
+    KeyManagerFactory keyManagers = KeyManagerFactory.getInstance("SunX509");
+    keyManagers.init(keyStore, password);
+    TrustManagerFactory trustManagers = TrustManagerFactory.getInstance("SunX509");
+    trustManagers.init(keyStore);
+    SSLContext context = SSLContext.getInstance("TLS");
+    context.init(keyManagers.getKeyManagers(), trustManagers.getTrustManagers(), null);
+    return context;
+  }
+
+  @Test
+  void shouldRejectTrustedCertificateForOtherHost() throws Exception {
+    SSLContext sslContext = localhostSSLContext();
+    try (EchoServer server = new EchoServer(new ArrayList<>())) {
+      server.setWebSocketFactory(new DefaultSSLWebSocketServerFactory(sslContext));
+      server.start();
+      server.started.await();
+      Transport transport = ImplUtils.connectWebSocketTransport("wss://localhost:" + server.getPort() + "/", sslContext.getSocketFactory());
+      try {
+        JsonObject message = messageOfLength(100);
+        transport.send(message);
+        assertEquals(message, transport.poll(Duration.ofSeconds(30)));
+      } finally {
+        transport.close();
+      }
+
+      PlaywrightException e = assertThrows(PlaywrightException.class,
+        () -> ImplUtils.connectWebSocketTransport("wss://127.0.0.1:" + server.getPort() + "/", sslContext.getSocketFactory()));
+      Throwable cause = e;
+      while (cause != null && !(cause instanceof CertificateException)) {
+        cause = cause.getCause();
+      }
+      assertNotNull(cause, "Expected a certificate error, got: " + e);
+    }
+  }
+}
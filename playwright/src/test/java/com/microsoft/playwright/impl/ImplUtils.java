@@ -1,9 +1,58 @@
 package com.microsoft.playwright.impl;
 
+import com.google.gson.JsonObject;
 import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+
+import javax.net.ssl.SSLSocketFactory;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 
 public class ImplUtils {
   public static boolean isRemoteBrowser(Browser browser) {
     return ((BrowserImpl) browser).isConnectedOverWebSocket;
   }
+
+  public static Object pooledDriver(Playwright pool, int index) {
+    return ((PlaywrightPool) pool).driver(index);
+  }
+
+  public static void killPooledDriver(Playwright pool, int index) {
+    ((PlaywrightPool) pool).driver(index).kill();
+  }
+
+  public static boolean isPooledDriverAlive(Playwright pool, int index) {
+    return ((PlaywrightPool) pool).driver(index).isDriverAlive();
+  }
+
+  public static List<Integer> pooledDriverLoads(Playwright pool) {
+    return ((PlaywrightPool) pool).driverLoads();
+  }
+
+  public static Transport connectWebSocketTransport(String wsEndpoint) {
+    return WebSocketTransport.connect(wsEndpoint, Collections.emptyMap(), 30_000, 0);
+  }
+
+  public static Transport connectWebSocketTransport(String wsEndpoint, SSLSocketFactory sslSocketFactory) {
+    return WebSocketTransport.connect(wsEndpoint, Collections.emptyMap(), 30_000, 0, sslSocketFactory);
+  }
+
+  /**
+   * Prepares a pipe frame carrying {@code file} as a streamed payload, without writing it.
+   */
+  public static void prepareStreamedMessage(Path file) {
+    StreamedPayload payload = StreamedPayload.fromFile(file);
+    try {
+      JsonObject message = new JsonObject();
+      message.addProperty("buffer", payload.placeholder);
+      new OutgoingMessage(Serialization.gson().toJson(message), Collections.singletonList(payload));
+    } finally {
+      payload.close();
+    }
+  }
+
+  public static long maxDriverMessageLength() {
+    return OutgoingMessage.MAX_DRIVER_MESSAGE_LENGTH;
+  }
 }